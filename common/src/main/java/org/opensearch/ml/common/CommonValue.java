@@ -18,6 +18,7 @@ public class CommonValue {
     public static final String SCHEMA_VERSION_FIELD = "schema_version";
     public static final String UNLOADED = "unloaded";
     public static final String NOT_FOUND = "not_found";
+    public static final String IN_USE = "in_use";
 
     public static final String BOX_TYPE_KEY = "box_type";
     //hot node
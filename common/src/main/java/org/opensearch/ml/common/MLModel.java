@@ -21,6 +21,7 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Base64;
 
 import static org.opensearch.common.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.USER;
@@ -74,9 +75,10 @@ public class MLModel implements ToXContentObject {
     private String modelId; // model chunk doc only
     private Integer chunkNumber; // model chunk doc only
     private Integer totalChunks; // model chunk doc only
+    private byte[] binaryContent; // model chunk doc only, raw bytes of chunk stored as binary field
 
     @Builder(toBuilder = true)
-    public MLModel(String name, FunctionName algorithm, String version, String content, User user, String description, MLModelFormat modelFormat, MLModelState modelState, Long modelContentSizeInBytes, String modelContentHash, MLModelConfig modelConfig, Instant createdTime, Instant lastUploadedTime, Instant lastLoadedTime, Instant lastUnloadedTime, String modelId, Integer chunkNumber, Integer totalChunks) {
+    public MLModel(String name, FunctionName algorithm, String version, String content, User user, String description, MLModelFormat modelFormat, MLModelState modelState, Long modelContentSizeInBytes, String modelContentHash, MLModelConfig modelConfig, Instant createdTime, Instant lastUploadedTime, Instant lastLoadedTime, Instant lastUnloadedTime, String modelId, Integer chunkNumber, Integer totalChunks, byte[] binaryContent) {
         this.name = name;
         this.algorithm = algorithm;
         this.version = version;
@@ -95,6 +97,7 @@ public class MLModel implements ToXContentObject {
         this.modelId = modelId;
         this.chunkNumber = chunkNumber;
         this.totalChunks = totalChunks;
+        this.binaryContent = binaryContent;
     }
 
     public MLModel(StreamInput input) throws IOException{
@@ -127,6 +130,9 @@ public class MLModel implements ToXContentObject {
             modelId = input.readOptionalString();
             chunkNumber = input.readOptionalInt();
             totalChunks = input.readOptionalInt();
+            if (input.readBoolean()) {
+                binaryContent = input.readByteArray();
+            }
         }
     }
 
@@ -169,6 +175,12 @@ public class MLModel implements ToXContentObject {
         out.writeOptionalString(modelId);
         out.writeOptionalInt(chunkNumber);
         out.writeOptionalInt(totalChunks);
+        if (binaryContent != null) {
+            out.writeBoolean(true);
+            out.writeByteArray(binaryContent);
+        } else {
+            out.writeBoolean(false);
+        }
     }
 
     @Override
@@ -183,7 +195,10 @@ public class MLModel implements ToXContentObject {
         if (version != null) {
             builder.field(MODEL_VERSION_FIELD, version);
         }
-        if (content != null) {
+        if (binaryContent != null) {
+            // Written as raw bytes by binary formats like SMILE, as Base64 string by JSON.
+            builder.field(MODEL_CONTENT_FIELD, binaryContent);
+        } else if (content != null) {
             builder.field(MODEL_CONTENT_FIELD, content);
         }
         if (user != null) {
@@ -239,6 +254,7 @@ public class MLModel implements ToXContentObject {
         Integer oldVersion = null;
         String content = null;
         String oldContent = null;
+        byte[] binaryContent = null;
         User user = null;
 
         String description = null;;
@@ -265,7 +281,11 @@ public class MLModel implements ToXContentObject {
                     name = parser.text();
                     break;
                 case MODEL_CONTENT_FIELD:
-                    content = parser.text();
+                    if (parser.currentToken() == XContentParser.Token.VALUE_EMBEDDED_OBJECT) {
+                        binaryContent = parser.binaryValue();
+                    } else {
+                        content = parser.text();
+                    }
                     break;
                 case OLD_MODEL_CONTENT_FIELD:
                     oldContent = parser.text();
@@ -343,11 +363,24 @@ public class MLModel implements ToXContentObject {
                 .lastLoadedTime(lastLoadedTime)
                 .lastUnloadedTime(lastUnloadedTime)
                 .modelId(modelId)
+                .binaryContent(binaryContent)
                 .chunkNumber(chunkNumber)
                 .totalChunks(totalChunks)
                 .build();
     }
 
+    /**
+     * Get raw bytes of model chunk. Chunks uploaded before binary storage are stored as Base64 string,
+     * so both formats can be loaded without migrating existing model index docs.
+     * @return raw bytes of model chunk, null if no content
+     */
+    public byte[] getChunkContentBytes() {
+        if (binaryContent != null) {
+            return binaryContent;
+        }
+        return content == null ? null : Base64.getDecoder().decode(content);
+    }
+
     public static MLModel fromStream(StreamInput in) throws IOException {
         MLModel mlModel = new MLModel(in);
         return mlModel;
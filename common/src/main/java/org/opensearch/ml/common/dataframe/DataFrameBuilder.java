@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.dataframe;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -103,6 +104,60 @@ public class DataFrameBuilder {
         return new DefaultDataFrame(columnMetas, rows);
     }
 
+    /**
+     * Load single column data frame from primitive double values, without building map object for each row.
+     * @param columnName column name
+     * @param values values of column
+     * @return data frame
+     */
+    public DataFrame load(final String columnName, final double[] values) {
+        if(values == null || values.length == 0) {
+            throw new IllegalArgumentException("input is null or empty");
+        }
+        ColumnMeta[] columnMetas = new ColumnMeta[]{new ColumnMeta(columnName, ColumnType.DOUBLE)};
+        List<Row> rows = new ArrayList<>(values.length);
+        for (double value : values) {
+            rows.add(new Row(new ColumnValue[]{new DoubleValue(value)}));
+        }
+        return new DefaultDataFrame(columnMetas, rows);
+    }
+
+    /**
+     * Load single column data frame from primitive int values, without building map object for each row.
+     * @param columnName column name
+     * @param values values of column
+     * @return data frame
+     */
+    public DataFrame load(final String columnName, final int[] values) {
+        if(values == null || values.length == 0) {
+            throw new IllegalArgumentException("input is null or empty");
+        }
+        ColumnMeta[] columnMetas = new ColumnMeta[]{new ColumnMeta(columnName, ColumnType.INTEGER)};
+        List<Row> rows = new ArrayList<>(values.length);
+        for (int value : values) {
+            rows.add(new Row(new ColumnValue[]{new IntValue(value)}));
+        }
+        return new DefaultDataFrame(columnMetas, rows);
+    }
+
+    /**
+     * Load single column data frame from string values, without building map object for each row.
+     * @param columnName column name
+     * @param values values of column
+     * @return data frame
+     */
+    public DataFrame load(final String columnName, final String[] values) {
+        if(values == null || values.length == 0) {
+            throw new IllegalArgumentException("input is null or empty");
+        }
+        ColumnMeta[] columnMetas = new ColumnMeta[]{new ColumnMeta(columnName, ColumnType.STRING)};
+        List<Row> rows = new ArrayList<>(values.length);
+        for (String value : values) {
+            rows.add(new Row(new ColumnValue[]{new StringValue(value)}));
+        }
+        return new DefaultDataFrame(columnMetas, rows);
+    }
+
     /**
      * Load data frame from stream input.
      * @param input stream input
@@ -33,12 +33,47 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
 
     public static final String EMBEDDING_DIMENSION_FIELD = "embedding_dimension";
     public static final String FRAMEWORK_TYPE_FIELD = "framework_type";
+    public static final String BATCH_SIZE_FIELD = "batch_size";
+    public static final String INTRA_OP_NUM_THREADS_FIELD = "intra_op_num_threads";
+    public static final String INTER_OP_NUM_THREADS_FIELD = "inter_op_num_threads";
+    public static final String MAX_SEQUENCE_LENGTH_FIELD = "max_sequence_length";
+    public static final String TRUNCATION_STRATEGY_FIELD = "truncation_strategy";
+    public static final String ONNX_OPTIMIZATION_LEVEL_FIELD = "onnx_optimization_level";
+    public static final String ONNX_EXECUTION_MODE_FIELD = "onnx_execution_mode";
+    public static final String ONNX_CPU_ARENA_ALLOCATOR_FIELD = "onnx_cpu_arena_allocator";
+    public static final String ONNX_MEMORY_PATTERN_OPTIMIZATION_FIELD = "onnx_memory_pattern_optimization";
+    public static final String LOAD_ON_FIRST_USE_FIELD = "load_on_first_use";
 
     private Integer embeddingDimension;
     private FrameworkType frameworkType;
+    // Max number of docs run in one forward pass. Use default batch size if it's null.
+    private Integer batchSize;
+    // Threads used to run operators of one inference. Use node level setting if it's null.
+    private Integer intraOpNumThreads;
+    // Threads used to run independent operators of one inference in parallel. Use node level setting if it's null.
+    private Integer interOpNumThreads;
+    // Max tokens of one doc, including special tokens. No limit if it's null.
+    private Integer maxSequenceLength;
+    // How to handle doc longer than max sequence length. Use TRUNCATE if it's null.
+    private TruncationStrategy truncationStrategy;
+    // ONNX Runtime session options, only used by ONNX model. Use ONNX Runtime default if it's null.
+    private OnnxOptimizationLevel onnxOptimizationLevel;
+    private OnnxExecutionMode onnxExecutionMode;
+    private Boolean onnxCpuArenaAllocator;
+    private Boolean onnxMemoryPatternOptimization;
+    // Load model on first predict request if model not loaded on any node. Predict fails with "model not loaded" if it's null.
+    private Boolean loadOnFirstUse;
 
-    @Builder(toBuilder = true)
     public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig) {
+        this(modelType, embeddingDimension, frameworkType, allConfig, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Builder(toBuilder = true)
+    public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
+                                    Integer batchSize, Integer intraOpNumThreads, Integer interOpNumThreads,
+                                    Integer maxSequenceLength, TruncationStrategy truncationStrategy,
+                                    OnnxOptimizationLevel onnxOptimizationLevel, OnnxExecutionMode onnxExecutionMode,
+                                    Boolean onnxCpuArenaAllocator, Boolean onnxMemoryPatternOptimization, Boolean loadOnFirstUse) {
         super(modelType, allConfig);
         if (embeddingDimension == null) {
             throw new IllegalArgumentException("embedding dimension is null");
@@ -46,8 +81,30 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         if (frameworkType == null) {
             throw new IllegalArgumentException("framework type is null");
         }
+        if (batchSize != null && batchSize <= 0) {
+            throw new IllegalArgumentException("batch size must be positive");
+        }
+        if (intraOpNumThreads != null && intraOpNumThreads <= 0) {
+            throw new IllegalArgumentException("intra op num threads must be positive");
+        }
+        if (interOpNumThreads != null && interOpNumThreads <= 0) {
+            throw new IllegalArgumentException("inter op num threads must be positive");
+        }
+        if (maxSequenceLength != null && maxSequenceLength <= 0) {
+            throw new IllegalArgumentException("max sequence length must be positive");
+        }
         this.embeddingDimension = embeddingDimension;
         this.frameworkType = frameworkType;
+        this.batchSize = batchSize;
+        this.intraOpNumThreads = intraOpNumThreads;
+        this.interOpNumThreads = interOpNumThreads;
+        this.maxSequenceLength = maxSequenceLength;
+        this.truncationStrategy = truncationStrategy;
+        this.onnxOptimizationLevel = onnxOptimizationLevel;
+        this.onnxExecutionMode = onnxExecutionMode;
+        this.onnxCpuArenaAllocator = onnxCpuArenaAllocator;
+        this.onnxMemoryPatternOptimization = onnxMemoryPatternOptimization;
+        this.loadOnFirstUse = loadOnFirstUse;
     }
 
     public static TextEmbeddingModelConfig parse(XContentParser parser) throws IOException {
@@ -55,6 +112,16 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         Integer embeddingDimension = null;
         FrameworkType frameworkType = null;
         String allConfig = null;
+        Integer batchSize = null;
+        Integer intraOpNumThreads = null;
+        Integer interOpNumThreads = null;
+        Integer maxSequenceLength = null;
+        TruncationStrategy truncationStrategy = null;
+        OnnxOptimizationLevel onnxOptimizationLevel = null;
+        OnnxExecutionMode onnxExecutionMode = null;
+        Boolean onnxCpuArenaAllocator = null;
+        Boolean onnxMemoryPatternOptimization = null;
+        Boolean loadOnFirstUse = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -74,12 +141,44 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
                 case ALL_CONFIG_FIELD:
                     allConfig = parser.text();
                     break;
+                case BATCH_SIZE_FIELD:
+                    batchSize = parser.intValue();
+                    break;
+                case INTRA_OP_NUM_THREADS_FIELD:
+                    intraOpNumThreads = parser.intValue();
+                    break;
+                case INTER_OP_NUM_THREADS_FIELD:
+                    interOpNumThreads = parser.intValue();
+                    break;
+                case MAX_SEQUENCE_LENGTH_FIELD:
+                    maxSequenceLength = parser.intValue();
+                    break;
+                case TRUNCATION_STRATEGY_FIELD:
+                    truncationStrategy = TruncationStrategy.from(parser.text().toUpperCase(Locale.ROOT));
+                    break;
+                case ONNX_OPTIMIZATION_LEVEL_FIELD:
+                    onnxOptimizationLevel = OnnxOptimizationLevel.from(parser.text().toUpperCase(Locale.ROOT));
+                    break;
+                case ONNX_EXECUTION_MODE_FIELD:
+                    onnxExecutionMode = OnnxExecutionMode.from(parser.text().toUpperCase(Locale.ROOT));
+                    break;
+                case ONNX_CPU_ARENA_ALLOCATOR_FIELD:
+                    onnxCpuArenaAllocator = parser.booleanValue();
+                    break;
+                case ONNX_MEMORY_PATTERN_OPTIMIZATION_FIELD:
+                    onnxMemoryPatternOptimization = parser.booleanValue();
+                    break;
+                case LOAD_ON_FIRST_USE_FIELD:
+                    loadOnFirstUse = parser.booleanValue();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new TextEmbeddingModelConfig(modelType,  embeddingDimension, frameworkType, allConfig);
+        return new TextEmbeddingModelConfig(modelType,  embeddingDimension, frameworkType, allConfig, batchSize, intraOpNumThreads,
+                interOpNumThreads, maxSequenceLength, truncationStrategy, onnxOptimizationLevel, onnxExecutionMode, onnxCpuArenaAllocator, onnxMemoryPatternOptimization,
+                loadOnFirstUse);
     }
 
     @Override
@@ -91,6 +190,22 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         super(in);
         embeddingDimension = in.readInt();
         frameworkType = in.readEnum(FrameworkType.class);
+        batchSize = in.readOptionalInt();
+        intraOpNumThreads = in.readOptionalInt();
+        interOpNumThreads = in.readOptionalInt();
+        maxSequenceLength = in.readOptionalInt();
+        if (in.readBoolean()) {
+            truncationStrategy = in.readEnum(TruncationStrategy.class);
+        }
+        if (in.readBoolean()) {
+            onnxOptimizationLevel = in.readEnum(OnnxOptimizationLevel.class);
+        }
+        if (in.readBoolean()) {
+            onnxExecutionMode = in.readEnum(OnnxExecutionMode.class);
+        }
+        onnxCpuArenaAllocator = in.readOptionalBoolean();
+        onnxMemoryPatternOptimization = in.readOptionalBoolean();
+        loadOnFirstUse = in.readOptionalBoolean();
     }
 
     @Override
@@ -98,6 +213,31 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         super.writeTo(out);
         out.writeInt(embeddingDimension);
         out.writeEnum(frameworkType);
+        out.writeOptionalInt(batchSize);
+        out.writeOptionalInt(intraOpNumThreads);
+        out.writeOptionalInt(interOpNumThreads);
+        out.writeOptionalInt(maxSequenceLength);
+        if (truncationStrategy != null) {
+            out.writeBoolean(true);
+            out.writeEnum(truncationStrategy);
+        } else {
+            out.writeBoolean(false);
+        }
+        if (onnxOptimizationLevel != null) {
+            out.writeBoolean(true);
+            out.writeEnum(onnxOptimizationLevel);
+        } else {
+            out.writeBoolean(false);
+        }
+        if (onnxExecutionMode != null) {
+            out.writeBoolean(true);
+            out.writeEnum(onnxExecutionMode);
+        } else {
+            out.writeBoolean(false);
+        }
+        out.writeOptionalBoolean(onnxCpuArenaAllocator);
+        out.writeOptionalBoolean(onnxMemoryPatternOptimization);
+        out.writeOptionalBoolean(loadOnFirstUse);
     }
 
     @Override
@@ -115,6 +255,36 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         if (allConfig != null) {
             builder.field(ALL_CONFIG_FIELD, allConfig);
         }
+        if (batchSize != null) {
+            builder.field(BATCH_SIZE_FIELD, batchSize);
+        }
+        if (intraOpNumThreads != null) {
+            builder.field(INTRA_OP_NUM_THREADS_FIELD, intraOpNumThreads);
+        }
+        if (interOpNumThreads != null) {
+            builder.field(INTER_OP_NUM_THREADS_FIELD, interOpNumThreads);
+        }
+        if (maxSequenceLength != null) {
+            builder.field(MAX_SEQUENCE_LENGTH_FIELD, maxSequenceLength);
+        }
+        if (truncationStrategy != null) {
+            builder.field(TRUNCATION_STRATEGY_FIELD, truncationStrategy);
+        }
+        if (onnxOptimizationLevel != null) {
+            builder.field(ONNX_OPTIMIZATION_LEVEL_FIELD, onnxOptimizationLevel);
+        }
+        if (onnxExecutionMode != null) {
+            builder.field(ONNX_EXECUTION_MODE_FIELD, onnxExecutionMode);
+        }
+        if (onnxCpuArenaAllocator != null) {
+            builder.field(ONNX_CPU_ARENA_ALLOCATOR_FIELD, onnxCpuArenaAllocator);
+        }
+        if (onnxMemoryPatternOptimization != null) {
+            builder.field(ONNX_MEMORY_PATTERN_OPTIMIZATION_FIELD, onnxMemoryPatternOptimization);
+        }
+        if (loadOnFirstUse != null) {
+            builder.field(LOAD_ON_FIRST_USE_FIELD, loadOnFirstUse);
+        }
         builder.endObject();
         return builder;
     }
@@ -132,4 +302,56 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         }
     }
 
+    /**
+     * How to handle doc longer than max sequence length.
+     * TRUNCATE drops tokens after max sequence length. REJECT fails the whole predict request if any of its docs
+     * is longer, no doc of the request is embedded.
+     */
+    public enum TruncationStrategy {
+        TRUNCATE,
+        REJECT;
+
+        public static TruncationStrategy from(String value) {
+            try {
+                return TruncationStrategy.valueOf(value);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Wrong truncation strategy");
+            }
+        }
+    }
+
+    /**
+     * ONNX Runtime graph optimization level, names match ONNX Runtime OptLevel.
+     */
+    public enum OnnxOptimizationLevel {
+        NO_OPT,
+        BASIC_OPT,
+        EXTENDED_OPT,
+        ALL_OPT;
+
+        public static OnnxOptimizationLevel from(String value) {
+            try {
+                return OnnxOptimizationLevel.valueOf(value);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Wrong ONNX optimization level");
+            }
+        }
+    }
+
+    /**
+     * ONNX Runtime execution mode, names match ONNX Runtime ExecutionMode.
+     */
+    public enum OnnxExecutionMode {
+        SEQUENTIAL,
+        PARALLEL;
+
+        public static OnnxExecutionMode from(String value) {
+            try {
+                return OnnxExecutionMode.valueOf(value);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Wrong ONNX execution mode");
+            }
+        }
+    }
+
 }
@@ -16,11 +16,17 @@ import org.opensearch.common.xcontent.XContentBuilder;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 
+/**
+ * Model output tensor. Data is stored in primitive arrays: floating types in float array,
+ * integer and boolean types in long array, so large tensors like embeddings don't box every value.
+ */
 @Data
 public class ModelTensor implements Writeable, ToXContentObject {
     private String name;
-    private Number[] data;
+    private float[] floatData;
+    private long[] longData;
     private long[] shape;
     private MLResultDataType dataType;
     private ByteBuffer byteBuffer;
@@ -31,12 +37,70 @@ public class ModelTensor implements Writeable, ToXContentObject {
             throw new IllegalArgumentException("data type is null");
         }
         this.name = name;
-        this.data = data;
+        this.shape = shape;
+        this.dataType = dataType;
+        this.byteBuffer = byteBuffer;
+        setData(data);
+    }
+
+    public ModelTensor(String name, float[] data, long[] shape, MLResultDataType dataType, ByteBuffer byteBuffer) {
+        if (data != null && (dataType == null || !dataType.isFloating())) {
+            throw new IllegalArgumentException("data type is not floating");
+        }
+        this.name = name;
+        this.floatData = data;
         this.shape = shape;
         this.dataType = dataType;
         this.byteBuffer = byteBuffer;
     }
 
+    /**
+     * Get tensor data as boxed numbers. Prefer {@link #getFloatData()} or {@link #getLongData()}
+     * to read large tensors, this method creates a new boxed array on each call.
+     * @return tensor data
+     */
+    public Number[] getData() {
+        if (floatData != null) {
+            Number[] data = new Float[floatData.length];
+            for (int i = 0; i < floatData.length; i++) {
+                data[i] = floatData[i];
+            }
+            return data;
+        }
+        if (longData != null) {
+            boolean isLong = dataType == MLResultDataType.INT64;
+            Number[] data = isLong ? new Long[longData.length] : new Integer[longData.length];
+            for (int i = 0; i < longData.length; i++) {
+                data[i] = isLong ? (Number) longData[i] : (Number) (int) longData[i];
+            }
+            return data;
+        }
+        return null;
+    }
+
+    /**
+     * Set tensor data from boxed numbers, data will be stored in primitive array by data type.
+     * @param data tensor data
+     */
+    public void setData(Number[] data) {
+        this.floatData = null;
+        this.longData = null;
+        if (data == null || dataType == null) {
+            return;
+        }
+        if (dataType.isFloating()) {
+            floatData = new float[data.length];
+            for (int i = 0; i < data.length; i++) {
+                floatData[i] = data[i].floatValue();
+            }
+        } else if (dataType.isInteger() || dataType.isBoolean()) {
+            longData = new long[data.length];
+            for (int i = 0; i < data.length; i++) {
+                longData[i] = data[i].longValue();
+            }
+        }
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject();
@@ -49,8 +113,10 @@ public class ModelTensor implements Writeable, ToXContentObject {
         if (shape != null) {
             builder.field("shape", shape);
         }
-        if (data != null) {
-            builder.field("data", data);
+        if (floatData != null) {
+            builder.array("data", floatData);
+        } else if (longData != null) {
+            builder.array("data", longData);
         }
         if (byteBuffer != null) {
             builder.startObject("byte_buffer");
@@ -72,17 +138,17 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (in.readBoolean()) {
             int size = in.readInt();
-            data = new Number[size];
+            // Values are written as 4 bytes big endian float or int one by one, read them in bulk.
             if (dataType.isFloating()) {
-                for (int i=0; i<size; i++) {
-                    data[i] = in.readFloat();
-                }
+                floatData = new float[size];
+                ByteBuffer.wrap(readBytes(in, size * Float.BYTES)).asFloatBuffer().get(floatData);
             } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (int i=0; i<size; i++) {
-                    data[i] = in.readInt();
+                int[] intData = new int[size];
+                ByteBuffer.wrap(readBytes(in, size * Integer.BYTES)).asIntBuffer().get(intData);
+                longData = new long[size];
+                for (int i = 0; i < size; i++) {
+                    longData[i] = intData[i];
                 }
-            } else {
-                data = null;
             }
         }
         if (in.readBoolean()) {
@@ -117,18 +183,21 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
-        if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+        if (floatData != null && dataType != null && dataType.isFloating()) {
             out.writeBoolean(true);
-            out.writeInt(data.length);
-            if (dataType.isFloating()) {
-                for (Number n : data) {
-                    out.writeFloat(n.floatValue());
-                }
-            } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (Number n : data) {
-                    out.writeInt(n.intValue());
-                }
+            out.writeInt(floatData.length);
+            byte[] bytes = new byte[floatData.length * Float.BYTES];
+            ByteBuffer.wrap(bytes).asFloatBuffer().put(floatData);
+            out.writeBytes(bytes);
+        } else if (longData != null && dataType != null && (dataType.isInteger() || dataType.isBoolean())) {
+            out.writeBoolean(true);
+            out.writeInt(longData.length);
+            byte[] bytes = new byte[longData.length * Integer.BYTES];
+            IntBuffer intBuffer = ByteBuffer.wrap(bytes).asIntBuffer();
+            for (long value : longData) {
+                intBuffer.put((int) value);
             }
+            out.writeBytes(bytes);
         } else {
             out.writeBoolean(false);
         }
@@ -140,4 +209,10 @@ public class ModelTensor implements Writeable, ToXContentObject {
             out.writeBoolean(false);
         }
     }
+
+    private static byte[] readBytes(StreamInput in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readBytes(bytes, 0, length);
+        return bytes;
+    }
 }
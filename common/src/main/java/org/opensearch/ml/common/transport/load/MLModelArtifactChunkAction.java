@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.load;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Read one range of model zip file cached on peer node, so loading model doesn't need to fetch chunks from model index.
+ */
+public class MLModelArtifactChunkAction extends ActionType<MLModelArtifactChunkResponse> {
+    public static MLModelArtifactChunkAction INSTANCE = new MLModelArtifactChunkAction();
+    public static final String NAME = "cluster:admin/opensearch/mlinternal/model_artifact_chunk";
+
+    private MLModelArtifactChunkAction() {
+        super(NAME, MLModelArtifactChunkResponse::new);
+    }
+
+}
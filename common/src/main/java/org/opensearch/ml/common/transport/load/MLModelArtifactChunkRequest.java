@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.load;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.InputStreamStreamInput;
+import org.opensearch.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@ToString
+public class MLModelArtifactChunkRequest extends ActionRequest {
+    // Max bytes served by one request, same as model chunk size. Serving node allocates a buffer of requested length.
+    public static final int MAX_LENGTH = 10_000_000;
+
+    String modelContentHash;
+    long offset;
+    int length;
+
+    @Builder
+    public MLModelArtifactChunkRequest(String modelContentHash, long offset, int length) {
+        this.modelContentHash = modelContentHash;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public MLModelArtifactChunkRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelContentHash = in.readString();
+        this.offset = in.readVLong();
+        this.length = in.readVInt();
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (modelContentHash == null) {
+            exception = addValidationError("Model content hash can't be null", exception);
+        }
+        if (offset < 0) {
+            exception = addValidationError("Offset can't be negative", exception);
+        }
+        if (length <= 0) {
+            exception = addValidationError("Length should be positive", exception);
+        } else if (length > MAX_LENGTH) {
+            exception = addValidationError("Length can't exceed " + MAX_LENGTH, exception);
+        }
+        return exception;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(modelContentHash);
+        out.writeVLong(offset);
+        out.writeVInt(length);
+    }
+
+    public static MLModelArtifactChunkRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLModelArtifactChunkRequest) {
+            return (MLModelArtifactChunkRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLModelArtifactChunkRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse ActionRequest into MLModelArtifactChunkRequest", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.load;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+@Getter
+public class MLModelArtifactChunkResponse extends ActionResponse {
+
+    // Size of whole model zip file, so caller knows how many ranges to read.
+    long totalSizeInBytes;
+    byte[] content;
+
+    @Builder
+    public MLModelArtifactChunkResponse(long totalSizeInBytes, byte[] content) {
+        this.totalSizeInBytes = totalSizeInBytes;
+        this.content = content;
+    }
+
+    public MLModelArtifactChunkResponse(StreamInput in) throws IOException {
+        super(in);
+        totalSizeInBytes = in.readVLong();
+        content = in.readByteArray();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(totalSizeInBytes);
+        out.writeByteArray(content);
+    }
+}
@@ -7,8 +7,11 @@ package org.opensearch.ml.common;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentType;
@@ -19,9 +22,12 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.function.Function;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.opensearch.common.xcontent.ToXContent.EMPTY_PARAMS;
 
 public class MLModelTests {
@@ -95,6 +101,40 @@ public class MLModelTests {
         TestHelper.testParseFromString(config, mlModelContent, function);
     }
 
+    @Test
+    public void parse_BinaryContent_Smile() throws IOException {
+        byte[] chunk = new byte[] { 0, 1, 2, -1 };
+        MLModel mlModel = MLModel.builder().algorithm(FunctionName.TEXT_EMBEDDING).modelId("model_id").chunkNumber(0).binaryContent(chunk).build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.SMILE.xContent());
+        mlModel.toXContent(builder, EMPTY_PARAMS);
+        BytesReference bytes = BytesReference.bytes(builder);
+        try (XContentParser parser = XContentType.SMILE.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, bytes.streamInput())) {
+            parser.nextToken();
+            MLModel parsedModel = MLModel.parse(parser);
+            assertArrayEquals(chunk, parsedModel.getBinaryContent());
+            assertNull(parsedModel.getContent());
+            assertArrayEquals(chunk, parsedModel.getChunkContentBytes());
+        }
+    }
+
+    @Test
+    public void getChunkContentBytes_Base64Content() {
+        byte[] chunk = new byte[] { 0, 1, 2, -1 };
+        MLModel mlModel = MLModel.builder().algorithm(FunctionName.TEXT_EMBEDDING).content(Base64.getEncoder().encodeToString(chunk)).build();
+        assertArrayEquals(chunk, mlModel.getChunkContentBytes());
+        assertNull(MLModel.builder().algorithm(FunctionName.TEXT_EMBEDDING).build().getChunkContentBytes());
+    }
+
+    @Test
+    public void readInputStream_BinaryContent() throws IOException {
+        MLModel mlModel = this.mlModel.toBuilder().content(null).binaryContent(new byte[] { 1, 2, 3 }).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        mlModel.writeTo(bytesStreamOutput);
+        MLModel parsedMLModel = new MLModel(bytesStreamOutput.bytes().streamInput());
+        assertArrayEquals(mlModel.getBinaryContent(), parsedMLModel.getBinaryContent());
+    }
+
     @Test
     public void readInputStream_Success() throws IOException {
         readInputStream(mlModel);
@@ -158,4 +158,36 @@ public class DataFrameBuilderTest {
         dataFrame = DataFrameBuilder.load(bytesStreamOutput.bytes().streamInput());
         assertEquals(1, dataFrame.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void load_Success_DoubleColumn() {
+        DataFrame dataFrame = DataFrameBuilder.load("k1", new double[]{1.0, 2.5});
+        assertEquals(2, dataFrame.size());
+        assertEquals("k1", dataFrame.columnMetas()[0].getName());
+        assertEquals(ColumnType.DOUBLE, dataFrame.columnMetas()[0].getColumnType());
+        assertEquals(2.5, dataFrame.getRow(1).getValue(0).doubleValue(), 0);
+    }
+
+    @Test
+    public void load_Success_IntColumn() {
+        DataFrame dataFrame = DataFrameBuilder.load("k1", new int[]{1, 2});
+        assertEquals(2, dataFrame.size());
+        assertEquals(ColumnType.INTEGER, dataFrame.columnMetas()[0].getColumnType());
+        assertEquals(2, dataFrame.getRow(1).getValue(0).intValue());
+    }
+
+    @Test
+    public void load_Success_StringColumn() {
+        DataFrame dataFrame = DataFrameBuilder.load("k1", new String[]{"a", "b"});
+        assertEquals(2, dataFrame.size());
+        assertEquals(ColumnType.STRING, dataFrame.columnMetas()[0].getColumnType());
+        assertEquals("b", dataFrame.getRow(1).getValue(0).stringValue());
+    }
+
+    @Test
+    public void load_Exception_EmptyDoubleColumn() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("input is null or empty");
+        DataFrameBuilder.load("k1", new double[0]);
+    }
+}
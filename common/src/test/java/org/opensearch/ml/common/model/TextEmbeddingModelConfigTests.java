@@ -87,6 +87,95 @@ public class TextEmbeddingModelConfigTests {
         TestHelper.testParseFromString(config, content, function);
     }
 
+    @Test
+    public void parse_BatchSize() throws IOException {
+        config = config.toBuilder().batchSize(16).build();
+        String content = "{\"model_type\":\"testModelType\",\"embedding_dimension\":100,\"framework_type\":\"SENTENCE_TRANSFORMERS\",\"all_config\":\"{\\\"field1\\\":\\\"value1\\\",\\\"field2\\\":\\\"value2\\\"}\",\"batch_size\":16}";
+        TestHelper.testParseFromString(config, content, function);
+    }
+
+    @Test
+    public void wrongBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("batch size must be positive");
+        config.toBuilder().batchSize(0).build();
+    }
+
+    @Test
+    public void parse_NumThreads() throws IOException {
+        config = config.toBuilder().intraOpNumThreads(4).interOpNumThreads(2).build();
+        String content = "{\"model_type\":\"testModelType\",\"embedding_dimension\":100,\"framework_type\":\"SENTENCE_TRANSFORMERS\",\"all_config\":\"{\\\"field1\\\":\\\"value1\\\",\\\"field2\\\":\\\"value2\\\"}\",\"intra_op_num_threads\":4,\"inter_op_num_threads\":2}";
+        TestHelper.testParseFromString(config, content, function);
+    }
+
+    @Test
+    public void parse_MaxSequenceLength() throws IOException {
+        config = config.toBuilder().maxSequenceLength(128).truncationStrategy(TextEmbeddingModelConfig.TruncationStrategy.REJECT).build();
+        String content = "{\"model_type\":\"testModelType\",\"embedding_dimension\":100,\"framework_type\":\"SENTENCE_TRANSFORMERS\",\"all_config\":\"{\\\"field1\\\":\\\"value1\\\",\\\"field2\\\":\\\"value2\\\"}\",\"max_sequence_length\":128,\"truncation_strategy\":\"REJECT\"}";
+        TestHelper.testParseFromString(config, content, function);
+    }
+
+    @Test
+    public void wrongMaxSequenceLength() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max sequence length must be positive");
+        config.toBuilder().maxSequenceLength(0).build();
+    }
+
+    @Test
+    public void truncationStrategy_wrongValue() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Wrong truncation strategy");
+        TextEmbeddingModelConfig.TruncationStrategy.from("test_wrong_value");
+    }
+
+    @Test
+    public void parse_OnnxSessionOptions() throws IOException {
+        config = config.toBuilder()
+                .onnxOptimizationLevel(TextEmbeddingModelConfig.OnnxOptimizationLevel.ALL_OPT)
+                .onnxExecutionMode(TextEmbeddingModelConfig.OnnxExecutionMode.PARALLEL)
+                .onnxCpuArenaAllocator(false)
+                .onnxMemoryPatternOptimization(true)
+                .build();
+        String content = "{\"model_type\":\"testModelType\",\"embedding_dimension\":100,\"framework_type\":\"SENTENCE_TRANSFORMERS\",\"all_config\":\"{\\\"field1\\\":\\\"value1\\\",\\\"field2\\\":\\\"value2\\\"}\",\"onnx_optimization_level\":\"ALL_OPT\",\"onnx_execution_mode\":\"PARALLEL\",\"onnx_cpu_arena_allocator\":false,\"onnx_memory_pattern_optimization\":true}";
+        TestHelper.testParseFromString(config, content, function);
+    }
+
+    @Test
+    public void parse_LoadOnFirstUse() throws IOException {
+        config = config.toBuilder().loadOnFirstUse(true).build();
+        String content = "{\"model_type\":\"testModelType\",\"embedding_dimension\":100,\"framework_type\":\"SENTENCE_TRANSFORMERS\",\"all_config\":\"{\\\"field1\\\":\\\"value1\\\",\\\"field2\\\":\\\"value2\\\"}\",\"load_on_first_use\":true}";
+        TestHelper.testParseFromString(config, content, function);
+    }
+
+    @Test
+    public void onnxOptimizationLevel_wrongValue() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Wrong ONNX optimization level");
+        TextEmbeddingModelConfig.OnnxOptimizationLevel.from("test_wrong_value");
+    }
+
+    @Test
+    public void onnxExecutionMode_wrongValue() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Wrong ONNX execution mode");
+        TextEmbeddingModelConfig.OnnxExecutionMode.from("test_wrong_value");
+    }
+
+    @Test
+    public void wrongIntraOpNumThreads() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("intra op num threads must be positive");
+        config.toBuilder().intraOpNumThreads(0).build();
+    }
+
+    @Test
+    public void wrongInterOpNumThreads() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("inter op num threads must be positive");
+        config.toBuilder().interOpNumThreads(-1).build();
+    }
+
     @Test
     public void frameworkType_wrongValue() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -99,6 +188,38 @@ public class TextEmbeddingModelConfigTests {
         readInputStream(config);
     }
 
+    @Test
+    public void readInputStream_BatchSize() throws IOException {
+        readInputStream(config.toBuilder().batchSize(16).build());
+    }
+
+    @Test
+    public void readInputStream_NumThreads() throws IOException {
+        readInputStream(config.toBuilder().intraOpNumThreads(4).interOpNumThreads(2).build());
+    }
+
+    @Test
+    public void readInputStream_MaxSequenceLength() throws IOException {
+        readInputStream(config.toBuilder().maxSequenceLength(128).truncationStrategy(TextEmbeddingModelConfig.TruncationStrategy.TRUNCATE).build());
+    }
+
+    @Test
+    public void readInputStream_OnnxSessionOptions() throws IOException {
+        readInputStream(
+            config.toBuilder()
+                .onnxOptimizationLevel(TextEmbeddingModelConfig.OnnxOptimizationLevel.BASIC_OPT)
+                .onnxExecutionMode(TextEmbeddingModelConfig.OnnxExecutionMode.SEQUENTIAL)
+                .onnxCpuArenaAllocator(true)
+                .onnxMemoryPatternOptimization(false)
+                .build()
+        );
+    }
+
+    @Test
+    public void readInputStream_LoadOnFirstUse() throws IOException {
+        readInputStream(config.toBuilder().loadOnFirstUse(true).build());
+    }
+
     public void readInputStream(TextEmbeddingModelConfig config) throws IOException {
         BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
         config.writeTo(bytesStreamOutput);
@@ -109,6 +230,16 @@ public class TextEmbeddingModelConfigTests {
         assertEquals(config.getAllConfig(), parsedConfig.getAllConfig());
         assertEquals(config.getEmbeddingDimension(), parsedConfig.getEmbeddingDimension());
         assertEquals(config.getFrameworkType(), parsedConfig.getFrameworkType());
+        assertEquals(config.getBatchSize(), parsedConfig.getBatchSize());
+        assertEquals(config.getIntraOpNumThreads(), parsedConfig.getIntraOpNumThreads());
+        assertEquals(config.getInterOpNumThreads(), parsedConfig.getInterOpNumThreads());
+        assertEquals(config.getMaxSequenceLength(), parsedConfig.getMaxSequenceLength());
+        assertEquals(config.getTruncationStrategy(), parsedConfig.getTruncationStrategy());
+        assertEquals(config.getOnnxOptimizationLevel(), parsedConfig.getOnnxOptimizationLevel());
+        assertEquals(config.getOnnxExecutionMode(), parsedConfig.getOnnxExecutionMode());
+        assertEquals(config.getOnnxCpuArenaAllocator(), parsedConfig.getOnnxCpuArenaAllocator());
+        assertEquals(config.getOnnxMemoryPatternOptimization(), parsedConfig.getOnnxMemoryPatternOptimization());
+        assertEquals(config.getLoadOnFirstUse(), parsedConfig.getLoadOnFirstUse());
         assertEquals(config.getWriteableName(), parsedConfig.getWriteableName());
     }
 }
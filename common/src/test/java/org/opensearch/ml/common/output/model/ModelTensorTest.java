@@ -18,7 +18,9 @@ import org.opensearch.ml.common.TestHelper;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.opensearch.common.xcontent.ToXContent.EMPTY_PARAMS;
 
 public class ModelTensorTest {
@@ -90,5 +92,65 @@ public class ModelTensorTest {
         exceptionRule.expectMessage("data type is null");
         ModelTensor tensor = new ModelTensor("null_data", new Number[]{1, 2, 3}, null, null, ByteBuffer.wrap(new byte[]{0,1,0,1}));
     }
-}
 
+    @Test
+    public void test_FloatData_StreamInAndOut() throws IOException {
+        ModelTensor tensor = new ModelTensor("embedding", new float[]{0.1f, -2.5f, 3.0f}, new long[]{1, 3}, MLResultDataType.FLOAT32, null);
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+        assertEquals(tensor, parsedTensor);
+        assertArrayEquals(new float[]{0.1f, -2.5f, 3.0f}, parsedTensor.getFloatData(), 0.0f);
+        assertArrayEquals(new Number[]{0.1f, -2.5f, 3.0f}, parsedTensor.getData());
+    }
+
+    @Test
+    public void test_StreamIn_ValueByValueFormat() throws IOException {
+        // Data written value by value should be read same as data written in bulk.
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.writeOptionalString("embedding");
+        bytesStreamOutput.writeBoolean(true);
+        bytesStreamOutput.writeEnum(MLResultDataType.FLOAT32);
+        bytesStreamOutput.writeBoolean(false);
+        bytesStreamOutput.writeBoolean(true);
+        bytesStreamOutput.writeInt(2);
+        bytesStreamOutput.writeFloat(1.5f);
+        bytesStreamOutput.writeFloat(-0.25f);
+        bytesStreamOutput.writeBoolean(false);
+
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+        assertArrayEquals(new float[]{1.5f, -0.25f}, parsedTensor.getFloatData(), 0.0f);
+
+        BytesStreamOutput bulkOutput = new BytesStreamOutput();
+        parsedTensor.writeTo(bulkOutput);
+        assertEquals(bytesStreamOutput.bytes(), bulkOutput.bytes());
+    }
+
+    @Test
+    public void test_IntData() {
+        assertArrayEquals(new long[]{1, 2, 3}, modelTensor.getLongData());
+        assertNull(modelTensor.getFloatData());
+        assertArrayEquals(new Number[]{1, 2, 3}, modelTensor.getData());
+        modelTensor.setData(null);
+        assertNull(modelTensor.getLongData());
+        assertNull(modelTensor.getData());
+    }
+
+    @Test
+    public void test_FloatData_ToXContent() throws IOException {
+        ModelTensor tensor = new ModelTensor("embedding", new float[]{1.5f, 2.0f}, new long[]{2}, MLResultDataType.FLOAT32, null);
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, EMPTY_PARAMS);
+        String modelTensorContent = TestHelper.xContentBuilderToString(builder);
+        assertEquals("{\"name\":\"embedding\",\"data_type\":\"FLOAT32\",\"shape\":[2],\"data\":[1.5,2.0]}", modelTensorContent);
+    }
+
+    @Test
+    public void test_FloatData_WrongDataType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("data type is not floating");
+        new ModelTensor("embedding", new float[]{1.5f}, null, MLResultDataType.INT32, null);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.load;
+
+import org.junit.Test;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MLModelArtifactChunkRequestTest {
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        MLModelArtifactChunkRequest request = MLModelArtifactChunkRequest.builder().modelContentHash("abc1").offset(100).length(10).build();
+        assertNull(request.validate());
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        MLModelArtifactChunkRequest parsedRequest = MLModelArtifactChunkRequest.fromActionRequest(new MLModelArtifactChunkRequest(output.bytes().streamInput()));
+        assertEquals("abc1", parsedRequest.getModelContentHash());
+        assertEquals(100, parsedRequest.getOffset());
+        assertEquals(10, parsedRequest.getLength());
+    }
+
+    @Test
+    public void validate_Exception() {
+        ActionRequestValidationException exception = new MLModelArtifactChunkRequest(null, -1, 0).validate();
+        assertEquals(3, exception.validationErrors().size());
+        assertTrue(exception.getMessage().contains("Model content hash can't be null"));
+    }
+
+    @Test
+    public void validate_LengthTooLarge() {
+        ActionRequestValidationException exception = new MLModelArtifactChunkRequest("abc1", 0, MLModelArtifactChunkRequest.MAX_LENGTH + 1).validate();
+        assertEquals(1, exception.validationErrors().size());
+        assertTrue(exception.getMessage().contains("Length can't exceed " + MLModelArtifactChunkRequest.MAX_LENGTH));
+        assertNull(new MLModelArtifactChunkRequest("abc1", 0, MLModelArtifactChunkRequest.MAX_LENGTH).validate());
+    }
+
+    @Test
+    public void response_writeTo_Success() throws IOException {
+        MLModelArtifactChunkResponse response = new MLModelArtifactChunkResponse(5, new byte[] { 1, 2 });
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLModelArtifactChunkResponse parsedResponse = new MLModelArtifactChunkResponse(output.bytes().streamInput());
+        assertEquals(5, parsedResponse.getTotalSizeInBytes());
+        assertArrayEquals(new byte[] { 1, 2 }, parsedResponse.getContent());
+    }
+}
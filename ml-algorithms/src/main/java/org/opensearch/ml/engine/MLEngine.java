@@ -76,6 +76,14 @@ public class MLEngine {
         return djlModelsCachePath.resolve("models");
     }
 
+    public Path getModelArtifactCacheRootPath() {
+        return djlModelsCachePath.resolve("artifacts");
+    }
+
+    public Path getExtractedModelPath(String modelContentHash, String modelName) {
+        return getModelArtifactCacheRootPath().resolve(modelContentHash).resolve(modelName);
+    }
+
     public MLModel train(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
@@ -5,69 +5,81 @@
 
 package org.opensearch.ml.engine;
 
-import ai.djl.training.util.DownloadUtils;
-import ai.djl.training.util.ProgressBar;
+import com.google.common.hash.HashCode;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.action.ActionListener;
+import org.opensearch.common.CheckedBiConsumer;
 
-import java.io.File;
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.nio.file.Path;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
 import java.security.AccessController;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.security.PrivilegedExceptionAction;
-import java.util.Enumeration;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
 
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
-import static org.opensearch.ml.engine.utils.FileUtils.splitFileIntoChunks;
 
 @Log4j2
 public class ModelHelper {
-    public static final String CHUNK_FILES = "chunk_files";
     public static final String MODEL_SIZE_IN_BYTES = "model_size_in_bytes";
     public static final String MODEL_FILE_HASH = "model_file_hash";
+    public static final String TOTAL_CHUNKS = "total_chunks";
     public static final int CHUNK_SIZE = 10_000_000; // 10MB
+    public static final long MAX_MODEL_SIZE_IN_BYTES = 4L * 1024 * 1024 * 1024; // 4GB
     public static final String PYTORCH_FILE_EXTENSION = ".pt";
     public static final String ONNX_FILE_EXTENSION = ".onnx";
     public static final String TOKENIZER_FILE_NAME = "tokenizer.json";
     public static final String PYTORCH_ENGINE = "PyTorch";
     public static final String ONNX_ENGINE = "OnnxRuntime";
+    public static final int DOWNLOAD_CONNECT_TIMEOUT_IN_MILLIS = 30_000;
+    public static final int DOWNLOAD_READ_TIMEOUT_IN_MILLIS = 60_000;
     private final MLEngine mlEngine;
 
     public ModelHelper(MLEngine mlEngine) {
         this.mlEngine = mlEngine;
     }
     /**
-     * Download model from URL and split it into smaller chunks.
+     * Download model from URL and split it into chunks in memory. Chunks are passed to chunk consumer in order on
+     * downloading thread as soon as they are read, so chunk consumer can throttle download by blocking. Model content
+     * hash is calculated and zip entries are verified while downloading, no model file is written to disk.
      * @param modelId model id
      * @param modelName model name
      * @param version model version
      * @param url model file URL
-     * @param listener action listener
+     * @param chunkConsumer consumer of chunk number and chunk content
+     * @param listener action listener, called with model size, hash value and total chunks
      */
-    public void downloadAndSplit(String modelId, String modelName, String version, String url, ActionListener<Map<String, Object>> listener) {
+    public void downloadAndSplit(String modelId, String modelName, String version, String url,
+                                 CheckedBiConsumer<Integer, byte[], Exception> chunkConsumer,
+                                 ActionListener<Map<String, Object>> listener) {
         try {
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                Path modelUploadPath = mlEngine.getUploadModelPath(modelId, modelName, version);
-                String modelPath = modelUploadPath +".zip";
-                Path modelPartsPath = modelUploadPath.resolve("chunks");
-                File modelZipFile = new File(modelPath);
-                log.debug("download model to file {}", modelZipFile.getAbsolutePath());
-                DownloadUtils.download(url, modelPath, new ProgressBar());
-                verifyModelZipFile(modelPath);
-
-                List<String> chunkFiles = splitFileIntoChunks(modelZipFile, modelPartsPath, CHUNK_SIZE);
+                log.debug("download model {} {} version {} from {}", modelId, modelName, version, url);
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
                 Map<String, Object> result = new HashMap<>();
-                result.put(CHUNK_FILES, chunkFiles);
-                result.put(MODEL_SIZE_IN_BYTES, modelZipFile.length());
-
-                result.put(MODEL_FILE_HASH, calculateFileHash(modelZipFile));
-                deleteFileQuietly(modelZipFile);
+                URLConnection connection = new URL(url).openConnection();
+                // Without timeouts a stalled server would hang upload task and its thread forever.
+                connection.setConnectTimeout(DOWNLOAD_CONNECT_TIMEOUT_IN_MILLIS);
+                connection.setReadTimeout(DOWNLOAD_READ_TIMEOUT_IN_MILLIS);
+                try (InputStream inputStream = new BufferedInputStream(connection.getInputStream());
+                     ChunkingInputStream chunkingInputStream = new ChunkingInputStream(new DigestInputStream(inputStream, digest),
+                             CHUNK_SIZE, chunkConsumer)) {
+                    verifyModelZipFile(chunkingInputStream);
+                    chunkingInputStream.readToEnd();
+                    result.put(MODEL_SIZE_IN_BYTES, chunkingInputStream.getSizeInBytes());
+                    result.put(TOTAL_CHUNKS, chunkingInputStream.getChunkNumber());
+                }
+                result.put(MODEL_FILE_HASH, HashCode.fromBytes(digest.digest()).toString());
                 listener.onResponse(result);
                 return null;
             });
@@ -76,22 +88,22 @@ public class ModelHelper {
         }
     }
 
-    private void verifyModelZipFile(String modelZipFilePath) throws IOException {
+    private void verifyModelZipFile(InputStream inputStream) throws IOException {
         boolean hasModelFile = false;
         boolean hasTokenizerFile = false;
-        try (ZipFile zipFile = new ZipFile(modelZipFilePath)) {
-            Enumeration zipEntries = zipFile.entries();
-            while (zipEntries.hasMoreElements()) {
-                String fileName = ((ZipEntry) zipEntries.nextElement()).getName();
-                if (fileName.endsWith(PYTORCH_FILE_EXTENSION) || fileName.endsWith(ONNX_FILE_EXTENSION)) {
-                    if (hasModelFile) {
-                        throw new IllegalArgumentException("Find multiple model files, but expected only one");
-                    }
-                    hasModelFile = true;
-                }
-                if (fileName.equals(TOKENIZER_FILE_NAME)) {
-                    hasTokenizerFile = true;
+        // Don't close zip input stream, the rest of model file after last zip entry still needs to be read.
+        ZipInputStream zipInputStream = new ZipInputStream(inputStream);
+        ZipEntry zipEntry;
+        while ((zipEntry = nextEntry(zipInputStream)) != null) {
+            String fileName = zipEntry.getName();
+            if (fileName.endsWith(PYTORCH_FILE_EXTENSION) || fileName.endsWith(ONNX_FILE_EXTENSION)) {
+                if (hasModelFile) {
+                    throw new IllegalArgumentException("Find multiple model files, but expected only one");
                 }
+                hasModelFile = true;
+            }
+            if (fileName.equals(TOKENIZER_FILE_NAME)) {
+                hasTokenizerFile = true;
             }
         }
         if (!hasModelFile) {
@@ -102,10 +114,134 @@ public class ModelHelper {
         }
     }
 
+    /**
+     * Read next zip entry while streaming. Size of a STORED entry with data descriptor is only known after its data,
+     * so it can't be read from a stream and needs the central directory at the end of zip file.
+     */
+    private ZipEntry nextEntry(ZipInputStream zipInputStream) throws IOException {
+        try {
+            return zipInputStream.getNextEntry();
+        } catch (ZipException e) {
+            if (e.getMessage() != null && e.getMessage().contains("EXT descriptor")) {
+                throw new IllegalArgumentException("Model zip file has uncompressed (STORED) entry with data descriptor, "
+                        + "which can't be read while streaming. Create zip file with compressed entries instead");
+            }
+            throw new IllegalArgumentException("Invalid model zip file: " + e.getMessage());
+        }
+    }
+
     public void deleteFileCache(String modelId) {
         deleteFileQuietly(mlEngine.getModelCachePath(modelId));
         deleteFileQuietly(mlEngine.getLoadModelPath(modelId));
         deleteFileQuietly(mlEngine.getUploadModelPath(modelId));
     }
 
+    /**
+     * Copy all bytes read into fixed size chunks, and pass each full chunk to chunk consumer.
+     */
+    private static class ChunkingInputStream extends FilterInputStream {
+        private final int chunkSize;
+        private final CheckedBiConsumer<Integer, byte[], Exception> chunkConsumer;
+        private byte[] chunk;
+        private int chunkPosition;
+        private int chunkNumber;
+        private long sizeInBytes;
+
+        ChunkingInputStream(InputStream inputStream, int chunkSize, CheckedBiConsumer<Integer, byte[], Exception> chunkConsumer) {
+            super(inputStream);
+            this.chunkSize = chunkSize;
+            this.chunkConsumer = chunkConsumer;
+            this.chunk = new byte[chunkSize];
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                append(new byte[] { (byte) b }, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                append(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes are part of model file too, read them to keep them in chunks.
+            byte[] buffer = new byte[8192];
+            long skipped = 0;
+            while (skipped < n) {
+                int count = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (count < 0) {
+                    break;
+                }
+                skipped += count;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        /**
+         * Read rest of input stream, and pass last chunk to chunk consumer.
+         * @throws IOException if failed to read input stream
+         */
+        void readToEnd() throws IOException {
+            byte[] buffer = new byte[8192];
+            while (read(buffer, 0, buffer.length) >= 0) {
+                // keep reading
+            }
+            if (chunkPosition > 0) {
+                accept(Arrays.copyOf(chunk, chunkPosition));
+            }
+        }
+
+        int getChunkNumber() {
+            return chunkNumber;
+        }
+
+        long getSizeInBytes() {
+            return sizeInBytes;
+        }
+
+        private void append(byte[] b, int off, int len) throws IOException {
+            sizeInBytes += len;
+            if (sizeInBytes >= MAX_MODEL_SIZE_IN_BYTES) {
+                throw new IllegalArgumentException("Model file size exceeds the limit of 4GB");
+            }
+            while (len > 0) {
+                int count = Math.min(len, chunkSize - chunkPosition);
+                System.arraycopy(b, off, chunk, chunkPosition, count);
+                chunkPosition += count;
+                off += count;
+                len -= count;
+                if (chunkPosition == chunkSize) {
+                    accept(chunk);
+                    chunk = new byte[chunkSize];
+                }
+            }
+        }
+
+        private void accept(byte[] data) throws IOException {
+            chunkPosition = 0;
+            try {
+                chunkConsumer.accept(chunkNumber++, data);
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("Failed to consume model chunk " + (chunkNumber - 1), e);
+            }
+        }
+    }
+
 }
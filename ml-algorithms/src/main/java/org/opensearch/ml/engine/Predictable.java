@@ -39,6 +39,22 @@ public interface Predictable {
      */
     void initModel(MLModel model, Map<String, Object> params);
 
+    /**
+     * Estimated JVM heap memory used by loaded model.
+     * @return memory size in bytes, null if not estimated by model
+     */
+    default Long getHeapMemoryEstimate() {
+        return null;
+    }
+
+    /**
+     * Estimated native memory used by loaded model, like model weights held by deep learning engine.
+     * @return memory size in bytes, null if not estimated by model
+     */
+    default Long getNativeMemoryEstimate() {
+        return null;
+    }
+
     /**
      * Close resources like loaded model.
      */
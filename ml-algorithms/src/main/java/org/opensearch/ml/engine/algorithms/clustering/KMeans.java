@@ -19,6 +19,7 @@ import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
+import org.opensearch.ml.engine.utils.NearestCentroidFinder;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 import org.tribuo.MutableDataset;
@@ -51,7 +52,10 @@ public class KMeans implements TrainAndPredictable {
     private long seed = System.currentTimeMillis();
     private KMeansTrainer.Distance distance;
 
-    private KMeansModel kMeansModel;
+    private SerializableKMeansModel kMeansModel;
+    private NearestCentroidFinder centroidFinder;
+    // Model trained before compact model format, which is still predicted by Tribuo.
+    private KMeansModel legacyKMeansModel;
     public KMeans() {}
 
     public KMeans(MLAlgoParams parameters) {
@@ -72,9 +76,12 @@ public class KMeans implements TrainAndPredictable {
 
     }
 
+    private KMeansParams.DistanceType getDistanceType() {
+        return Optional.ofNullable(parameters.getDistanceType()).orElse(DEFAULT_DISTANCE_TYPE);
+    }
+
     private void createDistance() {
-        KMeansParams.DistanceType distanceType = Optional.ofNullable(parameters.getDistanceType()).orElse(DEFAULT_DISTANCE_TYPE);
-        switch (distanceType) {
+        switch (getDistanceType()) {
             case COSINE:
                 distance = KMeansTrainer.Distance.COSINE;
                 break;
@@ -89,20 +96,49 @@ public class KMeans implements TrainAndPredictable {
 
     @Override
     public void initModel(MLModel model, Map<String, Object> params) {
-        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        loadModel(model);
+    }
+
+    private void loadModel(MLModel model) {
+        Object deserializedModel = ModelSerDeSer.deserialize(model, SerializableKMeansModel.class);
+        if (deserializedModel instanceof SerializableKMeansModel) {
+            this.kMeansModel = (SerializableKMeansModel) deserializedModel;
+            this.centroidFinder = kMeansModel.createNearestCentroidFinder();
+            this.legacyKMeansModel = null;
+        } else {
+            this.kMeansModel = null;
+            this.centroidFinder = null;
+            this.legacyKMeansModel = (KMeansModel) deserializedModel;
+        }
     }
 
     @Override
     public void close() {
         this.kMeansModel = null;
+        this.centroidFinder = null;
+        this.legacyKMeansModel = null;
     }
 
     @Override
     public MLOutput predict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        if (kMeansModel == null) {
+            return predictWithTribuo(dataFrame);
+        }
+        return predict(dataFrame, kMeansModel, centroidFinder);
+    }
+
+    private static MLOutput predict(DataFrame dataFrame, SerializableKMeansModel model, NearestCentroidFinder finder) {
+        int[] columnToFeature = TribuoUtil.mapColumnsToFeatures(dataFrame, model.getFeatureNames());
+        int[] clusterIds = finder.findNearest(dataFrame, columnToFeature);
+
+        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load("ClusterID", clusterIds)).build();
+    }
+
+    private MLOutput predictWithTribuo(DataFrame dataFrame) {
         MutableDataset<ClusterID> predictionDataset = TribuoUtil.generateDataset(dataFrame, new ClusteringFactory(),
                 "KMeans prediction data from opensearch", TribuoOutputType.CLUSTERID);
-        List<Prediction<ClusterID>> predictions = kMeansModel.predict(predictionDataset);
+        List<Prediction<ClusterID>> predictions = legacyKMeansModel.predict(predictionDataset);
         List<Map<String, Object>> listClusterID = new ArrayList<>();
         predictions.forEach(e -> listClusterID.add(Collections.singletonMap("ClusterID", e.getOutput().getID())));
 
@@ -114,7 +150,7 @@ public class KMeans implements TrainAndPredictable {
         if (model == null) {
             throw new IllegalArgumentException("No model found for KMeans prediction.");
         }
-        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        loadModel(model);
         return predict(mlInput);
     }
 
@@ -132,7 +168,7 @@ public class KMeans implements TrainAndPredictable {
                 .name(FunctionName.KMEANS.name())
                 .algorithm(FunctionName.KMEANS)
                 .version(VERSION)
-                .content(ModelSerDeSer.serializeToBase64(kMeansModel))
+                .content(ModelSerDeSer.serializeCompactToBase64(new SerializableKMeansModel(kMeansModel, getDistanceType())))
                 .modelState(MLModelState.TRAINED)
                 .build();
         return model;
@@ -148,10 +184,7 @@ public class KMeans implements TrainAndPredictable {
         KMeansTrainer trainer = new KMeansTrainer(centroids, iterations, distance, numThreads, seed);
         KMeansModel kMeansModel = trainer.train(trainDataset); // won't store model in index
 
-        List<Prediction<ClusterID>> predictions = kMeansModel.predict(trainDataset);
-        List<Map<String, Object>> listClusterID = new ArrayList<>();
-        predictions.forEach(e -> listClusterID.add(Collections.singletonMap("ClusterID", e.getOutput().getID())));
-
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listClusterID)).build();
+        SerializableKMeansModel model = new SerializableKMeansModel(kMeansModel, getDistanceType());
+        return predict(dataFrame, model, model.createNearestCentroidFinder());
     }
 }
@@ -20,16 +20,12 @@ import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
-import org.opensearch.ml.engine.utils.MathUtil;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
+import org.opensearch.ml.engine.utils.NearestCentroidFinder;
 import org.opensearch.ml.engine.utils.TribuoUtil;
 import com.amazon.randomcutforest.returntypes.SampleSummary;
 import com.amazon.randomcutforest.summarization.Summarizer;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
@@ -47,6 +43,7 @@ public class RCFSummarize implements TrainAndPredictable {
     // Parameters
     private RCFSummarizeParams parameters;
     private BiFunction<float[], float[], Double> distance;
+    private NearestCentroidFinder.Distance centroidDistance = NearestCentroidFinder.Distance.L2;
     private SampleSummary summary;
 
     public RCFSummarize() {}
@@ -100,15 +97,19 @@ public class RCFSummarize implements TrainAndPredictable {
         switch (distanceType) {
             case L1:
                 distance = Summarizer::L1distance;
+                centroidDistance = NearestCentroidFinder.Distance.L1;
                 break;
             case L2:
                 distance = Summarizer::L2distance;
+                centroidDistance = NearestCentroidFinder.Distance.L2;
                 break;
             case LInfinity:
                 distance = Summarizer::LInfinitydistance;
+                centroidDistance = NearestCentroidFinder.Distance.L_INFINITY;
                 break;
             default:
                 distance = Summarizer::L2distance;
+                centroidDistance = NearestCentroidFinder.Distance.L2;
                 break;
         }
     }
@@ -129,7 +130,7 @@ public class RCFSummarize implements TrainAndPredictable {
                 .name(FunctionName.RCF_SUMMARIZE.name())
                 .algorithm(FunctionName.RCF_SUMMARIZE)
                 .version(VERSION)
-                .content(ModelSerDeSer.serializeToBase64(new SerializableSummary(summary)))
+                .content(ModelSerDeSer.serializeCompactToBase64(new SerializableSummary(summary)))
                 .modelState(MLModelState.TRAINED)
                 .build();
         return model;
@@ -137,7 +138,7 @@ public class RCFSummarize implements TrainAndPredictable {
 
     @Override
     public void initModel(MLModel model, Map<String, Object> params) {
-        this.summary = ((SerializableSummary)ModelSerDeSer.deserialize(model)).getSummary();
+        this.summary = ((SerializableSummary)ModelSerDeSer.deserialize(model, SerializableSummary.class)).getSummary();
     }
 
     @Override
@@ -147,16 +148,10 @@ public class RCFSummarize implements TrainAndPredictable {
 
     @Override
     public MLOutput predict(MLInput mlInput) {
-        Iterable<float[]> centroidsLst = Arrays.asList(summary.summaryPoints);
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        Tuple<String[], float[][]> featureNamesValues = TribuoUtil.transformDataFrameFloat(dataFrame);
-        List<Integer> predictions = new ArrayList<>();
-        Arrays.stream(featureNamesValues.v2()).forEach(e->predictions.add(MathUtil.findNearest(e, centroidsLst, distance)));
-
-        List<Map<String, Object>> listClusterID = new ArrayList<>();
-        predictions.forEach(e -> listClusterID.add(Collections.singletonMap("ClusterID", e)));
+        int[] clusterIds = new NearestCentroidFinder(summary.summaryPoints, centroidDistance).findNearest(dataFrame);
 
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listClusterID)).build();
+        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load("ClusterID", clusterIds)).build();
     }
 
     @Override
@@ -165,7 +160,7 @@ public class RCFSummarize implements TrainAndPredictable {
             throw new IllegalArgumentException("No model found for RCFSummarize prediction.");
         }
 
-        summary = ((SerializableSummary)ModelSerDeSer.deserialize(model)).getSummary();
+        summary = ((SerializableSummary)ModelSerDeSer.deserialize(model, SerializableSummary.class)).getSummary();
         return predict(mlInput);
     }
 
@@ -181,14 +176,9 @@ public class RCFSummarize implements TrainAndPredictable {
                 rnd.nextLong(),
                 parameters.getParallel());
 
-        Iterable<float[]> centroidsLst = Arrays.asList(summary.summaryPoints);
-        List<Integer> predictions = new ArrayList<>();
-        Arrays.stream(featureNamesValues.v2()).forEach(e->predictions.add(MathUtil.findNearest(e, centroidsLst, distance)));
-
-        List<Map<String, Object>> listClusterID = new ArrayList<>();
-        predictions.forEach(e -> listClusterID.add(Collections.singletonMap("ClusterID", e)));
+        int[] clusterIds = new NearestCentroidFinder(summary.summaryPoints, centroidDistance).findNearest(featureNamesValues.v2());
 
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listClusterID)).build();
+        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load("ClusterID", clusterIds)).build();
     }
 }
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.engine.algorithms.clustering;
+
+import lombok.Data;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
+import org.opensearch.ml.engine.utils.NearestCentroidFinder;
+import org.tribuo.ImmutableFeatureMap;
+import org.tribuo.clustering.kmeans.KMeansModel;
+import org.tribuo.math.la.DenseVector;
+
+/**
+ * Compact KMeans model which stores centroids as one flat row-major array, one row per cluster and one
+ * column per feature in feature order of the Tribuo model.
+ */
+@Data
+public class SerializableKMeansModel {
+    private String[] featureNames;
+    private double[] centroids;
+    private String distanceType;
+
+    public SerializableKMeansModel() {
+    }
+
+    public SerializableKMeansModel(KMeansModel model, KMeansParams.DistanceType distanceType) {
+        ImmutableFeatureMap featureIDMap = model.getFeatureIDMap();
+        featureNames = new String[featureIDMap.size()];
+        for (int i = 0; i < featureNames.length; i++) {
+            featureNames[i] = featureIDMap.get(i).getName();
+        }
+        DenseVector[] centroidVectors = model.getCentroidVectors();
+        centroids = new double[centroidVectors.length * featureNames.length];
+        for (int i = 0; i < centroidVectors.length; i++) {
+            for (int j = 0; j < featureNames.length; j++) {
+                centroids[i * featureNames.length + j] = centroidVectors[i].get(j);
+            }
+        }
+        this.distanceType = distanceType.name();
+    }
+
+    public int getNumCentroids() {
+        return featureNames.length == 0 ? 0 : centroids.length / featureNames.length;
+    }
+
+    /**
+     * Create nearest centroid finder of centroids. Features and distances are kept in double precision like Tribuo
+     * KMeans model, so it finds same nearest centroid as Tribuo except for floating point ties.
+     * @return nearest centroid finder
+     */
+    public NearestCentroidFinder createNearestCentroidFinder() {
+        switch (KMeansParams.DistanceType.valueOf(distanceType)) {
+            case COSINE:
+                return new NearestCentroidFinder(centroids, featureNames.length, NearestCentroidFinder.Distance.COSINE);
+            case L1:
+                return new NearestCentroidFinder(centroids, featureNames.length, NearestCentroidFinder.Distance.L1);
+            default:
+                return new NearestCentroidFinder(centroids, featureNames.length, NearestCentroidFinder.Distance.L2);
+        }
+    }
+}
@@ -20,10 +20,11 @@ import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.Trainable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
+import org.opensearch.ml.engine.utils.MathUtil;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
+import org.tribuo.ImmutableOutputInfo;
 import org.tribuo.MutableDataset;
-import org.tribuo.Prediction;
 import org.tribuo.Trainer;
 import org.tribuo.math.StochasticGradientOptimiser;
 import org.tribuo.math.optimisers.AdaDelta;
@@ -34,18 +35,16 @@ import org.tribuo.math.optimisers.SGD;
 import org.tribuo.regression.RegressionFactory;
 import org.tribuo.regression.Regressor;
 import org.tribuo.regression.sgd.RegressionObjective;
+import org.tribuo.regression.sgd.linear.LinearSGDModel;
 import org.tribuo.regression.sgd.linear.LinearSGDTrainer;
 import org.tribuo.regression.sgd.objectives.AbsoluteLoss;
 import org.tribuo.regression.sgd.objectives.Huber;
 import org.tribuo.regression.sgd.objectives.SquaredLoss;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import static org.opensearch.ml.engine.utils.ModelSerDeSer.serializeToBase64;
+import static org.opensearch.ml.engine.utils.ModelSerDeSer.serializeCompactToBase64;
 
 @Function(FunctionName.LINEAR_REGRESSION)
 public class LinearRegression implements Trainable, Predictable {
@@ -76,7 +75,7 @@ public class LinearRegression implements Trainable, Predictable {
     private int loggingInterval;
     private int minibatchSize;
     private long seed;
-    private org.tribuo.Model<Regressor> regressionModel;
+    private SerializableLinearModel regressionModel;
 
     public LinearRegression() {}
 
@@ -200,7 +199,25 @@ public class LinearRegression implements Trainable, Predictable {
 
     @Override
     public void initModel(MLModel model, Map<String, Object> params) {
-        this.regressionModel = (org.tribuo.Model<Regressor>) ModelSerDeSer.deserialize(model);
+        this.regressionModel = loadModel(model);
+    }
+
+    private static SerializableLinearModel loadModel(MLModel model) {
+        Object deserializedModel = ModelSerDeSer.deserialize(model, SerializableLinearModel.class);
+        if (deserializedModel instanceof SerializableLinearModel) {
+            return (SerializableLinearModel) deserializedModel;
+        }
+        // Model trained before compact model format.
+        return toSerializableModel((LinearSGDModel) deserializedModel);
+    }
+
+    private static SerializableLinearModel toSerializableModel(LinearSGDModel model) {
+        ImmutableOutputInfo<Regressor> outputIDInfo = model.getOutputIDInfo();
+        String[] outputNames = new String[outputIDInfo.size()];
+        for (int i = 0; i < outputNames.length; i++) {
+            outputNames[i] = outputIDInfo.getOutput(i).getNames()[0];
+        }
+        return new SerializableLinearModel(model.getFeatureIDMap(), outputNames, model.getWeightsCopy());
     }
 
     @Override
@@ -214,13 +231,17 @@ public class LinearRegression implements Trainable, Predictable {
             throw new IllegalArgumentException("model not loaded");
         }
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        MutableDataset<Regressor> predictionDataset = TribuoUtil.generateDataset(dataFrame, new RegressionFactory(),
-                "Linear regression prediction data from opensearch", TribuoOutputType.REGRESSOR);
-        List<Prediction<Regressor>> predictions = regressionModel.predict(predictionDataset);
-        List<Map<String, Object>> listPrediction = new ArrayList<>();
-        predictions.forEach(e -> listPrediction.add(Collections.singletonMap(e.getOutput().getNames()[0], e.getOutput().getValues()[0])));
-
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listPrediction)).build();
+        SerializableLinearModel model = regressionModel;
+        int numFeatures = model.getFeatureNames().length;
+        int[] columnToFeature = TribuoUtil.mapColumnsToFeatures(dataFrame, model.getFeatureNames());
+        double[] predictions = new double[dataFrame.size()];
+        MathUtil.forEachRowBlock(predictions.length, (fromRow, toRow) -> {
+            double[] featureMatrix = new double[(toRow - fromRow) * numFeatures];
+            TribuoUtil.transformRows(dataFrame, columnToFeature, numFeatures, fromRow, toRow, featureMatrix);
+            model.score(0, featureMatrix, toRow - fromRow, predictions, fromRow);
+        });
+
+        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(model.getOutputNames()[0], predictions)).build();
     }
 
     @Override
@@ -229,7 +250,7 @@ public class LinearRegression implements Trainable, Predictable {
             throw new IllegalArgumentException("No model found for linear regression prediction.");
         }
 
-        regressionModel = (org.tribuo.Model<Regressor>) ModelSerDeSer.deserialize(model);
+        regressionModel = loadModel(model);
         return predict(mlInput);
     }
 
@@ -240,12 +261,12 @@ public class LinearRegression implements Trainable, Predictable {
                 "Linear regression training data from opensearch", TribuoOutputType.REGRESSOR, parameters.getTarget());
         Integer epochs = Optional.ofNullable(parameters.getEpochs()).orElse(DEFAULT_EPOCHS);
         LinearSGDTrainer linearSGDTrainer = new LinearSGDTrainer(objective, optimiser, epochs, loggingInterval, minibatchSize, seed);
-        org.tribuo.Model<Regressor> regressionModel = linearSGDTrainer.train(trainDataset);
+        LinearSGDModel regressionModel = (LinearSGDModel) linearSGDTrainer.train(trainDataset);
         MLModel model = MLModel.builder()
                 .name(FunctionName.LINEAR_REGRESSION.name())
                 .algorithm(FunctionName.LINEAR_REGRESSION)
                 .version(VERSION)
-                .content(serializeToBase64(regressionModel))
+                .content(serializeCompactToBase64(toSerializableModel(regressionModel)))
                 .modelState(MLModelState.TRAINED)
                 .build();
 
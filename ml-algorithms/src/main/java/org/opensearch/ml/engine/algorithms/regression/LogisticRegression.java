@@ -20,14 +20,16 @@ import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.Trainable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
+import org.opensearch.ml.engine.utils.MathUtil;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
+import org.tribuo.ImmutableOutputInfo;
 import org.tribuo.MutableDataset;
-import org.tribuo.Prediction;
 import org.tribuo.Trainer;
 import org.tribuo.classification.Label;
 import org.tribuo.classification.LabelFactory;
 import org.tribuo.classification.sgd.LabelObjective;
+import org.tribuo.classification.sgd.linear.LinearSGDModel;
 import org.tribuo.classification.sgd.linear.LinearSGDTrainer;
 import org.tribuo.classification.sgd.objectives.Hinge;
 import org.tribuo.classification.sgd.objectives.LogMulticlass;
@@ -38,13 +40,10 @@ import org.tribuo.math.optimisers.Adam;
 import org.tribuo.math.optimisers.RMSProp;
 import org.tribuo.math.optimisers.SGD;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import static org.opensearch.ml.engine.utils.ModelSerDeSer.serializeToBase64;
+import static org.opensearch.ml.engine.utils.ModelSerDeSer.serializeCompactToBase64;
 
 @Function(FunctionName.LOGISTIC_REGRESSION)
 public class LogisticRegression implements Trainable, Predictable {
@@ -74,7 +73,7 @@ public class LogisticRegression implements Trainable, Predictable {
     private LogisticRegressionParams parameters;
     private StochasticGradientOptimiser optimiser;
     private LabelObjective objective;
-    private org.tribuo.Model<Label> classificationModel;
+    private SerializableLinearModel classificationModel;
 
     /**
      * Initialize a linear regression algorithm.
@@ -179,13 +178,13 @@ public class LogisticRegression implements Trainable, Predictable {
                 "Logistic regression training data from OpenSearch", TribuoOutputType.LABEL, parameters.getTarget());
         // LinearSGDTrainer(objective=LogMulticlass,optimiser=AdaGrad(initialLearningRate=1.0,epsilon=0.1,initialValue=0.0),epochs=5,minibatchSize=1,seed=12345)
         Trainer<Label> logisticRegressionTrainer = new LinearSGDTrainer(objective, optimiser, epochs, loggingInterval, minibatchSize, seed);
-        org.tribuo.Model<Label> classificationModel = logisticRegressionTrainer.train(trainDataset);
+        LinearSGDModel classificationModel = (LinearSGDModel) logisticRegressionTrainer.train(trainDataset);
 
         MLModel model = MLModel.builder()
                 .name(FunctionName.LOGISTIC_REGRESSION.name())
                 .algorithm(FunctionName.LOGISTIC_REGRESSION)
                 .version(VERSION)
-                .content(serializeToBase64(classificationModel))
+                .content(serializeCompactToBase64(toSerializableModel(classificationModel)))
                 .modelState(MLModelState.TRAINED)
                 .build();
         return model;
@@ -193,7 +192,25 @@ public class LogisticRegression implements Trainable, Predictable {
 
     @Override
     public void initModel(MLModel model, Map<String, Object> params) {
-        this.classificationModel = (org.tribuo.Model<Label>)ModelSerDeSer.deserialize(model);
+        this.classificationModel = loadModel(model);
+    }
+
+    private static SerializableLinearModel loadModel(MLModel model) {
+        Object deserializedModel = ModelSerDeSer.deserialize(model, SerializableLinearModel.class);
+        if (deserializedModel instanceof SerializableLinearModel) {
+            return (SerializableLinearModel) deserializedModel;
+        }
+        // Model trained before compact model format.
+        return toSerializableModel((LinearSGDModel) deserializedModel);
+    }
+
+    private static SerializableLinearModel toSerializableModel(LinearSGDModel model) {
+        ImmutableOutputInfo<Label> outputIDInfo = model.getOutputIDInfo();
+        String[] outputNames = new String[outputIDInfo.size()];
+        for (int i = 0; i < outputNames.length; i++) {
+            outputNames[i] = outputIDInfo.getOutput(i).getLabel();
+        }
+        return new SerializableLinearModel(model.getFeatureIDMap(), outputNames, model.getWeightsCopy());
     }
 
     @Override
@@ -204,14 +221,21 @@ public class LogisticRegression implements Trainable, Predictable {
     @Override
     public MLOutput predict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        MutableDataset<Label> predictionDataset = TribuoUtil.generateDataset(dataFrame, new LabelFactory(),
-                "Logistic regression prediction data from OpenSearch", TribuoOutputType.LABEL);
-
-        List<Prediction<Label>> predictions = classificationModel.predict(predictionDataset);
-        List<Map<String, Object>> listPrediction = new ArrayList<>();
-        predictions.forEach(e -> listPrediction.add(Collections.singletonMap("result", e.getOutput().getLabel())));
+        SerializableLinearModel model = classificationModel;
+        int numFeatures = model.getFeatureNames().length;
+        int[] columnToFeature = TribuoUtil.mapColumnsToFeatures(dataFrame, model.getFeatureNames());
+        int[] outputs = new int[dataFrame.size()];
+        MathUtil.forEachRowBlock(outputs.length, (fromRow, toRow) -> {
+            double[] featureMatrix = new double[(toRow - fromRow) * numFeatures];
+            TribuoUtil.transformRows(dataFrame, columnToFeature, numFeatures, fromRow, toRow, featureMatrix);
+            model.predictOutputs(featureMatrix, toRow - fromRow, outputs, fromRow);
+        });
+        String[] labels = new String[outputs.length];
+        for (int i = 0; i < outputs.length; i++) {
+            labels[i] = model.getOutputNames()[outputs[i]];
+        }
 
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listPrediction)).build();
+        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load("result", labels)).build();
     }
 
     @Override
@@ -220,7 +244,7 @@ public class LogisticRegression implements Trainable, Predictable {
             throw new IllegalArgumentException("No model found for logistic regression prediction.");
         }
 
-        classificationModel = (org.tribuo.Model<Label>)ModelSerDeSer.deserialize(model);
+        classificationModel = loadModel(model);
         return predict(mlInput);
     }
 }
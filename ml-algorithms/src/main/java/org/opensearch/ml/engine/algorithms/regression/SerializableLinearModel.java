@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.engine.algorithms.regression;
+
+import lombok.Data;
+import org.tribuo.ImmutableFeatureMap;
+import org.tribuo.math.la.DenseMatrix;
+
+/**
+ * Compact linear model of Tribuo linear SGD models. Weights are stored as one flat row-major array, one row
+ * per output and one column per feature in feature order of the Tribuo model. Bias of each output is stored
+ * separately, Tribuo stores it as the last column of weight matrix.
+ */
+@Data
+public class SerializableLinearModel {
+    private String[] featureNames;
+    private String[] outputNames;
+    private double[] weights;
+    private double[] biases;
+
+    public SerializableLinearModel() {
+    }
+
+    public SerializableLinearModel(ImmutableFeatureMap featureIDMap, String[] outputNames, DenseMatrix weightMatrix) {
+        int numFeatures = featureIDMap.size();
+        if (weightMatrix.getDimension1Size() != outputNames.length || weightMatrix.getDimension2Size() != numFeatures + 1) {
+            throw new IllegalArgumentException("Weights don't match model features and outputs.");
+        }
+        featureNames = new String[numFeatures];
+        for (int i = 0; i < numFeatures; i++) {
+            featureNames[i] = featureIDMap.get(i).getName();
+        }
+        this.outputNames = outputNames;
+        weights = new double[outputNames.length * numFeatures];
+        biases = new double[outputNames.length];
+        for (int i = 0; i < outputNames.length; i++) {
+            for (int j = 0; j < numFeatures; j++) {
+                weights[i * numFeatures + j] = weightMatrix.get(i, j);
+            }
+            biases[i] = weightMatrix.get(i, numFeatures);
+        }
+    }
+
+    /**
+     * Calculate linear scores of output for a block of rows.
+     * @param output output index
+     * @param featureMatrix flat row-major feature values of rows, ordered by model features
+     * @param numRows number of rows in feature matrix
+     * @param scores scores of all rows
+     * @param offset index of first row of block in scores
+     */
+    public void score(int output, double[] featureMatrix, int numRows, double[] scores, int offset) {
+        int numFeatures = featureNames.length;
+        int weightOffset = output * numFeatures;
+        for (int i = 0; i < numRows; i++) {
+            int rowOffset = i * numFeatures;
+            double score = biases[output];
+            for (int j = 0; j < numFeatures; j++) {
+                score += weights[weightOffset + j] * featureMatrix[rowOffset + j];
+            }
+            scores[offset + i] = score;
+        }
+    }
+
+    /**
+     * Find output with highest score for a block of rows. Normalizers of Tribuo classification models are
+     * monotonic, so the output is same as Tribuo predicted label.
+     * @param featureMatrix flat row-major feature values of rows, ordered by model features
+     * @param numRows number of rows in feature matrix
+     * @param outputs output index with highest score of all rows
+     * @param offset index of first row of block in outputs
+     */
+    public void predictOutputs(double[] featureMatrix, int numRows, int[] outputs, int offset) {
+        int numFeatures = featureNames.length;
+        for (int i = 0; i < numRows; i++) {
+            int rowOffset = i * numFeatures;
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int k = 0; k < outputNames.length; k++) {
+                int weightOffset = k * numFeatures;
+                double score = biases[k];
+                for (int j = 0; j < numFeatures; j++) {
+                    score += weights[weightOffset + j] * featureMatrix[rowOffset + j];
+                }
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = k;
+                }
+            }
+            outputs[offset + i] = best;
+        }
+    }
+}
@@ -53,17 +53,13 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) throws Exception {
         float[] ret = translator.processOutput(ctx, list);
-        Number[] data = new Float[ret.length];
-        for (int i = 0; i < ret.length; i++) {
-            data[i] = ret[i];
-        }
         long[] shape = new long[]{1, ret.length};
-        ModelTensor tensor = new ModelTensor(SENTENCE_EMBEDDING, data, shape, MLResultDataType.FLOAT32, null);
+        ModelTensor tensor = new ModelTensor(SENTENCE_EMBEDDING, ret, shape, MLResultDataType.FLOAT32, null);
         List<ModelTensor> outputs = Collections.singletonList(tensor);
 
         Output output = new Output();
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
 
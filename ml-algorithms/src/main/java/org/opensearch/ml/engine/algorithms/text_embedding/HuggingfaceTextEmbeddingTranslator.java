@@ -24,19 +24,26 @@ import ai.djl.translate.Translator;
 import ai.djl.translate.TranslatorContext;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Queue;
 
 /** The translator for Huggingface text embedding model. */
 public class HuggingfaceTextEmbeddingTranslator implements Translator<String, float[]> {
 
     private static final int[] AXIS = {0};
+    // All docs of one batch share same translator context, keep attention masks in input order.
+    private static final String ATTENTION_MASKS = "attention_masks";
 
     private HuggingFaceTokenizer tokenizer;
     private Batchifier batchifier;
+    private Integer maxSequenceLength;
 
-    HuggingfaceTextEmbeddingTranslator(HuggingFaceTokenizer tokenizer, Batchifier batchifier) {
+    HuggingfaceTextEmbeddingTranslator(HuggingFaceTokenizer tokenizer, Batchifier batchifier, Integer maxSequenceLength) {
         this.tokenizer = tokenizer;
         this.batchifier = batchifier;
+        this.maxSequenceLength = maxSequenceLength;
     }
 
     /** {@inheritDoc} */
@@ -50,7 +57,8 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
     public NDList processInput(TranslatorContext ctx, String input) {
         NDManager manager = ctx.getNDManager();
         Encoding encoding = tokenizer.encode(input);
-        ctx.setAttachment("encoding", encoding);
+        TokenizerHelper.checkSequenceLength(encoding, maxSequenceLength);
+        attentionMasks(ctx).add(encoding.getAttentionMask());
         long[] indices = encoding.getIds();
         long[] attentionMask = encoding.getAttentionMask();
         NDList ndList = new NDList(2);
@@ -63,11 +71,11 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
     @Override
     public float[] processOutput(TranslatorContext ctx, NDList list) {
         NDArray embeddings = list.get("last_hidden_state");
-        Encoding encoding = (Encoding) ctx.getAttachment("encoding");
-        long[] attentionMask = encoding.getAttentionMask();
+        long[] shape = embeddings.getShape().getShape();
+        // Docs are padded to the longest one in batch, pad attention mask to same length.
+        long[] attentionMask = Arrays.copyOf(attentionMasks(ctx).poll(), (int) shape[0]);
         NDManager manager = ctx.getNDManager();
         NDArray inputAttentionMask = manager.create(attentionMask).toType(DataType.FLOAT32, true);
-        long[] shape = embeddings.getShape().getShape();
         inputAttentionMask = inputAttentionMask.expandDims(-1).broadcast(shape);
         NDArray inputAttentionMaskSum = inputAttentionMask.sum(AXIS);
         NDArray clamp = inputAttentionMaskSum.clip(1e-9, 1e12);
@@ -78,6 +86,16 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
         return embeddings.toFloatArray();
     }
 
+    @SuppressWarnings("unchecked")
+    private Queue<long[]> attentionMasks(TranslatorContext ctx) {
+        Queue<long[]> attentionMasks = (Queue<long[]>) ctx.getAttachment(ATTENTION_MASKS);
+        if (attentionMasks == null) {
+            attentionMasks = new ArrayDeque<>();
+            ctx.setAttachment(ATTENTION_MASKS, attentionMasks);
+        }
+        return attentionMasks;
+    }
+
     /**
      * Creates a builder to build a {@code TextEmbeddingTranslator}.
      *
@@ -106,7 +124,8 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
     public static final class Builder {
 
         private HuggingFaceTokenizer tokenizer;
-        private Batchifier batchifier = Batchifier.STACK;
+        private Batchifier batchifier = PaddedStackBatchifier.INSTANCE;
+        private Integer maxSequenceLength;
 
         Builder(HuggingFaceTokenizer tokenizer) {
             this.tokenizer = tokenizer;
@@ -123,14 +142,28 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
             return this;
         }
 
+        /**
+         * Sets max sequence length of doc.
+         *
+         * @param maxSequenceLength max tokens of one doc, no limit if null
+         * @return this builder
+         */
+        public Builder optMaxSequenceLength(Integer maxSequenceLength) {
+            this.maxSequenceLength = maxSequenceLength;
+            return this;
+        }
+
         /**
          * Configures the builder with the model arguments.
          *
          * @param arguments the model arguments
          */
         public void configure(Map<String, ?> arguments) {
-            String batchifierStr = ArgumentsUtil.stringValue(arguments, "batchifier", "stack");
-            optBatchifier(Batchifier.fromString(batchifierStr));
+            String batchifierStr = ArgumentsUtil.stringValue(arguments, "batchifier");
+            if (batchifierStr != null) {
+                optBatchifier(Batchifier.fromString(batchifierStr));
+            }
+            optMaxSequenceLength(TokenizerHelper.maxSequenceLength(arguments));
         }
 
         /**
@@ -140,7 +173,7 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
          * @throws IOException if I/O error occurs
          */
         public HuggingfaceTextEmbeddingTranslator build() throws IOException {
-            return new HuggingfaceTextEmbeddingTranslator(tokenizer, batchifier);
+            return new HuggingfaceTextEmbeddingTranslator(tokenizer, batchifier, maxSequenceLength);
         }
     }
 }
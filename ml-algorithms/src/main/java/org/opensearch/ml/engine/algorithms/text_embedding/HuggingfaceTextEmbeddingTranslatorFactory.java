@@ -45,11 +45,15 @@ public class HuggingfaceTextEmbeddingTranslatorFactory implements TranslatorFact
             throws TranslateException {
         Path modelPath = model.getModelPath();
         try {
-            HuggingFaceTokenizer tokenizer =
+            HuggingFaceTokenizer.Builder tokenizerBuilder =
                     HuggingFaceTokenizer.builder(arguments)
                             .optTokenizerPath(modelPath)
-                            .optManager(model.getNDManager())
-                            .build();
+                            .optManager(model.getNDManager());
+            HuggingFaceTokenizer tokenizer = TokenizerHelper.configure(
+                    tokenizerBuilder,
+                    TokenizerHelper.maxSequenceLength(arguments),
+                    TokenizerHelper.truncationStrategy(arguments)
+            ).build();
             HuggingfaceTextEmbeddingTranslator translator =
                     HuggingfaceTextEmbeddingTranslator.builder(tokenizer, arguments).build();
             if (input == String.class && output == float[].class) {
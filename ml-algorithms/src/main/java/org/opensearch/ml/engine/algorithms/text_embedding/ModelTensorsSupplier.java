@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import ai.djl.ndarray.BytesSupplier;
+import lombok.Getter;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Carries model tensors in DJL {@code Output} without serializing them. Translator and model run in
+ * same process, so model reads tensors directly; bytes are only built if some caller asks for them.
+ */
+public class ModelTensorsSupplier implements BytesSupplier {
+
+    @Getter
+    private final ModelTensors modelTensors;
+
+    public ModelTensorsSupplier(ModelTensors modelTensors) {
+        this.modelTensors = modelTensors;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(modelTensors.toBytes());
+    }
+}
@@ -15,31 +15,48 @@ import ai.djl.ndarray.NDManager;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig.TruncationStrategy;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.SENTENCE_EMBEDDING;
 
 public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTranslator {
     private static final int[] AXIS = {0};
+    // All docs of one batch share same translator context, keep attention masks in input order.
+    private static final String ATTENTION_MASKS = "attention_masks";
     private HuggingFaceTokenizer tokenizer;
+    private final Integer maxSequenceLength;
+    private final TruncationStrategy truncationStrategy;
+
+    public ONNXSentenceTransformerTextEmbeddingTranslator() {
+        this(null, null);
+    }
+
+    public ONNXSentenceTransformerTextEmbeddingTranslator(Integer maxSequenceLength, TruncationStrategy truncationStrategy) {
+        this.maxSequenceLength = maxSequenceLength;
+        this.truncationStrategy = truncationStrategy;
+    }
 
     @Override
     public Batchifier getBatchifier() {
-        return null;
-
+        return PaddedStackBatchifier.INSTANCE;
     }
     @Override
     public void prepare(TranslatorContext ctx) throws IOException {
         Path path = ctx.getModel().getModelPath();
-        tokenizer = HuggingFaceTokenizer.builder().optPadding(true).optTokenizerPath(path.resolve("tokenizer.json")).build();
+        HuggingFaceTokenizer.Builder builder = HuggingFaceTokenizer.builder().optPadding(true).optTokenizerPath(path.resolve("tokenizer.json"));
+        tokenizer = TokenizerHelper.configure(builder, maxSequenceLength, truncationStrategy).build();
     }
 
     @Override
@@ -49,7 +66,8 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         NDList ndList = new NDList();
 
         Encoding encode = tokenizer.encode(sentence);
-        ctx.setAttachment("encoding", encode);
+        TokenizerHelper.checkSequenceLength(encode, maxSequenceLength);
+        attentionMasks(ctx).add(encode.getAttentionMask());
         long[] indices = encode.getIds();
         long[] attentionMask = encode.getAttentionMask();
         long[] tokenTypeIds = encode.getTypeIds();
@@ -60,25 +78,22 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         attentionMaskArray.setName("attention_mask");
         NDArray tokenTypeIdsArray = manager.create(tokenTypeIds);
         tokenTypeIdsArray.setName("token_type_ids");
-        ndList.add(indicesArray.expandDims(0));
-        ndList.add(tokenTypeIdsArray.expandDims(0));
-        ndList.add(attentionMaskArray.expandDims(0));
+        ndList.add(indicesArray);
+        ndList.add(tokenTypeIdsArray);
+        ndList.add(attentionMaskArray);
         return ndList;
     }
 
     /** {@inheritDoc} */
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
+        // Batch is unbatchified already, token embeddings of doc is [sequence length, hidden size].
         NDArray embeddings = list.get(0);
-        int shapeLength = embeddings.getShape().getShape().length;
-        if (shapeLength == 3) {
-            embeddings = embeddings.get(0);
-        }
-        Encoding encoding = (Encoding) ctx.getAttachment("encoding");
-        long[] attentionMask = encoding.getAttentionMask();
+        long[] shape = embeddings.getShape().getShape();
+        // Docs are padded to the longest one in batch, pad attention mask to same length.
+        long[] attentionMask = Arrays.copyOf(attentionMasks(ctx).poll(), (int) shape[0]);
         NDManager manager = ctx.getNDManager();
         NDArray inputAttentionMask = manager.create(attentionMask);
-        long[] shape = embeddings.getShape().getShape();
         inputAttentionMask = inputAttentionMask.expandDims(-1).broadcast(shape);
         NDArray inputAttentionMaskSum = inputAttentionMask.sum(AXIS);
         NDArray clamp = inputAttentionMaskSum.clip(1e-9, 1e12);
@@ -87,12 +102,12 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         embeddings = sum.div(clamp).normalize(2, 0);
 
         List<ModelTensor> outputs = new ArrayList<>();
-        Number[] data = embeddings.toArray();
-        outputs.add(new ModelTensor(SENTENCE_EMBEDDING, data, shape, MLResultDataType.FLOAT32, null));
+        float[] data = embeddings.toFloatArray();
+        outputs.add(new ModelTensor(SENTENCE_EMBEDDING, data, embeddings.getShape().getShape(), MLResultDataType.FLOAT32, null));
 
         Output output = new Output();
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
 
@@ -100,4 +115,14 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
     @Override
     public void setArguments(Map<String, ?> arguments) {
     }
+
+    @SuppressWarnings("unchecked")
+    private Queue<long[]> attentionMasks(TranslatorContext ctx) {
+        Queue<long[]> attentionMasks = (Queue<long[]>) ctx.getAttachment(ATTENTION_MASKS);
+        if (attentionMasks == null) {
+            attentionMasks = new ArrayDeque<>();
+            ctx.setAttachment(ATTENTION_MASKS, attentionMasks);
+        }
+        return attentionMasks;
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.Batchifier;
+
+/**
+ * Batchifier which pads the token arrays of each doc to the longest one in the batch,
+ * then stacks them with {@link Batchifier#STACK}. Docs in one request have different
+ * token lengths, so they can't be stacked directly.
+ */
+public class PaddedStackBatchifier implements Batchifier {
+
+    public static final PaddedStackBatchifier INSTANCE = new PaddedStackBatchifier();
+
+    /** {@inheritDoc} */
+    @Override
+    public NDList batchify(NDList[] inputs) {
+        if (inputs.length > 1) {
+            int numInputKinds = inputs[0].size();
+            for (int i = 0; i < numInputKinds; i++) {
+                pad(inputs, i);
+            }
+        }
+        return Batchifier.STACK.batchify(inputs);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NDList[] unbatchify(NDList inputs) {
+        return Batchifier.STACK.unbatchify(inputs);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NDList[] split(NDList list, int numOfSlices, boolean evenSplit) {
+        return Batchifier.STACK.split(list, numOfSlices, evenSplit);
+    }
+
+    private void pad(NDList[] inputs, int index) {
+        long maxLength = 0;
+        for (NDList input : inputs) {
+            Shape shape = input.get(index).getShape();
+            if (shape.dimension() == 0) {
+                return;
+            }
+            maxLength = Math.max(maxLength, shape.get(0));
+        }
+        for (NDList input : inputs) {
+            NDArray array = input.get(index);
+            long length = array.getShape().get(0);
+            if (length < maxLength) {
+                Shape paddingShape = new Shape(maxLength - length).addAll(array.getShape().slice(1));
+                NDArray padding = array.getManager().zeros(paddingShape, array.getDataType());
+                NDArray padded = array.concat(padding);
+                padded.setName(array.getName());
+                input.set(index, padded);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import ai.djl.inference.Predictor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.ml.common.exception.MLException;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of predictors of one loaded model. DJL predictor is not thread safe, so each
+ * predict request checks out one predictor, runs inference and returns it to pool.
+ * @param <I> predictor input type
+ * @param <O> predictor output type
+ */
+@Log4j2
+public class PredictorPool<I, O> {
+    public static final long DEFAULT_CHECKOUT_TIMEOUT_IN_MILLIS = 30_000;
+
+    private final BlockingQueue<Predictor<I, O>> idlePredictors;
+    @Getter
+    private final int size;
+    private final AtomicInteger inUse = new AtomicInteger(0);
+    private final AtomicLong checkoutCount = new AtomicLong(0);
+    private final AtomicLong totalWaitTimeInNanos = new AtomicLong(0);
+    private final AtomicLong maxWaitTimeInNanos = new AtomicLong(0);
+    private final long checkoutTimeoutInMillis;
+    private volatile boolean closed = false;
+
+    /**
+     * Create predictor pool with default checkout timeout.
+     * @param predictors predictors, should be ordered round-robin by device to spread requests on all devices
+     */
+    public PredictorPool(List<Predictor<I, O>> predictors) {
+        this(predictors, DEFAULT_CHECKOUT_TIMEOUT_IN_MILLIS);
+    }
+
+    /**
+     * Create predictor pool.
+     * @param predictors predictors, should be ordered round-robin by device to spread requests on all devices
+     * @param checkoutTimeoutInMillis max time to wait for an idle predictor
+     */
+    public PredictorPool(List<Predictor<I, O>> predictors, long checkoutTimeoutInMillis) {
+        if (predictors == null || predictors.size() == 0) {
+            throw new IllegalArgumentException("empty predictors");
+        }
+        if (checkoutTimeoutInMillis <= 0) {
+            throw new IllegalArgumentException("checkout timeout should be positive");
+        }
+        this.size = predictors.size();
+        this.idlePredictors = new ArrayBlockingQueue<>(size, true, predictors);
+        this.checkoutTimeoutInMillis = checkoutTimeoutInMillis;
+    }
+
+    /**
+     * Check out one idle predictor, wait up to checkout timeout if all predictors are in use.
+     * Caller must return predictor with {@link #release(Predictor)}.
+     * @return predictor
+     * @throws InterruptedException if interrupted while waiting
+     * @throws MLException if pool is closed or no predictor is released before timeout
+     */
+    public Predictor<I, O> checkout() throws InterruptedException {
+        if (closed) {
+            throw new MLException("Predictor pool is closed");
+        }
+        long start = System.nanoTime();
+        Predictor<I, O> predictor = idlePredictors.poll(checkoutTimeoutInMillis, TimeUnit.MILLISECONDS);
+        if (predictor == null) {
+            if (closed) {
+                throw new MLException("Predictor pool is closed");
+            }
+            throw new MLException("Timed out waiting for idle predictor after " + checkoutTimeoutInMillis + "ms");
+        }
+        if (closed) {
+            // Pool closed while waiting, predictor may be missed by close(), so close it here.
+            predictor.close();
+            throw new MLException("Predictor pool is closed");
+        }
+        long waitTime = System.nanoTime() - start;
+        inUse.incrementAndGet();
+        checkoutCount.incrementAndGet();
+        totalWaitTimeInNanos.addAndGet(waitTime);
+        maxWaitTimeInNanos.accumulateAndGet(waitTime, Math::max);
+        return predictor;
+    }
+
+    /**
+     * Return predictor to pool. Predictor is closed instead if pool is already closed.
+     * @param predictor predictor checked out from this pool
+     */
+    public void release(Predictor<I, O> predictor) {
+        inUse.decrementAndGet();
+        if (closed) {
+            predictor.close();
+            return;
+        }
+        idlePredictors.offer(predictor);
+        // Pool may be closed after the check above and before offer, then close() may have missed this predictor.
+        // Only one of close() and this removal can take predictor from queue, so it's closed exactly once.
+        if (closed && idlePredictors.remove(predictor)) {
+            predictor.close();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public int getInUse() {
+        return inUse.get();
+    }
+
+    public long getCheckoutCount() {
+        return checkoutCount.get();
+    }
+
+    public double getAverageWaitTimeInMillis() {
+        long count = checkoutCount.get();
+        return count == 0 ? 0 : totalWaitTimeInNanos.get() / 1e6 / count;
+    }
+
+    public double getMaxWaitTimeInMillis() {
+        return maxWaitTimeInNanos.get() / 1e6;
+    }
+
+    /**
+     * Close pool. Idle predictors are closed now, checked out predictors are closed when they are released.
+     */
+    public void close() {
+        closed = true;
+        log.debug("will close pool of {} predictors, {} in use", size, inUse.get());
+        Predictor<I, O> predictor;
+        while ((predictor = idlePredictors.poll()) != null) {
+            predictor.close();
+        }
+    }
+}
@@ -12,10 +12,12 @@ import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.index.NDIndex;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig.TruncationStrategy;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -23,22 +25,40 @@ import org.opensearch.ml.common.output.model.ModelTensors;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.SENTENCE_EMBEDDING;
+
 public class SentenceTransformerTextEmbeddingTranslator implements ServingTranslator {
+    // Token lengths of docs in the order of processInput, translator context is shared by docs of one batch.
+    private static final String TOKEN_LENGTHS = "token_lengths";
     private HuggingFaceTokenizer tokenizer;
+    private final Integer maxSequenceLength;
+    private final TruncationStrategy truncationStrategy;
+
+    public SentenceTransformerTextEmbeddingTranslator() {
+        this(null, null);
+    }
+
+    public SentenceTransformerTextEmbeddingTranslator(Integer maxSequenceLength, TruncationStrategy truncationStrategy) {
+        this.maxSequenceLength = maxSequenceLength;
+        this.truncationStrategy = truncationStrategy;
+    }
 
     @Override
     public Batchifier getBatchifier() {
-        return Batchifier.STACK;
+        return PaddedStackBatchifier.INSTANCE;
     }
     @Override
     public void prepare(TranslatorContext ctx) throws IOException {
         Path path = ctx.getModel().getModelPath();
-        tokenizer = HuggingFaceTokenizer.builder().optPadding(true).optTokenizerPath(path.resolve("tokenizer.json")).build();
+        HuggingFaceTokenizer.Builder builder = HuggingFaceTokenizer.builder().optPadding(true).optTokenizerPath(path.resolve("tokenizer.json"));
+        tokenizer = TokenizerHelper.configure(builder, maxSequenceLength, truncationStrategy).build();
     }
 
     @Override
@@ -47,8 +67,10 @@ public class SentenceTransformerTextEmbeddingTranslator implements ServingTransl
         NDManager manager = ctx.getNDManager();
         NDList ndList = new NDList();
         Encoding encodings = tokenizer.encode(sentence);
+        TokenizerHelper.checkSequenceLength(encodings, maxSequenceLength);
         long[] indices = encodings.getIds();
         long[] attentionMask = encodings.getAttentionMask();
+        tokenLengths(ctx).add(countTokens(attentionMask));
 
         NDArray indicesArray = manager.create(indices);
         indicesArray.setName("input1.input_ids");
@@ -66,23 +88,56 @@ public class SentenceTransformerTextEmbeddingTranslator implements ServingTransl
         Output output = new Output(200, "OK");
 
         List<ModelTensor> outputs = new ArrayList<>();
+        Integer tokenLength = tokenLengths(ctx).poll();
         Iterator<NDArray> iterator = list.iterator();
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = ndArray.getName();
-            Number[] data = ndArray.toArray();
             long[] shape = ndArray.getShape().getShape();
+            if (tokenLength != null && !SENTENCE_EMBEDDING.equals(name) && shape.length > 0 && shape[0] > tokenLength) {
+                // Per-token outputs are padded to the longest doc in batch, trim them to tokens of this doc,
+                // so the result of a doc doesn't depend on other docs in the same batch.
+                ndArray = ndArray.get(new NDIndex().addSliceDim(0, tokenLength));
+                ndArray.setName(name);
+                shape = ndArray.getShape().getShape();
+            }
             DataType dataType = ndArray.getDataType();
             MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
             ByteBuffer buffer = ndArray.toByteBuffer();
-            outputs.add(new ModelTensor(name, data, shape, mlResultDataType, buffer));
+            if (mlResultDataType.isFloating()) {
+                // Copy floating data to primitive array directly, avoid boxing every value.
+                NDArray floatArray = dataType == DataType.FLOAT32 ? ndArray : ndArray.toType(DataType.FLOAT32, false);
+                outputs.add(new ModelTensor(name, floatArray.toFloatArray(), shape, mlResultDataType, buffer));
+            } else {
+                outputs.add(new ModelTensor(name, ndArray.toArray(), shape, mlResultDataType, buffer));
+            }
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
 
+    @SuppressWarnings("unchecked")
+    private static Deque<Integer> tokenLengths(TranslatorContext ctx) {
+        Deque<Integer> tokenLengths = (Deque<Integer>) ctx.getAttachment(TOKEN_LENGTHS);
+        if (tokenLengths == null) {
+            tokenLengths = new ArrayDeque<>();
+            ctx.setAttachment(TOKEN_LENGTHS, tokenLengths);
+        }
+        return tokenLengths;
+    }
+
+    private static int countTokens(long[] attentionMask) {
+        int count = 0;
+        for (long mask : attentionMask) {
+            if (mask != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     @Override
     public void setArguments(Map<String, ?> arguments) {
     }
@@ -11,11 +11,10 @@ import ai.djl.engine.Engine;
 import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
+import ai.djl.ndarray.BytesSupplier;
 import ai.djl.repository.zoo.Criteria;
 import ai.djl.repository.zoo.ZooModel;
-import ai.djl.util.ZipUtils;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.io.FileUtils;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.MLInputDataset;
@@ -36,16 +35,24 @@ import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.annotation.Function;
 
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS;
 import static org.opensearch.ml.engine.ModelHelper.ONNX_FILE_EXTENSION;
@@ -53,6 +60,7 @@ import static org.opensearch.ml.engine.ModelHelper.ONNX_ENGINE;
 import static org.opensearch.ml.engine.ModelHelper.PYTORCH_FILE_EXTENSION;
 import static org.opensearch.ml.engine.ModelHelper.PYTORCH_ENGINE;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+import static org.opensearch.ml.engine.utils.MemoryUtils.getResidentSetSizeInBytes;
 
 @Log4j2
 @Function(FunctionName.TEXT_EMBEDDING)
@@ -62,15 +70,20 @@ public class TextEmbeddingModel implements Predictable {
     public static final String MODEL_ZIP_FILE = "model_zip_file";
     public static final String MODEL_HELPER = "model_helper";
     public static final String ML_ENGINE = "ml_engine";
+    public static final String PREDICTOR_POOL_SIZE = "predictor_pool_size";
+    public static final String INTRA_OP_NUM_THREADS = "intra_op_num_threads";
+    public static final String INTER_OP_NUM_THREADS = "inter_op_num_threads";
+    public static final int DEFAULT_BATCH_SIZE = 32;
 
     private ModelHelper modelHelper;
     private MLEngine mlEngine;
     private String modelId;
 
-    private Predictor<Input, Output>[] predictors;
+    private PredictorPool<Input, Output> predictorPool;
     private ZooModel[] models;
     private Device[] devices;
-    private AtomicInteger nextDevice = new AtomicInteger(0);
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private volatile Long nativeMemoryEstimate;
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
@@ -104,14 +117,21 @@ public class TextEmbeddingModel implements Predictable {
         if (modelId == null) {
             throw new IllegalArgumentException("model id is null");
         }
+        Integer predictorPoolSize = (Integer)params.get(PREDICTOR_POOL_SIZE);
+        Integer intraOpNumThreads = (Integer)params.get(INTRA_OP_NUM_THREADS);
+        Integer interOpNumThreads = (Integer)params.get(INTER_OP_NUM_THREADS);
         loadTextEmbeddingModel(
                 modelZipFile,
                 modelId,
                 model.getName(),
                 model.getAlgorithm(),
                 model.getVersion(),
+                model.getModelContentHash(),
                 model.getModelConfig(),
-                engine
+                engine,
+                predictorPoolSize == null ? 1 : predictorPoolSize,
+                intraOpNumThreads == null ? 1 : intraOpNumThreads,
+                interOpNumThreads == null ? 1 : interOpNumThreads
         );
     }
 
@@ -119,20 +139,45 @@ public class TextEmbeddingModel implements Predictable {
     public void close() {
         if (modelHelper != null && modelId != null) {
             modelHelper.deleteFileCache(modelId);
-            if (predictors != null) {
-                closePredictors(predictors);
-                predictors = null;
+            if (predictorPool != null) {
+                predictorPool.close();
+                predictorPool = null;
             }
             if (models != null) {
                 closeModels(models);
                 models = null;
             }
+            nativeMemoryEstimate = null;
         }
     }
 
+    /**
+     * Model weights and tokenizer are held by deep learning engine outside of JVM heap.
+     * @return 0 as heap memory used by loaded model is negligible, null if model not loaded
+     */
+    @Override
+    public Long getHeapMemoryEstimate() {
+        return nativeMemoryEstimate == null ? null : 0L;
+    }
+
+    /**
+     * Estimate native memory of loaded model as the larger one of resident set size growth while loading model and
+     * size of model files loaded on each device. Resident set size growth can include memory of concurrent loads or
+     * engine libraries loaded by first model, so it may overestimate but won't miss memory allocated by engine.
+     * @return native memory in bytes, null if model not loaded
+     */
+    @Override
+    public Long getNativeMemoryEstimate() {
+        return nativeMemoryEstimate;
+    }
+
     protected void loadTextEmbeddingModel(File modelZipFile, String modelId, String modelName, FunctionName functionName, String version,
+                                       String modelContentHash,
                                        MLModelConfig modelConfig,
-                                       String engine) {
+                                       String engine,
+                                       int predictorPoolSize,
+                                       int defaultIntraOpNumThreads,
+                                       int defaultInterOpNumThreads) {
 
         try {
             if (FunctionName.TEXT_EMBEDDING != functionName) {
@@ -141,46 +186,56 @@ public class TextEmbeddingModel implements Predictable {
             if (!PYTORCH_ENGINE.equals(engine) && !ONNX_ENGINE.equals(engine)) {
                 throw new IllegalArgumentException("unsupported engine");
             }
+            TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
+            int intraOpNumThreads = resolveNumThreads("intra op", textEmbeddingModelConfig.getIntraOpNumThreads(), defaultIntraOpNumThreads);
+            int interOpNumThreads = resolveNumThreads("inter op", textEmbeddingModelConfig.getInterOpNumThreads(), defaultInterOpNumThreads);
+            if (PYTORCH_ENGINE.equals(engine)) {
+                // PyTorch thread pools are process wide and sized once when engine starts, per model values can't take effect.
+                checkPyTorchNumThreads("intra op", intraOpNumThreads, defaultIntraOpNumThreads);
+                checkPyTorchNumThreads("inter op", interOpNumThreads, defaultInterOpNumThreads);
+            }
+            int processors = Runtime.getRuntime().availableProcessors();
+            if ((long) intraOpNumThreads * predictorPoolSize > processors) {
+                log.warn("Model {} may oversubscribe CPU: {} predictors with {} intra op threads each on {} processors",
+                        modelId, predictorPoolSize, intraOpNumThreads, processors);
+            }
             List<Predictor<Input, Output>> predictorList = new ArrayList<>();
             List<ZooModel<Input, Output>> modelList = new ArrayList<>();
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
                 ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+                long residentSetSizeBeforeLoad = getResidentSetSizeInBytes();
                 try {
                     System.setProperty("PYTORCH_PRECXX11", "true");
                     System.setProperty("DJL_CACHE_DIR", mlEngine.getDjlCachePath().toAbsolutePath().toString());
                     // DJL will read "/usr/java/packages/lib" if don't set "java.library.path". That will throw
                     // access denied exception
                     System.setProperty("java.library.path", mlEngine.getDjlCachePath().toAbsolutePath().toString());
-                    System.setProperty("ai.djl.pytorch.num_interop_threads", "1");
-                    System.setProperty("ai.djl.pytorch.num_threads", "1");
+                    // PyTorch thread pools are process wide, DJL only reads these properties when PyTorch engine starts,
+                    // so they are always the node values.
+                    System.setProperty("ai.djl.pytorch.num_interop_threads", String.valueOf(interOpNumThreads));
+                    System.setProperty("ai.djl.pytorch.num_threads", String.valueOf(intraOpNumThreads));
                     Thread.currentThread().setContextClassLoader(ai.djl.Model.class.getClassLoader());
-                    Path modelPath = mlEngine.getModelCachePath(modelId, modelName, version);
-                    File pathFile = new File(modelPath.toUri());
-                    if (pathFile.exists()) {
-                        FileUtils.deleteDirectory(pathFile);
-                    }
-                    try (FileInputStream fileInputStream = new FileInputStream(modelZipFile)) {
-                        ZipUtils.unzip(fileInputStream, modelPath);
-                    }
-                    boolean findModelFile = false;
-                    for (File file : pathFile.listFiles()) {
-                        String name = file.getName();
-                        if (name.endsWith(PYTORCH_FILE_EXTENSION) || name.endsWith(ONNX_FILE_EXTENSION)) {
-                            if (findModelFile) {
-                                throw new IllegalArgumentException("found multiple models");
-                            }
-                            findModelFile = true;
-                            int dotIndex = name.lastIndexOf(".");
-                            String suffix = name.substring(dotIndex);
-                            if (!modelName.equals(name.substring(0, dotIndex))) {
-                                file.renameTo(new File(modelPath.resolve(modelName + suffix).toUri()));
-                            }
-                        }
+                    Path modelPath = extractModelZipFile(modelZipFile, modelId, modelName, version, modelContentHash);
+                    // Model files are extracted, merged model zip file is not needed any more.
+                    deleteFileQuietly(mlEngine.getLoadModelPath(modelId));
+                    if (textEmbeddingModelConfig.getBatchSize() != null) {
+                        batchSize = textEmbeddingModelConfig.getBatchSize();
                     }
                     devices = Engine.getEngine(engine).getDevices();
+                    // Create multiple predictors on each device, so concurrent requests can run in parallel.
+                    int predictorsPerDevice = Math.max(1, (predictorPoolSize + devices.length - 1) / devices.length);
+                    List<List<Predictor<Input, Output>>> devicePredictors = new ArrayList<>();
                     for (int i = 0; i < devices.length; i++) {
                         log.debug("load model {} on device {}: {}", modelId, i, devices[i]);
                         Map<String, Object> arguments = new HashMap<>();
+                        Integer maxSequenceLength = textEmbeddingModelConfig.getMaxSequenceLength();
+                        TextEmbeddingModelConfig.TruncationStrategy truncationStrategy = textEmbeddingModelConfig.getTruncationStrategy();
+                        if (maxSequenceLength != null) {
+                            arguments.put(TokenizerHelper.MAX_SEQUENCE_LENGTH, maxSequenceLength);
+                        }
+                        if (truncationStrategy != null) {
+                            arguments.put(TokenizerHelper.TRUNCATION_STRATEGY, truncationStrategy.name());
+                        }
                         Criteria.Builder<Input, Output> criteriaBuilder = Criteria.builder()
                                 .setTypes(Input.class, Output.class)
                                 .optApplication(Application.UNDEFINED)
@@ -188,37 +243,57 @@ public class TextEmbeddingModel implements Predictable {
                                 .optEngine(engine)
                                 .optDevice(devices[i])
                                 .optModelPath(modelPath);
-                        TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
                         TextEmbeddingModelConfig.FrameworkType transformersType = textEmbeddingModelConfig.getFrameworkType();
                         if (ONNX_ENGINE.equals(engine)) { //ONNX
-                            criteriaBuilder.optTranslator(new ONNXSentenceTransformerTextEmbeddingTranslator());
+                            // ONNX Runtime creates thread pools per session, so thread counts apply to this model only.
+                            criteriaBuilder.optOption("intraOpNumThreads", String.valueOf(intraOpNumThreads));
+                            criteriaBuilder.optOption("interOpNumThreads", String.valueOf(interOpNumThreads));
+                            addOnnxSessionOptions(criteriaBuilder, textEmbeddingModelConfig);
+                            criteriaBuilder.optTranslator(new ONNXSentenceTransformerTextEmbeddingTranslator(maxSequenceLength, truncationStrategy));
                         } else { // pytorch
                             if (transformersType == SENTENCE_TRANSFORMERS) {
-                                criteriaBuilder.optTranslator(new SentenceTransformerTextEmbeddingTranslator());
+                                criteriaBuilder.optTranslator(new SentenceTransformerTextEmbeddingTranslator(maxSequenceLength, truncationStrategy));
                             } else {
                                 criteriaBuilder.optTranslatorFactory(new HuggingfaceTextEmbeddingTranslatorFactory());
                             }
                         }
                         Criteria<Input, Output> criteria = criteriaBuilder.build();
                         ZooModel<Input, Output> model = criteria.loadModel();
-                        Predictor<Input, Output> predictor = model.newPredictor();
-                        predictorList.add(predictor);
                         modelList.add(model);
+                        List<Predictor<Input, Output>> predictors = new ArrayList<>();
+                        for (int j = 0; j < predictorsPerDevice; j++) {
+                            Predictor<Input, Output> predictor = model.newPredictor();
+                            predictorList.add(predictor);
+                            predictors.add(predictor);
+                        }
+                        devicePredictors.add(predictors);
 
                         Input input = new Input();
                         input.add("warm up sentence");
                         // First request takes longer time. Predict once to warm up model.
-                        predictor.predict(input);
+                        predictors.get(0).predict(input);
                     }
                     if (predictorList.size() > 0) {
-                        this.predictors = predictorList.toArray(new Predictor[0]);
+                        // Interleave predictors of devices, so requests are spread round-robin on all devices.
+                        List<Predictor<Input, Output>> poolPredictors = new ArrayList<>();
+                        for (int j = 0; j < predictorsPerDevice; j++) {
+                            for (List<Predictor<Input, Output>> predictors : devicePredictors) {
+                                poolPredictors.add(predictors.get(j));
+                            }
+                        }
+                        this.predictorPool = new PredictorPool<>(poolPredictors);
                         predictorList.clear();
                     }
                     if (modelList.size() > 0) {
                         this.models = modelList.toArray(new ZooModel[0]);
                         modelList.clear();
                     }
-                    log.info("Load model {} successfully on {} devices", modelId, devices.length);
+                    long residentSetSizeAfterLoad = getResidentSetSizeInBytes();
+                    long residentSetSizeGrowth = residentSetSizeBeforeLoad < 0 || residentSetSizeAfterLoad < 0
+                            ? 0 : residentSetSizeAfterLoad - residentSetSizeBeforeLoad;
+                    nativeMemoryEstimate = Math.max(residentSetSizeGrowth, sizeOfModelFiles(modelPath) * devices.length);
+                    log.info("Load model {} successfully on {} devices with {} predictors, estimated native memory {} bytes",
+                            modelId, devices.length, predictorPool.getSize(), nativeMemoryEstimate);
                     return null;
                 } catch (Exception e) {
                     String errorMessage = "Failed to load model " + modelId;
@@ -245,6 +320,139 @@ public class TextEmbeddingModel implements Predictable {
         }
     }
 
+    /**
+     * Extract model zip file into folder which model is loaded from. Model file is renamed to model name while it's
+     * extracted, so every file is written only once. Model zip file kept in node artifact cache is extracted next to it
+     * in folder keyed by model content hash, and the folder is reused when same model content is loaded again. Other
+     * model zip files are extracted into model cache folder, which is deleted when model is closed.
+     * @param modelZipFile model zip file
+     * @param modelId model id
+     * @param modelName model name
+     * @param version model version
+     * @param modelContentHash model content hash, null if unknown
+     * @return folder of extracted model files
+     * @throws IOException if failed to extract model zip file
+     */
+    private Path extractModelZipFile(File modelZipFile, String modelId, String modelName, String version, String modelContentHash) throws IOException {
+        Path artifactPath = modelContentHash == null ? null : mlEngine.getModelArtifactCacheRootPath().resolve(modelContentHash + ".zip");
+        boolean cached = artifactPath != null && artifactPath.toAbsolutePath().equals(modelZipFile.toPath().toAbsolutePath());
+        Path modelPath = cached ? mlEngine.getExtractedModelPath(modelContentHash, modelName) : mlEngine.getModelCachePath(modelId, modelName, version);
+        if (cached && Files.isDirectory(modelPath)) {
+            log.debug("Reuse extracted model files of model {} in {}", modelId, modelPath);
+            return modelPath;
+        }
+        Files.createDirectories(modelPath.getParent());
+        // Extract into staging folder and move it into place, so a partially extracted folder is never loaded.
+        Path stagingPath = Files.createTempDirectory(modelPath.getParent(), ".extracting");
+        try {
+            unzipModelFiles(modelZipFile, stagingPath, modelName);
+            if (!cached) {
+                deleteFileQuietly(modelPath);
+            }
+            try {
+                Files.move(stagingPath, modelPath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                if (!cached || !Files.isDirectory(modelPath)) {
+                    throw e;
+                }
+                // Same model content extracted by another model concurrently.
+                log.debug("Model files of model {} already extracted in {}", modelId, modelPath);
+            }
+        } finally {
+            deleteFileQuietly(stagingPath);
+        }
+        return modelPath;
+    }
+
+    private long sizeOfModelFiles(Path modelPath) throws IOException {
+        try (Stream<Path> files = Files.walk(modelPath)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private void unzipModelFiles(File modelZipFile, Path targetPath, String modelName) throws IOException {
+        boolean findModelFile = false;
+        try (ZipFile zipFile = new ZipFile(modelZipFile)) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                Path file = targetPath.resolve(entry.getName()).normalize();
+                if (!file.startsWith(targetPath)) {
+                    throw new IllegalArgumentException("invalid model zip entry: " + entry.getName());
+                }
+                if (entry.isDirectory()) {
+                    Files.createDirectories(file);
+                    continue;
+                }
+                String name = file.getFileName().toString();
+                if (targetPath.equals(file.getParent()) && (name.endsWith(PYTORCH_FILE_EXTENSION) || name.endsWith(ONNX_FILE_EXTENSION))) {
+                    if (findModelFile) {
+                        throw new IllegalArgumentException("found multiple models");
+                    }
+                    findModelFile = true;
+                    file = targetPath.resolve(modelName + name.substring(name.lastIndexOf(".")));
+                }
+                Files.createDirectories(file.getParent());
+                try (InputStream inputStream = zipFile.getInputStream(entry)) {
+                    Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add ONNX Runtime session options of model config. Graph optimization runs once when session created at load time.
+     * @param criteriaBuilder criteria builder
+     * @param modelConfig text embedding model config
+     */
+    private void addOnnxSessionOptions(Criteria.Builder<Input, Output> criteriaBuilder, TextEmbeddingModelConfig modelConfig) {
+        if (modelConfig.getOnnxOptimizationLevel() != null) {
+            criteriaBuilder.optOption("optLevel", modelConfig.getOnnxOptimizationLevel().name());
+        }
+        if (modelConfig.getOnnxExecutionMode() != null) {
+            criteriaBuilder.optOption("executionMode", modelConfig.getOnnxExecutionMode().name());
+        }
+        if (modelConfig.getOnnxCpuArenaAllocator() != null) {
+            criteriaBuilder.optOption("cpuArenaAllocator", String.valueOf(modelConfig.getOnnxCpuArenaAllocator()));
+        }
+        if (modelConfig.getOnnxMemoryPatternOptimization() != null) {
+            criteriaBuilder.optOption("memoryPatternOptimization", String.valueOf(modelConfig.getOnnxMemoryPatternOptimization()));
+        }
+    }
+
+    /**
+     * Check thread count of PyTorch model matches node level value. PyTorch engine threads are set once per process,
+     * so thread count can't be overridden per model.
+     * @param name thread type name used in error message
+     * @param modelValue thread count resolved for model
+     * @param engineValue node level thread count
+     */
+    private void checkPyTorchNumThreads(String name, int modelValue, int engineValue) {
+        if (modelValue != engineValue) {
+            throw new IllegalArgumentException("PyTorch " + name + " num threads are shared by all models on node, model value "
+                    + modelValue + " differs from node value " + engineValue + ", change node setting and restart node instead");
+        }
+    }
+
+    /**
+     * Resolve inference thread count of model. Model config overrides node level default.
+     * @param name thread type name used in error message
+     * @param modelValue thread count configured in model config, null if not configured
+     * @param defaultValue node level default thread count
+     * @return thread count
+     */
+    private int resolveNumThreads(String name, Integer modelValue, int defaultValue) {
+        int numThreads = modelValue != null ? modelValue : defaultValue;
+        int processors = Runtime.getRuntime().availableProcessors();
+        if (numThreads <= 0) {
+            throw new IllegalArgumentException(name + " num threads must be positive");
+        }
+        if (numThreads > processors) {
+            throw new IllegalArgumentException(name + " num threads " + numThreads + " exceeds available processors " + processors);
+        }
+        return numThreads;
+    }
+
     private void closePredictors(Predictor[] predictors) {
         log.debug("will close {} predictor for model {}", predictors.length, modelId);
         for (Predictor<Input, Output> predictor : predictors) {
@@ -263,26 +471,37 @@ public class TextEmbeddingModel implements Predictable {
         try {
             return AccessController.doPrivileged((PrivilegedExceptionAction<ModelTensorOutput>) () -> {
                 Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
-                int currentDevice = nextDevice.getAndIncrement();
-                if (currentDevice > devices.length - 1) {
-                    currentDevice = currentDevice % devices.length;
-                    nextDevice.set(currentDevice + 1);
-                }
-                if (predictors == null) {
+                PredictorPool<Input, Output> pool = predictorPool;
+                if (pool == null) {
                     throw new MLException("model not loaded.");
                 }
-                List<ModelTensors> tensorOutputs = new ArrayList<>();
-                Output output;
                 TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) inputDataSet;
                 ModelResultFilter resultFilter = textDocsInput.getResultFilter();
-                for (String doc : textDocsInput.getDocs()) {
-                    Input input = new Input();
-                    input.add(doc);
-                    log.debug("run text embedding predict for model {} on device {}", modelId, devices[currentDevice]);
-                    output = predictors[currentDevice].predict(input);
-                    tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
+                List<String> docs = textDocsInput.getDocs();
+                ModelTensors[] tensorOutputs = new ModelTensors[docs.size()];
+                Integer[] order = sortByLength(docs);
+                Predictor<Input, Output> predictor = pool.checkout();
+                try {
+                    // Run docs in batches, docs of one batch are padded to same length and run in one forward pass.
+                    // Docs are batched in length order, so each batch is padded to a length close to its docs' length.
+                    for (int start = 0; start < order.length; start += batchSize) {
+                        int end = Math.min(start + batchSize, order.length);
+                        List<Input> inputs = new ArrayList<>();
+                        for (int i = start; i < end; i++) {
+                            Input input = new Input();
+                            input.add(docs.get(order[i]));
+                            inputs.add(input);
+                        }
+                        log.debug("run text embedding predict for model {} with batch size {}", modelId, inputs.size());
+                        List<Output> outputs = predictor.batchPredict(inputs);
+                        for (int i = start; i < end; i++) {
+                            tensorOutputs[order[i]] = parseModelTensorOutput(outputs.get(i - start), resultFilter);
+                        }
+                    }
+                } finally {
+                    pool.release(predictor);
                 }
-                return new ModelTensorOutput(tensorOutputs);
+                return new ModelTensorOutput(Arrays.asList(tensorOutputs));
             });
         } catch (PrivilegedActionException e) {
             String errorMsg = "Failed to inference text embedding";
@@ -291,12 +510,42 @@ public class TextEmbeddingModel implements Predictable {
         }
     }
 
+    /**
+     * Sort doc indices by doc length. Text length is used as cheap estimate of token count,
+     * tokenizing docs twice would cost more than padding saved.
+     * @param docs input docs
+     * @return doc indices ordered by doc length
+     */
+    private Integer[] sortByLength(List<String> docs) {
+        Integer[] order = new Integer[docs.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        if (docs.size() > batchSize) {
+            Arrays.sort(order, Comparator.comparingInt(i -> docs.get(i).length()));
+        }
+        return order;
+    }
+
+    /**
+     * Get predictor pool of loaded model.
+     * @return predictor pool, null if model not loaded
+     */
+    public PredictorPool<Input, Output> getPredictorPool() {
+        return predictorPool;
+    }
+
     protected ModelTensors parseModelTensorOutput(Output output, ModelResultFilter resultFilter) {
         if (output == null) {
             throw new MLException("No output generated");
         }
-        byte[] bytes = output.getData().getAsBytes();
-        ModelTensors tensorOutput = ModelTensors.fromBytes(bytes);
+        BytesSupplier data = output.getData();
+        ModelTensors tensorOutput;
+        if (data instanceof ModelTensorsSupplier) {
+            tensorOutput = ((ModelTensorsSupplier) data).getModelTensors();
+        } else {
+            tensorOutput = ModelTensors.fromBytes(data.getAsBytes());
+        }
         if (resultFilter != null) {
             tensorOutput.filter(resultFilter);
         }
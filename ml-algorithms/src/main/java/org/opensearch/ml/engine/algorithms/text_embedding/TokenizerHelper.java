@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig.TruncationStrategy;
+
+import java.util.Map;
+
+/**
+ * Apply max sequence length of text embedding model to tokenizer, so one long doc can't produce huge tensor.
+ */
+public final class TokenizerHelper {
+    public static final String MAX_SEQUENCE_LENGTH = "max_sequence_length";
+    public static final String TRUNCATION_STRATEGY = "truncation_strategy";
+
+    private TokenizerHelper() {}
+
+    /**
+     * Configure tokenizer to truncate docs to max sequence length.
+     * @param builder tokenizer builder
+     * @param maxSequenceLength max sequence length, no limit if null
+     * @param truncationStrategy truncation strategy, truncate if null
+     * @return tokenizer builder
+     */
+    public static HuggingFaceTokenizer.Builder configure(HuggingFaceTokenizer.Builder builder, Integer maxSequenceLength,
+                                                         TruncationStrategy truncationStrategy) {
+        if (maxSequenceLength != null && truncationStrategy != TruncationStrategy.REJECT) {
+            builder.optTruncation(true).optMaxLength(maxSequenceLength);
+        }
+        return builder;
+    }
+
+    /**
+     * Check doc is not longer than max sequence length. Only REJECT strategy may exceed it, as tokenizer truncates
+     * docs for other strategies. Failure of one doc fails the whole predict request.
+     * @param encoding encoding of doc
+     * @param maxSequenceLength max sequence length, no limit if null
+     */
+    public static void checkSequenceLength(Encoding encoding, Integer maxSequenceLength) {
+        if (maxSequenceLength != null && encoding.getIds().length > maxSequenceLength) {
+            throw new IllegalArgumentException("doc has " + encoding.getIds().length
+                    + " tokens, exceeds max sequence length " + maxSequenceLength);
+        }
+    }
+
+    /**
+     * Get max sequence length from model arguments.
+     * @param arguments model arguments
+     * @return max sequence length, null if not set
+     */
+    public static Integer maxSequenceLength(Map<String, ?> arguments) {
+        Object value = arguments == null ? null : arguments.get(MAX_SEQUENCE_LENGTH);
+        return value == null ? null : Integer.valueOf(value.toString());
+    }
+
+    /**
+     * Get truncation strategy from model arguments.
+     * @param arguments model arguments
+     * @return truncation strategy, null if not set
+     */
+    public static TruncationStrategy truncationStrategy(Map<String, ?> arguments) {
+        Object value = arguments == null ? null : arguments.get(TRUNCATION_STRATEGY);
+        return value == null ? null : TruncationStrategy.from(value.toString());
+    }
+}
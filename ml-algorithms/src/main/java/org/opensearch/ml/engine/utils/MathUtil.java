@@ -1,7 +1,12 @@
 package org.opensearch.ml.engine.utils;
 
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+
 public class MathUtil {
+    // Number of rows computed in one block, bounds memory of per block buffers.
+    public static final int ROW_BLOCK_SIZE = 4096;
+
     public static <T, C extends Number> int findNearest(T query, Iterable<T> base, BiFunction<T,T,C> dist) {
         int index = -1;
         double minValue = Double.MAX_VALUE;
@@ -18,4 +23,17 @@ public class MathUtil {
         
         return index;
     }
+
+    /**
+     * Split rows into blocks of ROW_BLOCK_SIZE rows and process blocks one by one in caller thread, so memory of
+     * per block buffers is bounded. Blocks are not run in common fork join pool, predict already runs in ML thread
+     * pool which is sized with node processors.
+     * @param numRows number of rows
+     * @param blockConsumer consumer of block which accepts start row (inclusive) and end row (exclusive)
+     */
+    public static void forEachRowBlock(int numRows, BiConsumer<Integer, Integer> blockConsumer) {
+        for (int fromRow = 0; fromRow < numRows; fromRow += ROW_BLOCK_SIZE) {
+            blockConsumer.accept(fromRow, Math.min(numRows, fromRow + ROW_BLOCK_SIZE));
+        }
+    }
 }
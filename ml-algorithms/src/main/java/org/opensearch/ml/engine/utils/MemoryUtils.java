@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A util class to measure memory of current process.
+ */
+@Log4j2
+public class MemoryUtils {
+    private static final Path PROCESS_STATUS_PATH = Path.of("/proc/self/status");
+    private static final String RESIDENT_SET_SIZE_PREFIX = "VmRSS:";
+
+    /**
+     * Get resident set size of current process, which includes native memory allocated by deep learning engines.
+     * Only supported on Linux.
+     * @return resident set size in bytes, -1 if not supported
+     */
+    public static long getResidentSetSizeInBytes() {
+        if (!Files.isReadable(PROCESS_STATUS_PATH)) {
+            return -1;
+        }
+        try {
+            List<String> lines = Files.readAllLines(PROCESS_STATUS_PATH, StandardCharsets.UTF_8);
+            return parseResidentSetSize(lines);
+        } catch (IOException | SecurityException e) {
+            log.debug("Failed to read resident set size of process", e);
+            return -1;
+        }
+    }
+
+    /**
+     * Parse resident set size from lines of /proc/self/status, like "VmRSS:    123456 kB".
+     * @param lines lines of process status
+     * @return resident set size in bytes, -1 if not found
+     */
+    static long parseResidentSetSize(List<String> lines) {
+        for (String line : lines) {
+            if (line.startsWith(RESIDENT_SET_SIZE_PREFIX)) {
+                String[] parts = line.substring(RESIDENT_SET_SIZE_PREFIX.length()).trim().split("\\s+");
+                try {
+                    return Long.parseLong(parts[0]) * 1024;
+                } catch (NumberFormatException e) {
+                    log.debug("Failed to parse resident set size: {}", line);
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -5,6 +5,10 @@
 
 package org.opensearch.ml.engine.utils;
 
+import io.protostuff.LinkedBuffer;
+import io.protostuff.ProtostuffIOUtil;
+import io.protostuff.Schema;
+import io.protostuff.runtime.RuntimeSchema;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.io.serialization.ValidatingObjectInputStream;
 import org.opensearch.ml.common.MLModel;
@@ -14,6 +18,8 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.Base64;
 
 @UtilityClass
@@ -30,6 +36,12 @@ public class ModelSerDeSer {
             "[*",
             "com.amazon.randomcutforest.*"
     };
+    // Compact model format: magic bytes and format version, followed by protostuff encoded model.
+    // Java serialization stream starts with 0xACED, so compact model never conflicts with legacy model.
+    private static final byte[] COMPACT_FORMAT_MAGIC = {'O', 'S', 'M', 'L'};
+    public static final byte COMPACT_FORMAT_VERSION = 1;
+    private static final int COMPACT_FORMAT_HEADER_BYTES = COMPACT_FORMAT_MAGIC.length + 1;
+    private static final int SERIALIZATION_BUFFER_BYTES = 512;
 
     public static String serializeToBase64(Object model) {
         byte[] bytes = serialize(model);
@@ -63,6 +75,81 @@ public class ModelSerDeSer {
         return deserialize(decodeBytes);
     }
 
+    public static String serializeCompactToBase64(Object model) {
+        return encodeBase64(serializeCompact(model));
+    }
+
+    /**
+     * Serialize model to compact format with protostuff schema of model class. Model class should only
+     * have primitive arrays, strings and nested POJOs as fields, like centroids and weights of model.
+     * @param model model to serialize
+     * @return serialized model with compact format header
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> byte[] serializeCompact(T model) {
+        Schema<T> schema = getSchema((Class<T>) model.getClass());
+        LinkedBuffer buffer = LinkedBuffer.allocate(SERIALIZATION_BUFFER_BYTES);
+        byte[] body = AccessController.doPrivileged((PrivilegedAction<byte[]>) () -> ProtostuffIOUtil.toByteArray(model, schema, buffer));
+        byte[] bytes = new byte[COMPACT_FORMAT_HEADER_BYTES + body.length];
+        System.arraycopy(COMPACT_FORMAT_MAGIC, 0, bytes, 0, COMPACT_FORMAT_MAGIC.length);
+        bytes[COMPACT_FORMAT_MAGIC.length] = COMPACT_FORMAT_VERSION;
+        System.arraycopy(body, 0, bytes, COMPACT_FORMAT_HEADER_BYTES, body.length);
+        return bytes;
+    }
+
+    public static boolean isCompact(byte[] modelBin) {
+        if (modelBin == null || modelBin.length < COMPACT_FORMAT_HEADER_BYTES) {
+            return false;
+        }
+        for (int i = 0; i < COMPACT_FORMAT_MAGIC.length; i++) {
+            if (modelBin[i] != COMPACT_FORMAT_MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deserialize model which may be serialized in compact format or in legacy Java serialization format.
+     * Models trained before compact format was introduced are still stored with Java serialization.
+     * @param modelBin serialized model
+     * @param compactClass model class of compact format
+     * @return instance of compact class if model is in compact format, otherwise the Java deserialized model
+     */
+    public static Object deserialize(byte[] modelBin, Class<?> compactClass) {
+        if (!isCompact(modelBin)) {
+            return deserialize(modelBin);
+        }
+        return deserializeCompact(modelBin, compactClass);
+    }
+
+    public static Object deserialize(MLModel model, Class<?> compactClass) {
+        return deserialize(decodeBase64(model.getContent()), compactClass);
+    }
+
+    private static <T> T deserializeCompact(byte[] modelBin, Class<T> compactClass) {
+        byte version = modelBin[COMPACT_FORMAT_MAGIC.length];
+        if (version > COMPACT_FORMAT_VERSION) {
+            throw new ModelSerDeSerException("Unsupported model format version: " + version);
+        }
+        Schema<T> schema = getSchema(compactClass);
+        T model = schema.newMessage();
+        try {
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                ProtostuffIOUtil.mergeFrom(modelBin, COMPACT_FORMAT_HEADER_BYTES, modelBin.length - COMPACT_FORMAT_HEADER_BYTES, model, schema);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw new ModelSerDeSerException("Failed to deserialize model.", e);
+        }
+        return model;
+    }
+
+    private static <T> Schema<T> getSchema(Class<T> clazz) {
+        // Runtime schema is cached by protostuff after first creation.
+        return AccessController.doPrivileged((PrivilegedAction<Schema<T>>) () -> RuntimeSchema.getSchema(clazz));
+    }
+
     public static byte[] decodeBase64(String base64Str) {
         return Base64.getDecoder().decode(base64Str);
     }
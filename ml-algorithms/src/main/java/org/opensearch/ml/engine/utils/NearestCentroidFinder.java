@@ -0,0 +1,346 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import org.opensearch.ml.common.dataframe.DataFrame;
+
+/**
+ * Find nearest centroid of rows. Centroids are stored as one flat row-major array, one row per centroid, and
+ * distances are computed with primitive loops, so no distance is boxed.
+ * <p>
+ * Precision follows centroids: finder of double centroids reads features as double, like Tribuo KMeans, so large
+ * magnitude features like epoch millis keep their precision. Finder of float centroids reads features as float,
+ * like RCF summarizer.
+ */
+public class NearestCentroidFinder {
+    public enum Distance {
+        L1,
+        L2,
+        L_INFINITY,
+        COSINE
+    }
+
+    // Only one of centroids and floatCentroids is set.
+    private final double[] centroids;
+    private final float[] floatCentroids;
+    private final int dimension;
+    private final int numCentroids;
+    private final Distance distance;
+    // Only used by cosine distance
+    private final double[] centroidNorms;
+
+    public NearestCentroidFinder(float[][] centroids, Distance distance) {
+        this(flatten(centroids), centroids.length == 0 ? 0 : centroids[0].length, distance);
+    }
+
+    /**
+     * Create finder of double centroids, features are read as double.
+     * @param centroids flat row-major centroids
+     * @param dimension dimension of centroid
+     * @param distance distance type
+     */
+    public NearestCentroidFinder(double[] centroids, int dimension, Distance distance) {
+        this.centroids = centroids;
+        this.floatCentroids = null;
+        this.dimension = dimension;
+        this.numCentroids = dimension == 0 ? 0 : centroids.length / dimension;
+        this.distance = distance;
+        this.centroidNorms = distance == Distance.COSINE ? norms(centroids, numCentroids, dimension) : null;
+    }
+
+    /**
+     * Create finder of float centroids, features are read as float.
+     * @param centroids flat row-major centroids
+     * @param dimension dimension of centroid
+     * @param distance distance type
+     */
+    public NearestCentroidFinder(float[] centroids, int dimension, Distance distance) {
+        this.centroids = null;
+        this.floatCentroids = centroids;
+        this.dimension = dimension;
+        this.numCentroids = dimension == 0 ? 0 : centroids.length / dimension;
+        this.distance = distance;
+        this.centroidNorms = distance == Distance.COSINE ? norms(centroids, numCentroids, dimension) : null;
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Find nearest centroid of one row.
+     * @param featureMatrix flat row-major feature values
+     * @param offset offset of row in feature matrix
+     * @return index of nearest centroid, -1 if no centroid or distances are not comparable
+     */
+    public int findNearest(float[] featureMatrix, int offset) {
+        if (floatCentroids == null) {
+            double[] row = new double[dimension];
+            for (int j = 0; j < dimension; j++) {
+                row[j] = featureMatrix[offset + j];
+            }
+            return findNearest(row, 0);
+        }
+        int nearest = -1;
+        double minDistance = Double.POSITIVE_INFINITY;
+        double featureNorm = distance == Distance.COSINE ? norm(featureMatrix, offset, dimension) : 0;
+        for (int c = 0; c < numCentroids; c++) {
+            int centroidOffset = c * dimension;
+            double d;
+            switch (distance) {
+                case L1:
+                    d = l1(featureMatrix, offset, centroidOffset);
+                    break;
+                case L_INFINITY:
+                    d = lInfinity(featureMatrix, offset, centroidOffset);
+                    break;
+                case COSINE:
+                    d = 1 - dot(featureMatrix, offset, centroidOffset) / (featureNorm * centroidNorms[c]);
+                    break;
+                default:
+                    // Squared L2 distance has same nearest centroid as L2 distance.
+                    d = squaredL2(featureMatrix, offset, centroidOffset);
+                    break;
+            }
+            if (d < minDistance) {
+                minDistance = d;
+                nearest = c;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Find nearest centroid of one row, only supported by finder of double centroids.
+     * @param featureMatrix flat row-major feature values
+     * @param offset offset of row in feature matrix
+     * @return index of nearest centroid, -1 if no centroid or distances are not comparable
+     */
+    public int findNearest(double[] featureMatrix, int offset) {
+        if (centroids == null) {
+            throw new IllegalStateException("Centroids are float, use float feature matrix.");
+        }
+        int nearest = -1;
+        double minDistance = Double.POSITIVE_INFINITY;
+        double featureNorm = distance == Distance.COSINE ? norm(featureMatrix, offset, dimension) : 0;
+        for (int c = 0; c < numCentroids; c++) {
+            int centroidOffset = c * dimension;
+            double d;
+            switch (distance) {
+                case L1:
+                    d = l1(featureMatrix, offset, centroidOffset);
+                    break;
+                case L_INFINITY:
+                    d = lInfinity(featureMatrix, offset, centroidOffset);
+                    break;
+                case COSINE:
+                    d = 1 - dot(featureMatrix, offset, centroidOffset) / (featureNorm * centroidNorms[c]);
+                    break;
+                default:
+                    d = squaredL2(featureMatrix, offset, centroidOffset);
+                    break;
+            }
+            if (d < minDistance) {
+                minDistance = d;
+                nearest = c;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Find nearest centroids of a block of rows.
+     * @param featureMatrix flat row-major feature values of rows
+     * @param numRows number of rows in feature matrix
+     * @param nearest index of nearest centroid of all rows
+     * @param offset index of first row of block in nearest
+     */
+    public void findNearest(float[] featureMatrix, int numRows, int[] nearest, int offset) {
+        for (int i = 0; i < numRows; i++) {
+            nearest[offset + i] = findNearest(featureMatrix, i * dimension);
+        }
+    }
+
+    /**
+     * Find nearest centroids of a block of rows, only supported by finder of double centroids.
+     * @param featureMatrix flat row-major feature values of rows
+     * @param numRows number of rows in feature matrix
+     * @param nearest index of nearest centroid of all rows
+     * @param offset index of first row of block in nearest
+     */
+    public void findNearest(double[] featureMatrix, int numRows, int[] nearest, int offset) {
+        for (int i = 0; i < numRows; i++) {
+            nearest[offset + i] = findNearest(featureMatrix, i * dimension);
+        }
+    }
+
+    /**
+     * Find nearest centroids of all rows of data frame, rows are computed block by block in caller thread.
+     * @param dataFrame features data
+     * @param columnToFeature feature index of each column, see {@link TribuoUtil#mapColumnsToFeatures(DataFrame, String[])}
+     * @return index of nearest centroid of each row
+     */
+    public int[] findNearest(DataFrame dataFrame, int[] columnToFeature) {
+        int[] nearest = new int[dataFrame.size()];
+        MathUtil.forEachRowBlock(nearest.length, (fromRow, toRow) -> {
+            if (centroids != null) {
+                double[] featureMatrix = new double[(toRow - fromRow) * dimension];
+                TribuoUtil.transformRows(dataFrame, columnToFeature, dimension, fromRow, toRow, featureMatrix);
+                findNearest(featureMatrix, toRow - fromRow, nearest, fromRow);
+            } else {
+                float[] featureMatrix = new float[(toRow - fromRow) * dimension];
+                TribuoUtil.transformRows(dataFrame, columnToFeature, dimension, fromRow, toRow, featureMatrix);
+                findNearest(featureMatrix, toRow - fromRow, nearest, fromRow);
+            }
+        });
+        return nearest;
+    }
+
+    /**
+     * Find nearest centroids of all rows of data frame whose columns are centroid dimensions in order.
+     * @param dataFrame features data
+     * @return index of nearest centroid of each row
+     */
+    public int[] findNearest(DataFrame dataFrame) {
+        int numColumns = dataFrame.columnMetas().length;
+        if (numColumns != dimension) {
+            throw new IllegalArgumentException("Dimension of data doesn't match centroids.");
+        }
+        int[] columnToFeature = new int[numColumns];
+        for (int i = 0; i < numColumns; i++) {
+            columnToFeature[i] = i;
+        }
+        return findNearest(dataFrame, columnToFeature);
+    }
+
+    /**
+     * Find nearest centroids of rows, rows are computed block by block in caller thread.
+     * @param rows feature values of rows
+     * @return index of nearest centroid of each row
+     */
+    public int[] findNearest(float[][] rows) {
+        int[] nearest = new int[rows.length];
+        MathUtil.forEachRowBlock(nearest.length, (fromRow, toRow) -> {
+            for (int i = fromRow; i < toRow; i++) {
+                if (rows[i].length != dimension) {
+                    throw new IllegalArgumentException("Dimension of data doesn't match centroids.");
+                }
+                nearest[i] = findNearest(rows[i], 0);
+            }
+        });
+        return nearest;
+    }
+
+    private double l1(float[] features, int offset, int centroidOffset) {
+        double sum = 0;
+        for (int j = 0; j < dimension; j++) {
+            sum += Math.abs(features[offset + j] - floatCentroids[centroidOffset + j]);
+        }
+        return sum;
+    }
+
+    private double l1(double[] features, int offset, int centroidOffset) {
+        double sum = 0;
+        for (int j = 0; j < dimension; j++) {
+            sum += Math.abs(features[offset + j] - centroids[centroidOffset + j]);
+        }
+        return sum;
+    }
+
+    private double squaredL2(float[] features, int offset, int centroidOffset) {
+        double sum = 0;
+        for (int j = 0; j < dimension; j++) {
+            double diff = features[offset + j] - floatCentroids[centroidOffset + j];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private double squaredL2(double[] features, int offset, int centroidOffset) {
+        double sum = 0;
+        for (int j = 0; j < dimension; j++) {
+            double diff = features[offset + j] - centroids[centroidOffset + j];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private double lInfinity(float[] features, int offset, int centroidOffset) {
+        double max = 0;
+        for (int j = 0; j < dimension; j++) {
+            max = Math.max(max, Math.abs(features[offset + j] - floatCentroids[centroidOffset + j]));
+        }
+        return max;
+    }
+
+    private double lInfinity(double[] features, int offset, int centroidOffset) {
+        double max = 0;
+        for (int j = 0; j < dimension; j++) {
+            max = Math.max(max, Math.abs(features[offset + j] - centroids[centroidOffset + j]));
+        }
+        return max;
+    }
+
+    private double dot(float[] features, int offset, int centroidOffset) {
+        double sum = 0;
+        for (int j = 0; j < dimension; j++) {
+            sum += (double) features[offset + j] * floatCentroids[centroidOffset + j];
+        }
+        return sum;
+    }
+
+    private double dot(double[] features, int offset, int centroidOffset) {
+        double sum = 0;
+        for (int j = 0; j < dimension; j++) {
+            sum += features[offset + j] * centroids[centroidOffset + j];
+        }
+        return sum;
+    }
+
+    private static double norm(float[] values, int offset, int dimension) {
+        double sum = 0;
+        for (int j = 0; j < dimension; j++) {
+            sum += (double) values[offset + j] * values[offset + j];
+        }
+        return Math.sqrt(sum);
+    }
+
+    private static double norm(double[] values, int offset, int dimension) {
+        double sum = 0;
+        for (int j = 0; j < dimension; j++) {
+            sum += values[offset + j] * values[offset + j];
+        }
+        return Math.sqrt(sum);
+    }
+
+    private static double[] norms(float[] centroids, int numCentroids, int dimension) {
+        double[] norms = new double[numCentroids];
+        for (int c = 0; c < numCentroids; c++) {
+            norms[c] = norm(centroids, c * dimension, dimension);
+        }
+        return norms;
+    }
+
+    private static double[] norms(double[] centroids, int numCentroids, int dimension) {
+        double[] norms = new double[numCentroids];
+        for (int c = 0; c < numCentroids; c++) {
+            norms[c] = norm(centroids, c * dimension, dimension);
+        }
+        return norms;
+    }
+
+    private static float[] flatten(float[][] centroids) {
+        int dimension = centroids.length == 0 ? 0 : centroids[0].length;
+        float[] flat = new float[centroids.length * dimension];
+        for (int c = 0; c < centroids.length; c++) {
+            if (centroids[c].length != dimension) {
+                throw new IllegalArgumentException("Centroids have different dimensions.");
+            }
+            System.arraycopy(centroids[c], 0, flat, c * dimension, dimension);
+        }
+        return flat;
+    }
+}
@@ -27,8 +27,10 @@ import org.tribuo.regression.Regressor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
@@ -49,6 +51,91 @@ public class TribuoUtil {
         return new Tuple<>(featureNames, featureValues);
     }
 
+    /**
+     * Transform data frame to feature values ordered by model features. Columns which are not model features are
+     * ignored and missing model features are treated as zero, same as Tribuo sparse feature vectors.
+     * @param dataFrame features data
+     * @param featureNames feature names of model
+     * @return feature values of each row, ordered by model features
+     */
+    public static double[][] transformDataFrame(DataFrame dataFrame, String[] featureNames) {
+        int[] columnToFeature = mapColumnsToFeatures(dataFrame, featureNames);
+        double[][] featureValues = new double[dataFrame.size()][];
+        for (int i = 0; i < featureValues.length; i++) {
+            featureValues[i] = new double[featureNames.length];
+            transformRows(dataFrame, columnToFeature, featureNames.length, i, i + 1, featureValues[i]);
+        }
+        return featureValues;
+    }
+
+    /**
+     * Map columns of data frame to model features.
+     * @param dataFrame features data
+     * @param featureNames feature names of model
+     * @return feature index of each column, -1 if column is not model feature
+     */
+    public static int[] mapColumnsToFeatures(DataFrame dataFrame, String[] featureNames) {
+        Map<String, Integer> featureIndices = new HashMap<>();
+        for (int i = 0; i < featureNames.length; i++) {
+            featureIndices.put(featureNames[i], i);
+        }
+        ColumnMeta[] columnMetas = dataFrame.columnMetas();
+        int[] columnToFeature = new int[columnMetas.length];
+        boolean hasFeature = false;
+        for (int i = 0; i < columnMetas.length; i++) {
+            columnToFeature[i] = featureIndices.getOrDefault(columnMetas[i].getName(), -1);
+            hasFeature |= columnToFeature[i] >= 0;
+        }
+        if (!hasFeature) {
+            throw new IllegalArgumentException("No model feature found in prediction data.");
+        }
+        return columnToFeature;
+    }
+
+    /**
+     * Transform rows of data frame to flat row-major feature matrix, missing features are zero.
+     * @param dataFrame features data
+     * @param columnToFeature feature index of each column, see {@link #mapColumnsToFeatures(DataFrame, String[])}
+     * @param numFeatures number of model features
+     * @param fromRow start row (inclusive)
+     * @param toRow end row (exclusive)
+     * @param featureMatrix feature matrix of rows, should have at least (toRow - fromRow) * numFeatures elements
+     */
+    public static void transformRows(DataFrame dataFrame, int[] columnToFeature, int numFeatures, int fromRow, int toRow, double[] featureMatrix) {
+        Arrays.fill(featureMatrix, 0, (toRow - fromRow) * numFeatures, 0);
+        for (int i = fromRow; i < toRow; i++) {
+            Row row = dataFrame.getRow(i);
+            int offset = (i - fromRow) * numFeatures;
+            for (int j = 0; j < columnToFeature.length; j++) {
+                if (columnToFeature[j] >= 0) {
+                    featureMatrix[offset + columnToFeature[j]] = row.getValue(j).doubleValue();
+                }
+            }
+        }
+    }
+
+    /**
+     * Transform rows of data frame to flat row-major float feature matrix, missing features are zero.
+     * @param dataFrame features data
+     * @param columnToFeature feature index of each column, see {@link #mapColumnsToFeatures(DataFrame, String[])}
+     * @param numFeatures number of model features
+     * @param fromRow start row (inclusive)
+     * @param toRow end row (exclusive)
+     * @param featureMatrix feature matrix of rows, should have at least (toRow - fromRow) * numFeatures elements
+     */
+    public static void transformRows(DataFrame dataFrame, int[] columnToFeature, int numFeatures, int fromRow, int toRow, float[] featureMatrix) {
+        Arrays.fill(featureMatrix, 0, (toRow - fromRow) * numFeatures, 0);
+        for (int i = fromRow; i < toRow; i++) {
+            Row row = dataFrame.getRow(i);
+            int offset = (i - fromRow) * numFeatures;
+            for (int j = 0; j < columnToFeature.length; j++) {
+                if (columnToFeature[j] >= 0) {
+                    featureMatrix[offset + columnToFeature[j]] = (float) row.getValue(j).doubleValue();
+                }
+            }
+        }
+    }
+
     public static Tuple<String[], float[][]> transformDataFrameFloat(DataFrame dataFrame) {
         String[] featureNames = Arrays.stream(dataFrame.columnMetas()).map(ColumnMeta::getName).toArray(String[]::new);
         float[][] featureValues = new float[dataFrame.size()][];
@@ -10,17 +10,43 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.input.parameter.regression.LinearRegressionParams;
+import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.algorithms.clustering.KMeans;
+import org.opensearch.ml.engine.algorithms.clustering.SerializableKMeansModel;
+import org.opensearch.ml.engine.algorithms.clustering.SerializableSummary;
 import org.opensearch.ml.engine.algorithms.regression.LinearRegression;
+import org.opensearch.ml.engine.algorithms.regression.SerializableLinearModel;
+import org.opensearch.ml.engine.contants.TribuoOutputType;
+import org.opensearch.ml.engine.exceptions.ModelSerDeSerException;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
+import org.opensearch.ml.engine.utils.TribuoUtil;
+import org.tribuo.MutableDataset;
+import org.tribuo.Prediction;
+import org.tribuo.clustering.ClusterID;
+import org.tribuo.clustering.ClusteringFactory;
 import org.tribuo.clustering.kmeans.KMeansModel;
+import org.tribuo.clustering.kmeans.KMeansTrainer;
+import org.tribuo.math.optimisers.SGD;
+import org.tribuo.regression.RegressionFactory;
+import org.tribuo.regression.Regressor;
 import org.tribuo.regression.sgd.linear.LinearSGDModel;
+import org.tribuo.regression.sgd.linear.LinearSGDTrainer;
+import org.tribuo.regression.sgd.objectives.SquaredLoss;
 
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.opensearch.ml.engine.helper.MLTestHelper.concstructDataFrameInputDataSet;
+import static org.opensearch.ml.engine.helper.MLTestHelper.constructTestDataFrame;
 
 public class ModelSerDeSerTest {
     @Rule
@@ -32,8 +58,10 @@ public class ModelSerDeSerTest {
         KMeans kMeans = new KMeans(params);
         MLModel model = kMeans.train(MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(concstructDataFrameInputDataSet(100)).build());
 
-        KMeansModel deserializedModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        SerializableKMeansModel deserializedModel = (SerializableKMeansModel) ModelSerDeSer.deserialize(model, SerializableKMeansModel.class);
         assertNotNull(deserializedModel);
+        assertEquals(2, deserializedModel.getNumCentroids());
+        assertEquals(KMeansParams.DistanceType.EUCLIDEAN.name(), deserializedModel.getDistanceType());
     }
 
     @Test
@@ -42,8 +70,73 @@ public class ModelSerDeSerTest {
         LinearRegression linearRegression = new LinearRegression(params);
         MLModel model = linearRegression.train(MLInput.builder().algorithm(FunctionName.LINEAR_REGRESSION).inputDataset(concstructDataFrameInputDataSet(100)).build());
 
-        LinearSGDModel deserializedModel = (LinearSGDModel) ModelSerDeSer.deserialize(model);
+        SerializableLinearModel deserializedModel = (SerializableLinearModel) ModelSerDeSer.deserialize(model, SerializableLinearModel.class);
         assertNotNull(deserializedModel);
+        assertArrayEquals(new String[] {"f2"}, deserializedModel.getOutputNames());
+        assertEquals(deserializedModel.getFeatureNames().length, deserializedModel.getWeights().length);
+    }
+
+    @Test
+    public void testModelSerDeSerCompact() {
+        SerializableSummary summary = new SerializableSummary();
+        summary.setSummaryPoints(new float[][] {{1.0f, 2.0f}, {3.0f, 4.0f}});
+        summary.setWeightOfSamples(10.0);
+        byte[] bytes = ModelSerDeSer.serializeCompact(summary);
+        assertTrue(ModelSerDeSer.isCompact(bytes));
+
+        SerializableSummary deserializedSummary = (SerializableSummary) ModelSerDeSer.deserialize(bytes, SerializableSummary.class);
+        assertArrayEquals(summary.getSummaryPoints(), deserializedSummary.getSummaryPoints());
+        assertEquals(10.0, deserializedSummary.getWeightOfSamples(), 0);
+    }
+
+    @Test
+    public void testModelSerDeSerCompact_UnsupportedVersion() {
+        byte[] bytes = ModelSerDeSer.serializeCompact(new SerializableSummary());
+        bytes[4] = ModelSerDeSer.COMPACT_FORMAT_VERSION + 1;
+        thrown.expect(ModelSerDeSerException.class);
+        thrown.expectMessage("Unsupported model format version");
+        ModelSerDeSer.deserialize(bytes, SerializableSummary.class);
+    }
+
+    @Test
+    public void testModelSerDeSerLegacyKMeans() {
+        DataFrame dataFrame = constructTestDataFrame(100);
+        MutableDataset<ClusterID> dataset = TribuoUtil.generateDataset(dataFrame, new ClusteringFactory(), "test", TribuoOutputType.CLUSTERID);
+        KMeansModel kMeansModel = new KMeansTrainer(2, 10, KMeansTrainer.Distance.EUCLIDEAN, 1, 1).train(dataset);
+        byte[] bytes = ModelSerDeSer.serialize(kMeansModel);
+        assertFalse(ModelSerDeSer.isCompact(bytes));
+        assertTrue(ModelSerDeSer.deserialize(bytes, SerializableKMeansModel.class) instanceof KMeansModel);
+
+        MLModel model = MLModel.builder().algorithm(FunctionName.KMEANS).content(ModelSerDeSer.encodeBase64(bytes)).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(new DataFrameInputDataset(dataFrame)).build();
+        DataFrame predictions = ((MLPredictionOutput) new KMeans(null).predict(mlInput, model)).getPredictionResult();
+
+        // Compact model predicts same clusters as Tribuo model
+        SerializableKMeansModel compactModel = new SerializableKMeansModel(kMeansModel, KMeansParams.DistanceType.EUCLIDEAN);
+        int[] clusterIds = compactModel.createNearestCentroidFinder()
+                .findNearest(dataFrame, TribuoUtil.mapColumnsToFeatures(dataFrame, compactModel.getFeatureNames()));
+        List<Prediction<ClusterID>> tribuoPredictions = kMeansModel.predict(dataset);
+        for (int i = 0; i < clusterIds.length; i++) {
+            assertEquals(tribuoPredictions.get(i).getOutput().getID(), clusterIds[i]);
+            assertEquals(tribuoPredictions.get(i).getOutput().getID(), predictions.getRow(i).getValue(0).intValue());
+        }
     }
 
+    @Test
+    public void testModelSerDeSerLegacyLinearRegression() {
+        DataFrame dataFrame = constructTestDataFrame(100);
+        MutableDataset<Regressor> dataset = TribuoUtil.generateDatasetWithTarget(dataFrame, new RegressionFactory(), "test", TribuoOutputType.REGRESSOR, "f2");
+        LinearSGDModel regressionModel = (LinearSGDModel) new LinearSGDTrainer(new SquaredLoss(), SGD.getSimpleSGD(0.01), 10, 1).train(dataset);
+        MLModel model = MLModel.builder().algorithm(FunctionName.LINEAR_REGRESSION).content(ModelSerDeSer.serializeToBase64(regressionModel)).build();
+
+        LinearRegressionParams params = LinearRegressionParams.builder().target("f2").build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.LINEAR_REGRESSION).inputDataset(new DataFrameInputDataset(dataFrame)).build();
+        DataFrame predictions = ((MLPredictionOutput) new LinearRegression(params).predict(mlInput, model)).getPredictionResult();
+
+        List<Prediction<Regressor>> tribuoPredictions = regressionModel.predict(dataset);
+        assertEquals("f2", predictions.columnMetas()[0].getName());
+        for (int i = 0; i < tribuoPredictions.size(); i++) {
+            assertEquals(tribuoPredictions.get(i).getOutput().getValues()[0], predictions.getRow(i).getValue(0).doubleValue(), 1e-9);
+        }
+    }
 }
@@ -16,16 +16,31 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
+import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
+import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
+import static org.opensearch.ml.engine.ModelHelper.TOTAL_CHUNKS;
+import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 
 public class ModelHelperTest {
     @Rule
@@ -48,19 +63,50 @@ public class ModelHelperTest {
 
     @Test
     public void testDownloadAndSplit_UrlFailure() {
-        modelHelper.downloadAndSplit(modelId, "model_name", "1", "http://testurl", actionListener);
+        modelHelper.downloadAndSplit(modelId, "model_name", "1", "http://testurl", (chunkNumber, chunk) -> {}, actionListener);
         ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(actionListener).onFailure(argumentCaptor.capture());
         assertEquals(PrivilegedActionException.class, argumentCaptor.getValue().getClass());
     }
 
     @Test
-    public void testDownloadAndSplit() throws URISyntaxException {
+    public void testDownloadAndSplit_StoredEntryWithDataDescriptor() throws IOException {
+        // Local file header of STORED entry with data descriptor flag, as written by some streaming zip tools.
+        ByteBuffer header = ByteBuffer.allocate(30 + 9).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0x04034b50).putShort((short) 20).putShort((short) 0x08).putShort((short) 0);
+        header.putShort((short) 0).putShort((short) 0).putInt(0).putInt(0).putInt(0);
+        header.putShort((short) 9).putShort((short) 0).put("model.pt".getBytes(StandardCharsets.UTF_8)).put((byte) 'x');
+        Path zipFile = Files.createTempFile("stored_data_descriptor", ".zip");
+        try {
+            Files.write(zipFile, header.array());
+            modelHelper.downloadAndSplit(modelId, "model_name", "1", zipFile.toUri().toString(), (chunkNumber, chunk) -> {}, actionListener);
+            ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+            verify(actionListener).onFailure(argumentCaptor.capture());
+            assertEquals(IllegalArgumentException.class, argumentCaptor.getValue().getClass());
+            assertTrue(argumentCaptor.getValue().getMessage().contains("STORED"));
+        } finally {
+            Files.deleteIfExists(zipFile);
+        }
+    }
+
+    @Test
+    public void testDownloadAndSplit() throws URISyntaxException, IOException {
         String modelUrl = getClass().getResource("traced_small_model.zip").toURI().toString();
-        modelHelper.downloadAndSplit(modelId, "model_name", "1", modelUrl, actionListener);
+        ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+        List<Integer> chunkNumbers = new ArrayList<>();
+        modelHelper.downloadAndSplit(modelId, "model_name", "1", modelUrl, (chunkNumber, chunk) -> {
+            chunkNumbers.add(chunkNumber);
+            chunks.write(chunk);
+        }, actionListener);
         ArgumentCaptor<Map> argumentCaptor = ArgumentCaptor.forClass(Map.class);
         verify(actionListener).onResponse(argumentCaptor.capture());
         assertNotNull(argumentCaptor.getValue());
         assertNotEquals(0, argumentCaptor.getValue().size());
+
+        File modelFile = new File(getClass().getResource("traced_small_model.zip").toURI());
+        assertArrayEquals(Files.readAllBytes(modelFile.toPath()), chunks.toByteArray());
+        assertEquals(chunkNumbers.size(), argumentCaptor.getValue().get(TOTAL_CHUNKS));
+        assertEquals(modelFile.length(), argumentCaptor.getValue().get(MODEL_SIZE_IN_BYTES));
+        assertEquals(calculateFileHash(modelFile), argumentCaptor.getValue().get(MODEL_FILE_HASH));
     }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import ai.djl.inference.Predictor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.exception.MLException;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class PredictorPoolTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private Predictor<String, String> predictor1;
+    private Predictor<String, String> predictor2;
+    private PredictorPool<String, String> pool;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        predictor1 = mock(Predictor.class);
+        predictor2 = mock(Predictor.class);
+        pool = new PredictorPool<>(Arrays.asList(predictor1, predictor2), 50);
+    }
+
+    @Test
+    public void checkoutAndRelease() throws InterruptedException {
+        Predictor<String, String> predictor = pool.checkout();
+        assertSame(predictor1, predictor);
+        assertEquals(1, pool.getInUse());
+        pool.release(predictor);
+        assertEquals(0, pool.getInUse());
+        assertEquals(1, pool.getCheckoutCount());
+    }
+
+    @Test
+    public void checkout_Timeout() throws InterruptedException {
+        pool.checkout();
+        pool.checkout();
+        exceptionRule.expect(MLException.class);
+        exceptionRule.expectMessage("Timed out waiting for idle predictor after 50ms");
+        pool.checkout();
+    }
+
+    @Test
+    public void checkout_Closed() throws InterruptedException {
+        pool.close();
+        exceptionRule.expect(MLException.class);
+        exceptionRule.expectMessage("Predictor pool is closed");
+        pool.checkout();
+    }
+
+    @Test
+    public void close_OnlyIdlePredictors() throws InterruptedException {
+        Predictor<String, String> predictor = pool.checkout();
+        pool.close();
+        assertTrue(pool.isClosed());
+        verify(predictor1, never()).close();
+        verify(predictor2, times(1)).close();
+
+        pool.release(predictor);
+        verify(predictor1, times(1)).close();
+        verify(predictor2, times(1)).close();
+        assertEquals(0, pool.getInUse());
+    }
+
+    @Test
+    public void constructor_EmptyPredictors() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("empty predictors");
+        new PredictorPool<String, String>(Arrays.asList());
+    }
+}
@@ -5,7 +5,9 @@
 
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
+import ai.djl.modality.Output;
 import org.junit.After;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,6 +21,7 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
@@ -28,20 +31,34 @@ import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.utils.FileUtils;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.FrameworkType.HUGGINGFACE_TRANSFORMERS;
 import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS;
+import static org.opensearch.ml.engine.ModelHelper.PYTORCH_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.MODEL_ZIP_FILE;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.PREDICTOR_POOL_SIZE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.SENTENCE_EMBEDDING;
 
 
@@ -138,6 +155,137 @@ public class TextEmbeddingModelTest {
         textEmbeddingModel.close();
     }
 
+    @Test
+    public void initModel_CachedModelZipFile_ReuseExtractedModelFiles() throws IOException {
+        String modelContentHash = "abc123";
+        Path cachedModelZipFile = mlEngine.getModelArtifactCacheRootPath().resolve(modelContentHash + ".zip");
+        Files.createDirectories(cachedModelZipFile.getParent());
+        Files.copy(modelZipFile.toPath(), cachedModelZipFile);
+        Map<String, Object> params = new HashMap<>(this.params);
+        params.put(MODEL_ZIP_FILE, cachedModelZipFile.toFile());
+        MLModel cachedModel = model.toBuilder().modelContentHash(modelContentHash).build();
+        Path extractedModelPath = mlEngine.getExtractedModelPath(modelContentHash, model.getName());
+
+        textEmbeddingModel.initModel(cachedModel, params);
+        assertTrue(Files.isRegularFile(extractedModelPath.resolve(model.getName() + ".pt")));
+        assertFalse(Files.exists(mlEngine.getModelCachePath(model.getModelId())));
+        assertEquals(0L, textEmbeddingModel.getHeapMemoryEstimate().longValue());
+        assertTrue(textEmbeddingModel.getNativeMemoryEstimate() >= Files.size(extractedModelPath.resolve(model.getName() + ".pt")));
+        textEmbeddingModel.close();
+        assertNull(textEmbeddingModel.getNativeMemoryEstimate());
+        assertTrue(Files.isDirectory(extractedModelPath));
+
+        TextEmbeddingModel reloadedModel = new TextEmbeddingModel();
+        reloadedModel.initModel(cachedModel, params);
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+        ModelTensorOutput output = (ModelTensorOutput)reloadedModel.predict(mlInput);
+        assertEquals(2, output.getMlModelOutputs().size());
+        reloadedModel.close();
+    }
+
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_BatchSize() {
+        TextEmbeddingModelConfig batchModelConfig = modelConfig.toBuilder().batchSize(2).build();
+        MLModel batchModel = model.toBuilder().modelConfig(batchModelConfig).build();
+        textEmbeddingModel.initModel(batchModel, params);
+        TextDocsInputDataSet textDocsInputDataSet = TextDocsInputDataSet.builder()
+                .docs(Arrays.asList("today is sunny", "That is a happy dog", "a much longer sentence to check padding inside one batch"))
+                .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(textDocsInputDataSet).build();
+        ModelTensorOutput output = (ModelTensorOutput)textEmbeddingModel.predict(mlInput);
+        List<ModelTensors> mlModelOutputs = output.getMlModelOutputs();
+        assertEquals(3, mlModelOutputs.size());
+        for (int i=0;i<mlModelOutputs.size();i++) {
+            ModelTensors tensors = mlModelOutputs.get(i);
+            int position = findSentenceEmbeddingPosition(tensors);
+            List<ModelTensor> mlModelTensors = tensors.getMlModelTensors();
+            assertEquals(dimension, mlModelTensors.get(position).getData().length);
+        }
+        textEmbeddingModel.close();
+    }
+
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_LengthBucketing() {
+        TextEmbeddingModelConfig batchModelConfig = modelConfig.toBuilder().batchSize(2).build();
+        MLModel batchModel = model.toBuilder().modelConfig(batchModelConfig).build();
+        textEmbeddingModel.initModel(batchModel, params);
+        List<String> docs = Arrays.asList(
+                "a much longer sentence to check docs are batched by length and returned in input order",
+                "sunny",
+                "another long sentence which should be padded together with the other long sentence",
+                "happy dog"
+        );
+        TextDocsInputDataSet textDocsInputDataSet = TextDocsInputDataSet.builder().docs(docs).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(textDocsInputDataSet).build();
+        List<ModelTensors> mlModelOutputs = ((ModelTensorOutput)textEmbeddingModel.predict(mlInput)).getMlModelOutputs();
+        assertEquals(docs.size(), mlModelOutputs.size());
+        for (int i = 0; i < docs.size(); i++) {
+            TextDocsInputDataSet singleDocInput = TextDocsInputDataSet.builder().docs(Arrays.asList(docs.get(i))).build();
+            MLInput singleMLInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(singleDocInput).build();
+            ModelTensors expected = ((ModelTensorOutput)textEmbeddingModel.predict(singleMLInput)).getMlModelOutputs().get(0);
+            ModelTensors actual = mlModelOutputs.get(i);
+            Number[] expectedData = expected.getMlModelTensors().get(findSentenceEmbeddingPosition(expected)).getData();
+            Number[] actualData = actual.getMlModelTensors().get(findSentenceEmbeddingPosition(actual)).getData();
+            assertEquals(expectedData.length, actualData.length);
+            for (int j = 0; j < expectedData.length; j++) {
+                assertEquals(expectedData[j].floatValue(), actualData[j].floatValue(), 1e-4);
+            }
+        }
+        textEmbeddingModel.close();
+    }
+
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_TokenOutputsNotPadded() {
+        TextEmbeddingModelConfig batchModelConfig = modelConfig.toBuilder().batchSize(2).build();
+        MLModel batchModel = model.toBuilder().modelConfig(batchModelConfig).build();
+        textEmbeddingModel.initModel(batchModel, params);
+        List<String> docs = Arrays.asList("sunny", "a much longer sentence which makes short doc padded inside one batch");
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING)
+                .inputDataset(TextDocsInputDataSet.builder().docs(docs).build()).build();
+        ModelTensors batched = ((ModelTensorOutput)textEmbeddingModel.predict(mlInput)).getMlModelOutputs().get(0);
+        MLInput singleMLInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING)
+                .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList(docs.get(0))).build()).build();
+        ModelTensors alone = ((ModelTensorOutput)textEmbeddingModel.predict(singleMLInput)).getMlModelOutputs().get(0);
+
+        assertEquals(alone.getMlModelTensors().size(), batched.getMlModelTensors().size());
+        for (ModelTensor expected : alone.getMlModelTensors()) {
+            ModelTensor actual = batched.getMlModelTensors().stream().filter(t -> t.getName().equals(expected.getName())).findFirst().get();
+            assertArrayEquals(expected.getName(), expected.getShape(), actual.getShape());
+            assertEquals(expected.getData().length, actual.getData().length);
+            for (int j = 0; j < expected.getData().length; j++) {
+                assertEquals(expected.getData()[j].floatValue(), actual.getData()[j].floatValue(), 1e-4);
+            }
+        }
+        textEmbeddingModel.close();
+    }
+
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_PredictorPool() throws Exception {
+        params.put(PREDICTOR_POOL_SIZE, 2);
+        textEmbeddingModel.initModel(model, params);
+        PredictorPool pool = textEmbeddingModel.getPredictorPool();
+        assertTrue(pool.getSize() >= 2);
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<ModelTensorOutput>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executorService.submit(() -> (ModelTensorOutput)textEmbeddingModel.predict(mlInput)));
+            }
+            for (Future<ModelTensorOutput> future : futures) {
+                List<ModelTensors> mlModelOutputs = future.get().getMlModelOutputs();
+                assertEquals(2, mlModelOutputs.size());
+                int position = findSentenceEmbeddingPosition(mlModelOutputs.get(0));
+                assertEquals(dimension, mlModelOutputs.get(0).getMlModelTensors().get(position).getData().length);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertEquals(0, pool.getInUse());
+        assertEquals(4, pool.getCheckoutCount());
+        textEmbeddingModel.close();
+    }
+
     @Test
     public void initModel_predict_TorchScript_SentenceTransformer_ResultFilter() {
         textEmbeddingModel.initModel(model, params);
@@ -203,10 +351,110 @@ public class TextEmbeddingModelTest {
             List<ModelTensor> mlModelTensors = tensors.getMlModelTensors();
             assertEquals(1, mlModelTensors.size());
             assertEquals(dimension, mlModelTensors.get(position).getData().length);
+            // Shape of pooled sentence embedding doesn't depend on padded length of batch.
+            assertArrayEquals(new long[]{dimension}, mlModelTensors.get(position).getShape());
         }
         textEmbeddingModel.close();
     }
 
+    @Test
+    public void initModel_predict_ONNX_SessionOptions() throws URISyntaxException {
+        Map<String, Object> params = new HashMap<>();
+        params.put(MODEL_HELPER, modelHelper);
+        params.put(MODEL_ZIP_FILE, new File(getClass().getResource("all-MiniLM-L6-v2_onnx.zip").toURI()));
+        params.put(ML_ENGINE, mlEngine);
+        TextEmbeddingModelConfig onnxModelConfig = modelConfig.toBuilder()
+                .frameworkType(HUGGINGFACE_TRANSFORMERS)
+                .onnxOptimizationLevel(TextEmbeddingModelConfig.OnnxOptimizationLevel.ALL_OPT)
+                .onnxExecutionMode(TextEmbeddingModelConfig.OnnxExecutionMode.SEQUENTIAL)
+                .onnxCpuArenaAllocator(true)
+                .onnxMemoryPatternOptimization(true)
+                .build();
+        MLModel mlModel = model.toBuilder().modelFormat(MLModelFormat.ONNX).modelConfig(onnxModelConfig).build();
+        textEmbeddingModel.initModel(mlModel, params);
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+        ModelTensorOutput output = (ModelTensorOutput)textEmbeddingModel.predict(mlInput);
+        List<ModelTensors> mlModelOutputs = output.getMlModelOutputs();
+        assertEquals(2, mlModelOutputs.size());
+        for (ModelTensors tensors : mlModelOutputs) {
+            int position = findSentenceEmbeddingPosition(tensors);
+            assertEquals(dimension, tensors.getMlModelTensors().get(position).getData().length);
+        }
+        textEmbeddingModel.close();
+    }
+
+    @Test
+    public void initModel_predict_MaxSequenceLength_Truncate() {
+        TextEmbeddingModelConfig modelConfig = this.modelConfig.toBuilder()
+                .maxSequenceLength(4)
+                .truncationStrategy(TextEmbeddingModelConfig.TruncationStrategy.TRUNCATE)
+                .build();
+        MLModel mlModel = model.toBuilder().modelConfig(modelConfig).build();
+        textEmbeddingModel.initModel(mlModel, params);
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+        ModelTensorOutput output = (ModelTensorOutput)textEmbeddingModel.predict(mlInput);
+        List<ModelTensors> mlModelOutputs = output.getMlModelOutputs();
+        assertEquals(2, mlModelOutputs.size());
+        for (ModelTensors tensors : mlModelOutputs) {
+            int position = findSentenceEmbeddingPosition(tensors);
+            assertEquals(dimension, tensors.getMlModelTensors().get(position).getData().length);
+        }
+        textEmbeddingModel.close();
+    }
+
+    @Test
+    public void initModel_predict_MaxSequenceLength_Reject() {
+        TextEmbeddingModelConfig modelConfig = this.modelConfig.toBuilder()
+                .maxSequenceLength(4)
+                .truncationStrategy(TextEmbeddingModelConfig.TruncationStrategy.REJECT)
+                .build();
+        MLModel mlModel = model.toBuilder().modelConfig(modelConfig).build();
+        textEmbeddingModel.initModel(mlModel, params);
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+        try {
+            textEmbeddingModel.predict(mlInput);
+            fail("long doc should be rejected");
+        } catch (MLException e) {
+            Throwable rootCause = e;
+            while (rootCause.getCause() != null) {
+                rootCause = rootCause.getCause();
+            }
+            assertTrue(rootCause.getMessage().contains("exceeds max sequence length 4"));
+        } finally {
+            textEmbeddingModel.close();
+        }
+    }
+
+    @Test
+    public void initModel_predict_MaxSequenceLength_Reject_MixedBatch() {
+        TextEmbeddingModelConfig modelConfig = this.modelConfig.toBuilder()
+                .maxSequenceLength(8)
+                .truncationStrategy(TextEmbeddingModelConfig.TruncationStrategy.REJECT)
+                .build();
+        MLModel mlModel = model.toBuilder().modelConfig(modelConfig).build();
+        textEmbeddingModel.initModel(mlModel, params);
+        TextDocsInputDataSet mixedInput = TextDocsInputDataSet.builder()
+                .docs(Arrays.asList("today is sunny", "today is sunny and that is a very happy dog in the park"))
+                .build();
+        MLInput shortInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING)
+                .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList("today is sunny")).build()).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(mixedInput).build();
+        try {
+            // Short doc alone fits max sequence length.
+            assertEquals(1, ((ModelTensorOutput)textEmbeddingModel.predict(shortInput)).getMlModelOutputs().size());
+            textEmbeddingModel.predict(mlInput);
+            fail("request with one long doc should be rejected");
+        } catch (MLException e) {
+            Throwable rootCause = e;
+            while (rootCause.getCause() != null) {
+                rootCause = rootCause.getCause();
+            }
+            assertTrue(rootCause.getMessage().contains("exceeds max sequence length 8"));
+        } finally {
+            textEmbeddingModel.close();
+        }
+    }
+
     @Test
     public void initModel_NullModelZipFile() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -270,7 +518,34 @@ public class TextEmbeddingModelTest {
     public void loadTextEmbeddingModel_WrongEngine() {
         exceptionRule.expect(IllegalArgumentException.class);
         exceptionRule.expectMessage("unsupported engine");
-        textEmbeddingModel.loadTextEmbeddingModel(modelZipFile, modelId, modelName, functionName, version, modelConfig, "wrong_engine");
+        textEmbeddingModel.loadTextEmbeddingModel(modelZipFile, modelId, modelName, functionName, version, null, modelConfig, "wrong_engine", 1, 1, 1);
+    }
+
+    @Test
+    public void loadTextEmbeddingModel_TooManyIntraOpThreads() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("intra op num threads");
+        int processors = Runtime.getRuntime().availableProcessors();
+        TextEmbeddingModelConfig modelConfig = this.modelConfig.toBuilder().intraOpNumThreads(processors + 1).build();
+        textEmbeddingModel.loadTextEmbeddingModel(modelZipFile, modelId, modelName, functionName, version, null, modelConfig, PYTORCH_ENGINE, 1, 1, 1);
+    }
+
+    @Test
+    public void loadTextEmbeddingModel_PyTorchModelThreadsOverride() {
+        Assume.assumeTrue(Runtime.getRuntime().availableProcessors() > 1);
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("PyTorch inter op num threads are shared by all models on node");
+        TextEmbeddingModelConfig modelConfig = this.modelConfig.toBuilder().interOpNumThreads(1).build();
+        int nodeValue = 2;
+        textEmbeddingModel.loadTextEmbeddingModel(modelZipFile, modelId, modelName, functionName, version, null, modelConfig, PYTORCH_ENGINE, 1, 1, nodeValue);
+    }
+
+    @Test
+    public void loadTextEmbeddingModel_TooManyDefaultInterOpThreads() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("inter op num threads");
+        int processors = Runtime.getRuntime().availableProcessors();
+        textEmbeddingModel.loadTextEmbeddingModel(modelZipFile, modelId, modelName, functionName, version, null, modelConfig, PYTORCH_ENGINE, 1, 1, processors + 1);
     }
 
     @Test
@@ -309,6 +584,24 @@ public class TextEmbeddingModelTest {
         textEmbeddingModel.parseModelTensorOutput(null, null);
     }
 
+    @Test
+    public void parseModelTensorOutput_ModelTensorsSupplier() {
+        ModelTensor tensor = new ModelTensor(SENTENCE_EMBEDDING, new float[]{1.0f, 2.0f}, new long[]{2}, MLResultDataType.FLOAT32, null);
+        ModelTensors modelTensors = new ModelTensors(Arrays.asList(tensor));
+        Output output = new Output();
+        output.add(new ModelTensorsSupplier(modelTensors));
+        assertSame(modelTensors, textEmbeddingModel.parseModelTensorOutput(output, null));
+    }
+
+    @Test
+    public void parseModelTensorOutput_Bytes() {
+        ModelTensor tensor = new ModelTensor(SENTENCE_EMBEDDING, new float[]{1.0f, 2.0f}, new long[]{2}, MLResultDataType.FLOAT32, null);
+        Output output = new Output();
+        output.add(new ModelTensors(Arrays.asList(tensor)).toBytes());
+        ModelTensors modelTensors = textEmbeddingModel.parseModelTensorOutput(output, null);
+        assertEquals(tensor, modelTensors.getMlModelTensors().get(0));
+    }
+
     @Test
     public void predict_BeforeInitingModel() {
         exceptionRule.expect(MLException.class);
@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class MathUtilTest {
+
+    @Test
+    public void forEachRowBlock() {
+        int numRows = MathUtil.ROW_BLOCK_SIZE * 3 + 10;
+        AtomicIntegerArray visits = new AtomicIntegerArray(numRows);
+        MathUtil.forEachRowBlock(numRows, (fromRow, toRow) -> {
+            Assert.assertTrue(toRow - fromRow <= MathUtil.ROW_BLOCK_SIZE);
+            for (int i = fromRow; i < toRow; i++) {
+                visits.incrementAndGet(i);
+            }
+        });
+        for (int i = 0; i < numRows; i++) {
+            Assert.assertEquals(1, visits.get(i));
+        }
+    }
+
+    @Test
+    public void forEachRowBlock_CallerThread() {
+        Thread caller = Thread.currentThread();
+        MathUtil.forEachRowBlock(MathUtil.ROW_BLOCK_SIZE * 4, (fromRow, toRow) -> Assert.assertSame(caller, Thread.currentThread()));
+    }
+
+    @Test
+    public void forEachRowBlock_SingleBlock() {
+        int[] block = new int[2];
+        MathUtil.forEachRowBlock(10, (fromRow, toRow) -> {
+            block[0] = fromRow;
+            block[1] = toRow;
+        });
+        Assert.assertArrayEquals(new int[]{0, 10}, block);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class MemoryUtilsTest {
+
+    @Test
+    public void parseResidentSetSize() {
+        long size = MemoryUtils.parseResidentSetSize(Arrays.asList("Name:\tjava", "VmPeak:\t  9000 kB", "VmRSS:\t    1234 kB"));
+        Assert.assertEquals(1234 * 1024L, size);
+    }
+
+    @Test
+    public void parseResidentSetSize_NotFound() {
+        Assert.assertEquals(-1, MemoryUtils.parseResidentSetSize(Collections.singletonList("Name:\tjava")));
+        Assert.assertEquals(-1, MemoryUtils.parseResidentSetSize(Collections.singletonList("VmRSS:\tunknown kB")));
+    }
+
+    @Test
+    public void getResidentSetSizeInBytes() {
+        long size = MemoryUtils.getResidentSetSizeInBytes();
+        Assert.assertTrue(size == -1 || size > 0);
+    }
+}
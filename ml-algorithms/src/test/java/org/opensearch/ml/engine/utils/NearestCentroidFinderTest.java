@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import com.amazon.randomcutforest.summarization.Summarizer;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+import static org.opensearch.ml.engine.helper.MLTestHelper.constructTestDataFrame;
+
+public class NearestCentroidFinderTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private final float[][] centroids = {{0, 0}, {10, 10}, {-5, 5}};
+
+    @Test
+    public void findNearest() {
+        NearestCentroidFinder finder = new NearestCentroidFinder(centroids, NearestCentroidFinder.Distance.L2);
+        Assert.assertEquals(2, finder.getDimension());
+        Assert.assertEquals(0, finder.findNearest(new float[]{1, 1}, 0));
+        Assert.assertEquals(1, finder.findNearest(new float[]{-5, 5, 9, 9}, 2));
+        int[] nearest = new int[3];
+        finder.findNearest(new float[]{9, 9, -4, 6}, 2, nearest, 1);
+        Assert.assertArrayEquals(new int[]{0, 1, 2}, nearest);
+    }
+
+    @Test
+    public void findNearest_Cosine() {
+        NearestCentroidFinder finder = new NearestCentroidFinder(new double[]{1, 0, 0, 1}, 2, NearestCentroidFinder.Distance.COSINE);
+        Assert.assertEquals(0, finder.findNearest(new float[]{100, 1}, 0));
+        Assert.assertEquals(1, finder.findNearest(new float[]{1, 2}, 0));
+    }
+
+    @Test
+    public void findNearest_SameAsSummarizerDistance() {
+        Random random = new Random(1);
+        float[][] rows = new float[MathUtil.ROW_BLOCK_SIZE * 2 + 7][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new float[]{random.nextFloat() * 20 - 5, random.nextFloat() * 20 - 5};
+        }
+        verifyDistance(NearestCentroidFinder.Distance.L1, Summarizer::L1distance, rows);
+        verifyDistance(NearestCentroidFinder.Distance.L2, Summarizer::L2distance, rows);
+        verifyDistance(NearestCentroidFinder.Distance.L_INFINITY, Summarizer::LInfinitydistance, rows);
+    }
+
+    @Test
+    public void findNearest_DataFrame() {
+        DataFrame dataFrame = constructTestDataFrame(10);
+        NearestCentroidFinder finder = new NearestCentroidFinder(centroids, NearestCentroidFinder.Distance.L2);
+        float[][] rows = TribuoUtil.transformDataFrameFloat(dataFrame).v2();
+        Assert.assertArrayEquals(finder.findNearest(rows), finder.findNearest(dataFrame));
+    }
+
+    @Test
+    public void findNearest_LargeMagnitude() {
+        // Epoch millis differ below float precision, which is 2^17 around 1.6e12.
+        double[] epochCentroids = {1_600_000_000_000d, 1_600_000_000_100d};
+        NearestCentroidFinder finder = new NearestCentroidFinder(epochCentroids, 1, NearestCentroidFinder.Distance.L2);
+        Assert.assertEquals(0, finder.findNearest(new double[]{1_600_000_000_030d}, 0));
+        Assert.assertEquals(1, finder.findNearest(new double[]{1_600_000_000_070d}, 0));
+
+        DataFrame dataFrame = DataFrameBuilder.load("timestamp", new double[]{1_600_000_000_030d, 1_600_000_000_070d, 1_600_000_000_200d});
+        int[] columnToFeature = TribuoUtil.mapColumnsToFeatures(dataFrame, new String[]{"timestamp"});
+        Assert.assertArrayEquals(new int[]{0, 1, 1}, finder.findNearest(dataFrame, columnToFeature));
+    }
+
+    @Test
+    public void findNearest_DoubleFeaturesWithFloatCentroids() {
+        exceptionRule.expect(IllegalStateException.class);
+        exceptionRule.expectMessage("Centroids are float, use float feature matrix.");
+        new NearestCentroidFinder(centroids, NearestCentroidFinder.Distance.L2).findNearest(new double[]{1, 1}, 0);
+    }
+
+    @Test
+    public void findNearest_DimensionNotMatch() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Dimension of data doesn't match centroids.");
+        NearestCentroidFinder finder = new NearestCentroidFinder(centroids, NearestCentroidFinder.Distance.L2);
+        finder.findNearest(new float[][]{{1, 2, 3}});
+    }
+
+    private void verifyDistance(NearestCentroidFinder.Distance distance, BiFunction<float[], float[], Double> summarizerDistance, float[][] rows) {
+        int[] nearest = new NearestCentroidFinder(centroids, distance).findNearest(rows);
+        for (int i = 0; i < rows.length; i++) {
+            Assert.assertEquals(MathUtil.findNearest(rows[i], Arrays.asList(centroids), summarizerDistance), nearest[i]);
+        }
+    }
+}
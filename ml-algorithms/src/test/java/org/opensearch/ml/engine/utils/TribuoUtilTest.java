@@ -55,6 +55,32 @@ public class TribuoUtilTest {
         }
     }
 
+    @Test
+    public void transformDataFrameWithModelFeatures() {
+        // f1 is not model feature, f3 is missing in data frame
+        double[][] featureValues = TribuoUtil.transformDataFrame(dataFrame, new String[]{"f3", "f2"});
+        Assert.assertEquals(3, featureValues.length);
+        for (int i=0; i<rawData.length; ++i) {
+            Assert.assertArrayEquals(new double[]{0, 0.2+i}, featureValues[i], 0.01);
+        }
+    }
+
+    @Test
+    public void transformRows() {
+        int[] columnToFeature = TribuoUtil.mapColumnsToFeatures(dataFrame, new String[]{"f2", "f1"});
+        Assert.assertArrayEquals(new int[]{1, 0}, columnToFeature);
+        double[] featureMatrix = new double[4];
+        TribuoUtil.transformRows(dataFrame, columnToFeature, 2, 1, 3, featureMatrix);
+        Assert.assertArrayEquals(new double[]{1.2, 1.1, 2.2, 2.1}, featureMatrix, 0.01);
+    }
+
+    @Test
+    public void mapColumnsToFeatures_NoFeature() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("No model feature found in prediction data.");
+        TribuoUtil.mapColumnsToFeatures(dataFrame, new String[]{"f3"});
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void generateDataset() {
@@ -26,6 +26,7 @@ import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.forward.MLForwardAction;
 import org.opensearch.ml.common.transport.forward.MLForwardInput;
@@ -125,8 +126,10 @@ public class TransportForwardAction extends HandledTransportAction<ActionRequest
                                             Instant.now().toEpochMilli()
                                         )
                                 );
+                            mlModelManager.notifyModelLoadListeners(modelId, null);
                         } else {
                             log.error("load model failed on all nodes, model id: {}", modelId);
+                            mlModelManager.notifyModelLoadListeners(modelId, new MLException("Failed to load model " + modelId));
                         }
                     }
                     listener.onResponse(new MLForwardResponse("ok", null));
@@ -237,6 +237,7 @@ public class TransportLoadModelAction extends HandledTransportAction<ActionReque
                 );
             MLModelState state = algorithm == FunctionName.TEXT_EMBEDDING ? MLModelState.UPLOADED : MLModelState.TRAINED;
             mlModelManager.updateModel(modelId, ImmutableMap.of(MLModel.MODEL_STATE_FIELD, state));
+            mlModelManager.notifyModelLoadListeners(modelId, e);
         });
 
         mlModelManager
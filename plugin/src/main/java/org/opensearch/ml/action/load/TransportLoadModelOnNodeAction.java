@@ -5,10 +5,17 @@
 
 package org.opensearch.ml.action.load;
 
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+import static org.opensearch.ml.engine.utils.FileUtils.write;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.LOAD_THREAD_POOL;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_LOAD_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
 
+import java.io.File;
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -26,6 +33,7 @@ import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Randomness;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.settings.Settings;
@@ -35,6 +43,7 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.forward.MLForwardAction;
@@ -48,6 +57,9 @@ import org.opensearch.ml.common.transport.load.LoadModelNodeResponse;
 import org.opensearch.ml.common.transport.load.LoadModelNodesRequest;
 import org.opensearch.ml.common.transport.load.LoadModelNodesResponse;
 import org.opensearch.ml.common.transport.load.MLLoadModelOnNodeAction;
+import org.opensearch.ml.common.transport.load.MLModelArtifactChunkAction;
+import org.opensearch.ml.common.transport.load.MLModelArtifactChunkRequest;
+import org.opensearch.ml.common.transport.load.MLModelArtifactChunkResponse;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.MLStats;
@@ -56,6 +68,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
 
 @Log4j2
 public class TransportLoadModelOnNodeAction extends
@@ -244,11 +257,124 @@ public class TransportLoadModelOnNodeAction extends
                 return;
             }
             log.debug("start loading model {}", modelId);
-            mlModelManager.loadModel(modelId, modelContentHash, functionName, listener);
+            fetchModelArtifactFromPeers(modelId, modelContentHash, coordinatingNodeId, ActionListener.wrap(fetched -> {
+                log.debug("model {} fetched from peer node: {}", modelId, fetched);
+                mlModelManager.loadModel(modelId, modelContentHash, functionName, listener);
+            }, e -> {
+                log.warn("Failed to fetch model " + modelId + " from peer nodes, fall back to model index", e);
+                mlModelManager.loadModel(modelId, modelContentHash, functionName, listener);
+            }));
         } catch (Exception e) {
             log.error("Failed to load model " + modelId, e);
             listener.onFailure(e);
         }
     }
 
+    /**
+     * Copy model zip file into local model artifact cache from peer node which already has it, so loading model
+     * doesn't need to fetch model chunks from model index. Worker nodes of model are tried in random order to spread
+     * the copy load, then coordinating node.
+     * @param modelId model id
+     * @param modelContentHash model content hash
+     * @param coordinatingNodeId coordinating node id
+     * @param listener action listener, true if model zip file copied from peer node
+     */
+    private void fetchModelArtifactFromPeers(
+        String modelId,
+        String modelContentHash,
+        String coordinatingNodeId,
+        ActionListener<Boolean> listener
+    ) {
+        File downloadFile = mlModelManager.getModelArtifactDownloadFile(modelContentHash);
+        if (downloadFile == null || mlModelManager.getModelArtifact(modelContentHash) != null) {
+            listener.onResponse(false);
+            return;
+        }
+        String localNodeId = clusterService.localNode().getId();
+        List<DiscoveryNode> peers = new ArrayList<>();
+        String[] workerNodes = mlModelManager.getWorkerNodes(modelId);
+        if (workerNodes != null) {
+            for (String nodeId : workerNodes) {
+                DiscoveryNode node = getNodeById(nodeId);
+                if (node != null && !nodeId.equals(localNodeId)) {
+                    peers.add(node);
+                }
+            }
+        }
+        Randomness.shuffle(peers);
+        DiscoveryNode coordinatingNode = getNodeById(coordinatingNodeId);
+        if (coordinatingNode != null && !coordinatingNodeId.equals(localNodeId) && !peers.contains(coordinatingNode)) {
+            peers.add(coordinatingNode);
+        }
+        fetchModelArtifactFromPeers(peers.iterator(), modelContentHash, downloadFile, listener);
+    }
+
+    private void fetchModelArtifactFromPeers(
+        Iterator<DiscoveryNode> peers,
+        String modelContentHash,
+        File downloadFile,
+        ActionListener<Boolean> listener
+    ) {
+        if (!peers.hasNext()) {
+            listener.onResponse(false);
+            return;
+        }
+        DiscoveryNode peer = peers.next();
+        deleteFileQuietly(downloadFile);
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            listener.onFailure(e);
+            return;
+        }
+        fetchModelArtifactRange(peer, modelContentHash, downloadFile, digest, 0, ActionListener.wrap(size -> {
+            String hash = HashCode.fromBytes(digest.digest()).toString();
+            if (!modelContentHash.equals(hash)) {
+                throw new IllegalArgumentException("model content changed");
+            }
+            log.debug("copied model artifact {} of {} bytes from node {}", modelContentHash, size, peer.getId());
+            mlModelManager.cacheModelArtifact(modelContentHash, downloadFile);
+            listener.onResponse(true);
+        }, e -> {
+            log.debug("Failed to copy model artifact " + modelContentHash + " from node " + peer.getId(), e);
+            deleteFileQuietly(downloadFile);
+            fetchModelArtifactFromPeers(peers, modelContentHash, downloadFile, listener);
+        }));
+    }
+
+    private void fetchModelArtifactRange(
+        DiscoveryNode peer,
+        String modelContentHash,
+        File downloadFile,
+        MessageDigest digest,
+        long offset,
+        ActionListener<Long> listener
+    ) {
+        MLModelArtifactChunkRequest request = new MLModelArtifactChunkRequest(modelContentHash, offset, ModelHelper.CHUNK_SIZE);
+        ActionListener<MLModelArtifactChunkResponse> responseListener = ActionListener.wrap(response -> {
+            byte[] content = response.getContent();
+            long totalSize = response.getTotalSizeInBytes();
+            if (content.length == 0 && offset < totalSize) {
+                throw new MLException("Empty model artifact chunk at offset " + offset);
+            }
+            write(content, downloadFile, offset > 0);
+            // Ranges are fetched in order, so hash is calculated without reading model file again.
+            digest.update(content);
+            long nextOffset = offset + content.length;
+            if (nextOffset >= totalSize) {
+                listener.onResponse(nextOffset);
+            } else {
+                fetchModelArtifactRange(peer, modelContentHash, downloadFile, digest, nextOffset, listener);
+            }
+        }, listener::onFailure);
+        transportService
+            .sendRequest(
+                peer,
+                MLModelArtifactChunkAction.NAME,
+                request,
+                new ActionListenerResponseHandler<>(responseListener, MLModelArtifactChunkResponse::new, LOAD_THREAD_POOL)
+            );
+    }
+
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.load;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.LOAD_THREAD_POOL;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.transport.load.MLModelArtifactChunkAction;
+import org.opensearch.ml.common.transport.load.MLModelArtifactChunkRequest;
+import org.opensearch.ml.common.transport.load.MLModelArtifactChunkResponse;
+import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Serve model zip file cached on this node to peer nodes which are loading same model. Chunks are read on ML load
+ * thread pool, so disk reads don't block generic thread pool of node.
+ */
+@Log4j2
+public class TransportModelArtifactChunkAction extends HandledTransportAction<ActionRequest, MLModelArtifactChunkResponse> {
+    MLModelManager mlModelManager;
+
+    @Inject
+    public TransportModelArtifactChunkAction(TransportService transportService, ActionFilters actionFilters, MLModelManager mlModelManager) {
+        super(MLModelArtifactChunkAction.NAME, transportService, actionFilters, MLModelArtifactChunkRequest::new, LOAD_THREAD_POOL);
+        this.mlModelManager = mlModelManager;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLModelArtifactChunkResponse> listener) {
+        MLModelArtifactChunkRequest chunkRequest = MLModelArtifactChunkRequest.fromActionRequest(request);
+        String modelContentHash = chunkRequest.getModelContentHash();
+        File modelZipFile = mlModelManager.getModelArtifact(modelContentHash);
+        if (modelZipFile == null) {
+            listener.onFailure(new MLResourceNotFoundException("Model artifact not cached on node: " + modelContentHash));
+            return;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(modelZipFile, "r")) {
+            long totalSize = file.length();
+            long offset = Math.min(chunkRequest.getOffset(), totalSize);
+            // Request length is validated, clamp it anyway so a buffer is never larger than one chunk.
+            int length = Math.min(chunkRequest.getLength(), ModelHelper.CHUNK_SIZE);
+            byte[] content = new byte[(int) Math.min(length, totalSize - offset)];
+            file.seek(offset);
+            file.readFully(content);
+            listener.onResponse(MLModelArtifactChunkResponse.builder().totalSizeInBytes(totalSize).content(content).build());
+        } catch (Exception e) {
+            log.error("Failed to read model artifact " + modelContentHash, e);
+            listener.onFailure(e);
+        }
+    }
+}
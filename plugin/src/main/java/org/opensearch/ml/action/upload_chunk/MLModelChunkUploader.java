@@ -8,7 +8,6 @@ import static org.opensearch.common.xcontent.XContentParserUtils.ensureExpectedT
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
-import java.util.Base64;
 import java.util.concurrent.Semaphore;
 
 import lombok.extern.log4j.Log4j2;
@@ -76,12 +75,13 @@ public class MLModelChunkUploader {
                                 .totalChunks(existingModel.getTotalChunks())
                                 .algorithm(existingModel.getAlgorithm())
                                 .chunkNumber(chunkNum)
-                                .content(Base64.getEncoder().encodeToString(bytes))
+                                .binaryContent(bytes)
                                 .build();
                             IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
                             indexRequest.id(mlUploadInput.getModelId() + "_" + mlUploadInput.getChunkNumber());
+                            // Store chunk with SMILE source, so chunk bytes are kept as raw binary instead of Base64 string.
                             indexRequest
-                                .source(mlModel.toXContent(XContentBuilder.builder(XContentType.JSON.xContent()), ToXContent.EMPTY_PARAMS));
+                                .source(mlModel.toXContent(XContentBuilder.builder(XContentType.SMILE.xContent()), ToXContent.EMPTY_PARAMS));
                             indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
                             client.index(indexRequest, ActionListener.wrap(response -> {
                                 log.info("Index model successful for {} for chunk number {}", mlUploadInput.getModelId(), chunkNum + 1);
@@ -0,0 +1,246 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_SIZE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+/**
+ * Node level LRU cache of text embedding results. Key is model id plus SHA-256 hash of input text
+ * and result filter, so repeated texts like ingest retries or query strings are not embedded again.
+ * Cache size is limited by estimated memory usage of cached results.
+ * <p>
+ * Results are copied on put and get, so callers can't change cached tensors. Keys carry embedding cache
+ * generation of model, which is new each time model is loaded, and results of predictions started before
+ * model was reloaded are dropped, so a reloaded model never serves results of its old version.
+ */
+@Log4j2
+public class MLEmbeddingCache {
+    private static final long KEY_SIZE_IN_BYTES = 96;
+    private static final long TENSOR_SIZE_IN_BYTES = 64;
+
+    private final MLModelCacheHelper modelCacheHelper;
+    private volatile Cache<CacheKey, ModelTensors> cache;
+
+    public MLEmbeddingCache(ClusterService clusterService, Settings settings, MLModelCacheHelper modelCacheHelper) {
+        this.modelCacheHelper = modelCacheHelper;
+        this.cache = buildCache(ML_COMMONS_EMBEDDING_CACHE_SIZE.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_EMBEDDING_CACHE_SIZE, it -> cache = buildCache(it));
+    }
+
+    private Cache<CacheKey, ModelTensors> buildCache(ByteSizeValue size) {
+        if (size.getBytes() <= 0) {
+            return null;
+        }
+        log.info("Build embedding cache with size {}", size);
+        return CacheBuilder
+            .<CacheKey, ModelTensors>builder()
+            .setMaximumWeight(size.getBytes())
+            .weigher((key, tensors) -> KEY_SIZE_IN_BYTES + estimateSizeInBytes(tensors))
+            .removalListener(this::onRemoval)
+            .build();
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Get current cache generation of model. Read it before running prediction and pass it to
+     * {@link #put(String, long, List, ModelResultFilter, List)}.
+     * @param modelId model id
+     * @return cache generation, see {@link MLModelCacheHelper#getEmbeddingCacheGeneration(String)}
+     */
+    public long getGeneration(String modelId) {
+        return modelCacheHelper.getEmbeddingCacheGeneration(modelId);
+    }
+
+    /**
+     * Get cached embedding results of docs.
+     * @param modelId model id
+     * @param docs input docs
+     * @param resultFilter result filter
+     * @return cached results with same order as docs; element is null if doc not cached
+     */
+    public ModelTensors[] get(String modelId, List<String> docs, ModelResultFilter resultFilter) {
+        ModelTensors[] results = new ModelTensors[docs.size()];
+        Cache<CacheKey, ModelTensors> cache = this.cache;
+        if (cache == null) {
+            return results;
+        }
+        byte[] filterBytes = toBytes(resultFilter);
+        long generation = getGeneration(modelId);
+        long hits = 0;
+        for (int i = 0; i < docs.size(); i++) {
+            ModelTensors cached = cache.get(new CacheKey(modelId, generation, hash(docs.get(i), filterBytes)));
+            if (cached != null) {
+                results[i] = copy(cached);
+                hits++;
+            }
+        }
+        modelCacheHelper.addEmbeddingCacheStats(modelId, hits, docs.size() - hits);
+        return results;
+    }
+
+    /**
+     * Cache embedding results of docs. Results are dropped if model cache was invalidated after generation was read.
+     * @param modelId model id
+     * @param generation cache generation of model read before prediction started
+     * @param docs input docs
+     * @param resultFilter result filter
+     * @param results embedding results with same order as docs
+     */
+    public void put(String modelId, long generation, List<String> docs, ModelResultFilter resultFilter, List<ModelTensors> results) {
+        Cache<CacheKey, ModelTensors> cache = this.cache;
+        if (cache == null || generation != getGeneration(modelId)) {
+            return;
+        }
+        byte[] filterBytes = toBytes(resultFilter);
+        for (int i = 0; i < docs.size(); i++) {
+            cache.put(new CacheKey(modelId, generation, hash(docs.get(i), filterBytes)), copy(results.get(i)));
+        }
+    }
+
+    /**
+     * Remove all cached results of model.
+     * @param modelId model id
+     */
+    public void invalidate(String modelId) {
+        Cache<CacheKey, ModelTensors> cache = this.cache;
+        if (cache == null) {
+            return;
+        }
+        for (Iterator<CacheKey> iterator = cache.keys().iterator(); iterator.hasNext();) {
+            if (modelId.equals(iterator.next().getModelId())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void onRemoval(RemovalNotification<CacheKey, ModelTensors> notification) {
+        if (notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED) {
+            modelCacheHelper.addEmbeddingCacheEviction(notification.getKey().getModelId());
+        }
+    }
+
+    private static ModelTensors copy(ModelTensors tensors) {
+        if (tensors.getMlModelTensors() == null) {
+            return new ModelTensors(null);
+        }
+        List<ModelTensor> copies = new ArrayList<>(tensors.getMlModelTensors().size());
+        for (ModelTensor tensor : tensors.getMlModelTensors()) {
+            ModelTensor copy = new ModelTensor(
+                tensor.getName(),
+                (float[]) null,
+                tensor.getShape() == null ? null : tensor.getShape().clone(),
+                tensor.getDataType(),
+                null
+            );
+            copy.setFloatData(tensor.getFloatData() == null ? null : tensor.getFloatData().clone());
+            copy.setLongData(tensor.getLongData() == null ? null : tensor.getLongData().clone());
+            if (tensor.getByteBuffer() != null) {
+                ByteBuffer source = tensor.getByteBuffer().duplicate();
+                source.rewind();
+                ByteBuffer byteBuffer = ByteBuffer.allocate(source.remaining()).order(source.order());
+                byteBuffer.put(source).flip();
+                copy.setByteBuffer(byteBuffer);
+            }
+            copies.add(copy);
+        }
+        return new ModelTensors(copies);
+    }
+
+    private byte[] toBytes(ModelResultFilter resultFilter) {
+        if (resultFilter == null) {
+            return new byte[0];
+        }
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            resultFilter.writeTo(output);
+            return BytesReference.toBytes(output.bytes());
+        } catch (IOException e) {
+            throw new MLException("Failed to serialize result filter", e);
+        }
+    }
+
+    static byte[] hash(String doc, byte[] filterBytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] docBytes = doc.getBytes(StandardCharsets.UTF_8);
+            // Length prefix separates doc from filter, so different doc and filter pairs never hash same bytes.
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(docBytes.length).array());
+            digest.update(docBytes);
+            digest.update(filterBytes);
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new MLException("Failed to hash embedding cache key", e);
+        }
+    }
+
+    private static long estimateSizeInBytes(ModelTensors tensors) {
+        long size = TENSOR_SIZE_IN_BYTES;
+        if (tensors.getMlModelTensors() == null) {
+            return size;
+        }
+        for (ModelTensor tensor : tensors.getMlModelTensors()) {
+            size += TENSOR_SIZE_IN_BYTES;
+            if (tensor.getName() != null) {
+                size += tensor.getName().length() * 2L;
+            }
+            if (tensor.getShape() != null) {
+                size += tensor.getShape().length * 8L;
+            }
+            if (tensor.getFloatData() != null) {
+                size += tensor.getFloatData().length * (long) Float.BYTES;
+            }
+            if (tensor.getLongData() != null) {
+                size += tensor.getLongData().length * (long) Long.BYTES;
+            }
+            if (tensor.getByteBuffer() != null) {
+                size += tensor.getByteBuffer().capacity();
+            }
+        }
+        return size;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    private static class CacheKey {
+        private final String modelId;
+        private final long generation;
+        private final byte[] hash;
+
+        CacheKey(String modelId, long generation, byte[] hash) {
+            this.modelId = modelId;
+            this.generation = generation;
+            this.hash = hash;
+        }
+    }
+}
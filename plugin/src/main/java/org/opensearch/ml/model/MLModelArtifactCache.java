@@ -0,0 +1,271 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+
+/**
+ * Node level cache of model zip files keyed by model content hash. Files are kept under DJL cache folder, so they
+ * survive model unload and node restart, and reloading model doesn't need to fetch model chunks from index again.
+ * Model files extracted from a cached zip file are kept in folder of same hash next to it, and count towards cache
+ * size. Total size is limited by evicting least recently used files together with their extracted folders.
+ * <p>
+ * Loads in progress and loaded models hold a reference on the hash whose files they use, see {@link #acquire(String)}.
+ * Referenced files are never evicted, and removing them is deferred until the last reference is released.
+ */
+@Log4j2
+public class MLModelArtifactCache {
+    private static final String ARTIFACT_FILE_SUFFIX = ".zip";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String DOWNLOAD_FILE_SUFFIX = ".download";
+    // Hash value is used as file name, only accept hex string to avoid escaping cache folder.
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-fA-F]{1,128}");
+
+    private final Path rootPath;
+    private volatile long maxSizeInBytes;
+    private final Map<String, Integer> references = new HashMap<>();
+    private final Set<String> pendingRemovals = new HashSet<>();
+
+    public MLModelArtifactCache(Path rootPath, ClusterService clusterService, Settings settings) {
+        this.rootPath = rootPath;
+        this.maxSizeInBytes = ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE.get(settings).getBytes();
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE, this::resize);
+    }
+
+    private synchronized void resize(ByteSizeValue size) {
+        log.info("Resize model artifact cache to {}", size);
+        maxSizeInBytes = size.getBytes();
+        evict(null);
+    }
+
+    public boolean isEnabled() {
+        return maxSizeInBytes > 0;
+    }
+
+    /**
+     * Get cached model zip file.
+     * @param hash model content hash
+     * @return model zip file, null if not cached
+     */
+    public synchronized File get(String hash) {
+        if (!isEnabled() || !isValidHash(hash) || pendingRemovals.contains(hash)) {
+            return null;
+        }
+        File file = getArtifactPath(hash).toFile();
+        if (!file.isFile()) {
+            return null;
+        }
+        // Last modified time tracks last access for LRU eviction, and is kept across node restart.
+        if (!file.setLastModified(System.currentTimeMillis())) {
+            log.debug("Failed to update last modified time of model artifact {}", file);
+        }
+        return file;
+    }
+
+    /**
+     * Get cached model zip file and hold a reference on it, so it's not deleted while in use.
+     * Caller must call {@link #release(String)} once model files are not used any more.
+     * @param hash model content hash
+     * @return model zip file, null if not cached
+     */
+    public synchronized File acquire(String hash) {
+        File file = get(hash);
+        if (file != null) {
+            references.merge(hash, 1, Integer::sum);
+        }
+        return file;
+    }
+
+    /**
+     * Move verified model zip file into cache and hold a reference on it if cached, see {@link #acquire(String)}.
+     * @param hash model content hash
+     * @param modelZipFile model zip file
+     * @return cached model zip file with reference held, or original file if not cached
+     */
+    public synchronized File putAndAcquire(String hash, File modelZipFile) {
+        File file = put(hash, modelZipFile);
+        if (!file.equals(modelZipFile)) {
+            references.merge(hash, 1, Integer::sum);
+        }
+        return file;
+    }
+
+    /**
+     * Release reference held by {@link #acquire(String)} or {@link #putAndAcquire(String, File)}.
+     * @param hash model content hash
+     */
+    public synchronized void release(String hash) {
+        Integer count = references.get(hash);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            references.put(hash, count - 1);
+            return;
+        }
+        references.remove(hash);
+        if (pendingRemovals.remove(hash)) {
+            delete(hash);
+        }
+    }
+
+    /**
+     * Move verified model zip file into cache.
+     * @param hash model content hash
+     * @param modelZipFile model zip file
+     * @return cached model zip file, or original file if not cached
+     */
+    public synchronized File put(String hash, File modelZipFile) {
+        if (!isEnabled() || !isValidHash(hash) || modelZipFile.length() > maxSizeInBytes) {
+            return modelZipFile;
+        }
+        Path target = getArtifactPath(hash);
+        Path tempFile = rootPath.resolve(hash + TEMP_FILE_SUFFIX);
+        try {
+            Files.createDirectories(rootPath);
+            Files.move(modelZipFile.toPath(), tempFile, StandardCopyOption.REPLACE_EXISTING);
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to cache model artifact " + hash, e);
+            deleteFileQuietly(tempFile);
+            return modelZipFile;
+        }
+        // Verified content replaced file waiting for removal.
+        pendingRemovals.remove(hash);
+        evict(target.toFile());
+        return target.toFile();
+    }
+
+    /**
+     * Remove cached model zip file, for example when its content doesn't match hash any more.
+     * Files in use are removed when last reference is released.
+     * @param hash model content hash
+     */
+    public synchronized void remove(String hash) {
+        if (!isValidHash(hash)) {
+            return;
+        }
+        if (references.containsKey(hash)) {
+            pendingRemovals.add(hash);
+            return;
+        }
+        delete(hash);
+    }
+
+    private void delete(String hash) {
+        deleteFileQuietly(getArtifactPath(hash));
+        deleteFileQuietly(rootPath.resolve(hash));
+    }
+
+    /**
+     * Get file to download model zip file from peer node into, before moving it into cache with {@link #put(String, File)}.
+     * @param hash model content hash
+     * @return download file, null if cache disabled
+     */
+    public File getDownloadFile(String hash) {
+        if (!isEnabled() || !isValidHash(hash)) {
+            return null;
+        }
+        return rootPath.resolve(hash + DOWNLOAD_FILE_SUFFIX).toFile();
+    }
+
+    private void evict(File keep) {
+        File[] files = rootPath.toFile().listFiles((dir, name) -> name.endsWith(ARTIFACT_FILE_SUFFIX));
+        if (files == null) {
+            return;
+        }
+        deleteOrphanExtractedFolders();
+        Map<File, Long> sizes = new HashMap<>();
+        long totalSize = 0;
+        for (File file : files) {
+            long size = file.length() + sizeOf(getExtractedFolder(file));
+            sizes.put(file, size);
+            totalSize += size;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (totalSize <= maxSizeInBytes) {
+                return;
+            }
+            if (file.equals(keep) || references.containsKey(getHash(file))) {
+                continue;
+            }
+            log.debug("Evict model artifact {}", file);
+            totalSize -= sizes.get(file);
+            deleteFileQuietly(file);
+            deleteFileQuietly(getExtractedFolder(file));
+        }
+    }
+
+    // Extracted folder is left behind if node stopped while its zip file was being evicted.
+    private void deleteOrphanExtractedFolders() {
+        File[] folders = rootPath.toFile().listFiles(file -> file.isDirectory() && isValidHash(file.getName()));
+        if (folders == null) {
+            return;
+        }
+        for (File folder : folders) {
+            if (!getArtifactPath(folder.getName()).toFile().exists()) {
+                deleteFileQuietly(folder);
+            }
+        }
+    }
+
+    private File getExtractedFolder(File artifact) {
+        return rootPath.resolve(getHash(artifact)).toFile();
+    }
+
+    private String getHash(File artifact) {
+        String name = artifact.getName();
+        return name.substring(0, name.length() - ARTIFACT_FILE_SUFFIX.length());
+    }
+
+    private long sizeOf(File folder) {
+        if (!folder.isDirectory()) {
+            return 0;
+        }
+        try (Stream<Path> paths = Files.walk(folder.toPath())) {
+            return paths.map(Path::toFile).filter(File::isFile).mapToLong(File::length).sum();
+        } catch (IOException | UncheckedIOException e) {
+            log.debug("Failed to calculate size of " + folder, e);
+            return 0;
+        }
+    }
+
+    private Path getArtifactPath(String hash) {
+        return rootPath.resolve(hash + ARTIFACT_FILE_SUFFIX);
+    }
+
+    private boolean isValidHash(String hash) {
+        return hash != null && HASH_PATTERN.matcher(hash).matches();
+    }
+}
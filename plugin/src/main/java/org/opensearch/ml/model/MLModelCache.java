@@ -10,6 +10,8 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.DoubleStream;
 
 import lombok.AccessLevel;
@@ -20,23 +22,44 @@ import lombok.extern.log4j.Log4j2;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.profile.MLEmbeddingCacheStats;
+import org.opensearch.ml.profile.MLModelMemoryStats;
 import org.opensearch.ml.profile.MLPredictRequestStats;
 
 import com.google.common.math.Quantiles;
 
 @Log4j2
 public class MLModelCache {
+    private static final AtomicLong EMBEDDING_CACHE_GENERATIONS = new AtomicLong(0);
+
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLModelState modelState;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) FunctionName functionName;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Predictable predictor;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLPredictRequestBatcher predictRequestBatcher;
+    // Estimated memory used by loaded model, counted against node model memory budgets.
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) long heapMemoryInBytes;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) long nativeMemoryInBytes;
+    // Last time model was loaded or used to predict, least recently used models are unloaded first.
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile long lastAccessTime;
     private final Set<String> workerNodes;
     private final Queue<Double> modelInferenceDurationQueue;
     private final Queue<Double> predictRequestDurationQueue;
+    private final AtomicLong embeddingCacheHitCount;
+    private final AtomicLong embeddingCacheMissCount;
+    private final AtomicLong embeddingCacheEvictionCount;
+    // Predict requests running inference with model, model is not evicted while it's in use.
+    private final AtomicInteger inFlightPredicts = new AtomicInteger(0);
+    // Embedding cache results are tagged with it, model loaded again gets new model cache and new generation.
+    private final @Getter(AccessLevel.PROTECTED) long embeddingCacheGeneration = EMBEDDING_CACHE_GENERATIONS.incrementAndGet();
 
     public MLModelCache() {
         workerNodes = ConcurrentHashMap.newKeySet();
         modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
         predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        embeddingCacheHitCount = new AtomicLong(0);
+        embeddingCacheMissCount = new AtomicLong(0);
+        embeddingCacheEvictionCount = new AtomicLong(0);
+        lastAccessTime = System.nanoTime();
     }
 
     public void removeWorkerNode(String nodeId) {
@@ -70,6 +93,15 @@ public class MLModelCache {
         workerNodes.clear();
         modelInferenceDurationQueue.clear();
         predictRequestDurationQueue.clear();
+        embeddingCacheHitCount.set(0);
+        embeddingCacheMissCount.set(0);
+        embeddingCacheEvictionCount.set(0);
+        heapMemoryInBytes = 0;
+        nativeMemoryInBytes = 0;
+        if (predictRequestBatcher != null) {
+            predictRequestBatcher.close();
+            predictRequestBatcher = null;
+        }
         if (predictor != null) {
             predictor.close();
         }
@@ -127,6 +159,48 @@ public class MLModelCache {
         return null;
     }
 
+    public void addEmbeddingCacheStats(long hits, long misses) {
+        embeddingCacheHitCount.addAndGet(hits);
+        embeddingCacheMissCount.addAndGet(misses);
+    }
+
+    public void addEmbeddingCacheEviction() {
+        embeddingCacheEvictionCount.incrementAndGet();
+    }
+
+    public MLEmbeddingCacheStats getEmbeddingCacheStats() {
+        long hits = embeddingCacheHitCount.get();
+        long misses = embeddingCacheMissCount.get();
+        long evictions = embeddingCacheEvictionCount.get();
+        if (hits == 0 && misses == 0 && evictions == 0) {
+            return null;
+        }
+        return MLEmbeddingCacheStats.builder().hitCount(hits).missCount(misses).evictionCount(evictions).build();
+    }
+
+    public void startPredict() {
+        inFlightPredicts.incrementAndGet();
+    }
+
+    public void endPredict() {
+        inFlightPredicts.decrementAndGet();
+    }
+
+    public int getInFlightPredicts() {
+        return inFlightPredicts.get();
+    }
+
+    public long getMemoryInBytes() {
+        return heapMemoryInBytes + nativeMemoryInBytes;
+    }
+
+    public MLModelMemoryStats getMemoryStats() {
+        if (modelState == null || (heapMemoryInBytes == 0 && nativeMemoryInBytes == 0)) {
+            return null;
+        }
+        return MLModelMemoryStats.builder().heapSizeInBytes(heapMemoryInBytes).nativeSizeInBytes(nativeMemoryInBytes).build();
+    }
+
     public boolean isValidCache() {
         return modelState != null || workerNodes.size() > 0;
     }
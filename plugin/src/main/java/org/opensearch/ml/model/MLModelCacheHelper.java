@@ -7,20 +7,30 @@ package org.opensearch.ml.model;
 
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
+import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.text_embedding.PredictorPool;
+import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.profile.MLPredictorPoolStats;
 
 @Log4j2
 public class MLModelCacheHelper {
@@ -48,6 +58,13 @@ public class MLModelCacheHelper {
         MLModelCache modelCache = new MLModelCache();
         modelCache.setModelState(state);
         modelCache.setFunctionName(functionName);
+        // Keep routing table of model, other nodes may have it loaded already.
+        MLModelCache routingCache = modelCaches.get(modelId);
+        if (routingCache != null) {
+            for (String nodeId : routingCache.getWorkerNodes()) {
+                modelCache.addWorkerNode(nodeId);
+            }
+        }
         modelCaches.put(modelId, modelCache);
     }
 
@@ -118,11 +135,34 @@ public class MLModelCacheHelper {
         return modelCache.getPredictor();
     }
 
+    /**
+     * Set predict request batcher of model.
+     * @param modelId model id
+     * @param predictRequestBatcher predict request batcher
+     */
+    public synchronized void setPredictRequestBatcher(String modelId, MLPredictRequestBatcher predictRequestBatcher) {
+        MLModelCache modelCache = getExistingModelCache(modelId);
+        modelCache.setPredictRequestBatcher(predictRequestBatcher);
+    }
+
+    /**
+     * Get predict request batcher of model.
+     * @param modelId model id
+     * @return predict request batcher
+     */
+    public MLPredictRequestBatcher getPredictRequestBatcher(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        return modelCache.getPredictRequestBatcher();
+    }
+
     /**
      * Remove model.
      * @param modelId model id
      */
-    public void removeModel(String modelId) {
+    public synchronized void removeModel(String modelId) {
         MLModelCache modelCache = modelCaches.get(modelId);
         if (modelCache != null) {
             log.debug("removing model {} from cache", modelId);
@@ -131,6 +171,22 @@ public class MLModelCacheHelper {
         }
     }
 
+    /**
+     * Remove model if no predict request is running with it. Checked under same lock as {@link #startPredict(String)},
+     * so predictor is not closed while it's in use.
+     * @param modelId model id
+     * @return true if model removed or not in cache; false if model has predict requests in flight
+     */
+    public synchronized boolean removeModelIfIdle(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null && modelCache.getInFlightPredicts() > 0) {
+            log.debug("model {} has {} predict requests in flight, skip removing it", modelId, modelCache.getInFlightPredicts());
+            return false;
+        }
+        removeModel(modelId);
+        return true;
+    }
+
     /**
      * Get all model IDs in model cache.
      * @return array of model id
@@ -259,6 +315,24 @@ public class MLModelCacheHelper {
         }
         builder.modelInferenceStats(modelCache.getInferenceStats(true));
         builder.predictRequestStats(modelCache.getInferenceStats(false));
+        builder.embeddingCacheStats(modelCache.getEmbeddingCacheStats());
+        builder.memoryStats(modelCache.getMemoryStats());
+        if (modelCache.getPredictor() instanceof TextEmbeddingModel) {
+            PredictorPool<?, ?> predictorPool = ((TextEmbeddingModel) modelCache.getPredictor()).getPredictorPool();
+            if (predictorPool != null) {
+                builder
+                    .predictorPoolStats(
+                        MLPredictorPoolStats
+                            .builder()
+                            .size(predictorPool.getSize())
+                            .inUse(predictorPool.getInUse())
+                            .checkoutCount(predictorPool.getCheckoutCount())
+                            .averageWaitTime(predictorPool.getAverageWaitTimeInMillis())
+                            .maxWaitTime(predictorPool.getMaxWaitTimeInMillis())
+                            .build()
+                    );
+            }
+        }
         return builder.build();
     }
 
@@ -272,6 +346,45 @@ public class MLModelCacheHelper {
         modelCache.addModelInferenceDuration(duration, maxRequestCount);
     }
 
+    /**
+     * Get predictor of loaded model and mark predict request in flight in one step. Model is not evicted or unloaded
+     * until returned in flight predict is closed.
+     * @param modelId model id
+     * @return in flight predict holding predictor, null if model not loaded
+     */
+    public synchronized InFlightPredict startPredict(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null || modelCache.getModelState() != MLModelState.LOADED || modelCache.getPredictor() == null) {
+            return null;
+        }
+        modelCache.startPredict();
+        return new InFlightPredict(modelCache.getPredictor(), modelCache);
+    }
+
+    /**
+     * Add embedding cache hit and miss count of model.
+     * @param modelId model id
+     * @param hits count of docs found in embedding cache
+     * @param misses count of docs not found in embedding cache
+     */
+    public void addEmbeddingCacheStats(String modelId, long hits, long misses) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.addEmbeddingCacheStats(hits, misses);
+        }
+    }
+
+    /**
+     * Add embedding cache eviction count of model.
+     * @param modelId model id
+     */
+    public void addEmbeddingCacheEviction(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.addEmbeddingCacheEviction();
+        }
+    }
+
     public void addPredictRequestDuration(String modelId, double duration) {
         MLModelCache modelCache = getOrCreateModelCache(modelId);
         modelCache.addPredictRequestDuration(duration, maxRequestCount);
@@ -293,6 +406,127 @@ public class MLModelCacheHelper {
         return modelCache.getFunctionName();
     }
 
+    /**
+     * Get embedding cache generation of model, model gets new generation each time it's loaded.
+     * @param modelId model id
+     * @return embedding cache generation, -1 if model not found
+     */
+    public long getEmbeddingCacheGeneration(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return -1;
+        }
+        return modelCache.getEmbeddingCacheGeneration();
+    }
+
+    /**
+     * Set estimated memory of model.
+     * @param modelId model id
+     * @param heapMemoryInBytes estimated JVM heap memory in bytes
+     * @param nativeMemoryInBytes estimated native memory in bytes
+     */
+    public synchronized void setMemoryEstimate(String modelId, long heapMemoryInBytes, long nativeMemoryInBytes) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.setHeapMemoryInBytes(heapMemoryInBytes);
+            modelCache.setNativeMemoryInBytes(nativeMemoryInBytes);
+        }
+    }
+
+    /**
+     * Record model is used now, so it's the last one to evict.
+     * @param modelId model id
+     */
+    public void updateLastAccessTime(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.setLastAccessTime(System.nanoTime());
+        }
+    }
+
+    /**
+     * Get time since model was used last time.
+     * @param modelId model id
+     * @return idle time in nanoseconds, -1 if model not found
+     */
+    public long getIdleTimeInNanos(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return -1;
+        }
+        return System.nanoTime() - modelCache.getLastAccessTime();
+    }
+
+    /**
+     * Check if estimated memory of models loaded or loading on node exceeds memory budgets.
+     * @param memoryBudgetInBytes budget of heap and native memory in bytes, 0 means no budget
+     * @param nativeMemoryBudgetInBytes budget of native memory in bytes, 0 means no budget
+     * @return true if any memory budget exceeded
+     */
+    public synchronized boolean exceedsMemoryBudget(long memoryBudgetInBytes, long nativeMemoryBudgetInBytes) {
+        return (memoryBudgetInBytes > 0 && getUsedMemoryInBytes(null, MLModelCache::getMemoryInBytes) > memoryBudgetInBytes)
+            || (nativeMemoryBudgetInBytes > 0
+                && getUsedMemoryInBytes(null, MLModelCache::getNativeMemoryInBytes) > nativeMemoryBudgetInBytes);
+    }
+
+    /**
+     * Select least recently used loaded models to unload, so model can be loaded within max model count and memory
+     * budgets. Models still loading are not selected, but their memory is counted.
+     * @param modelId id of model to load
+     * @param maxModels max count of models loaded on node
+     * @param memoryBudgetInBytes budget of heap and native memory in bytes, 0 means no budget
+     * @param nativeMemoryBudgetInBytes budget of native memory in bytes, 0 means no budget
+     * @return model ids to unload, empty if model fits already; null if model doesn't fit even if all other models unloaded
+     */
+    public synchronized List<String> selectModelsToEvict(
+        String modelId,
+        int maxModels,
+        long memoryBudgetInBytes,
+        long nativeMemoryBudgetInBytes
+    ) {
+        MLModelCache targetModelCache = modelCaches.get(modelId);
+        long requiredMemory = targetModelCache == null ? 0 : targetModelCache.getMemoryInBytes();
+        long requiredNativeMemory = targetModelCache == null ? 0 : targetModelCache.getNativeMemoryInBytes();
+        long usedMemory = getUsedMemoryInBytes(modelId, MLModelCache::getMemoryInBytes);
+        long usedNativeMemory = getUsedMemoryInBytes(modelId, MLModelCache::getNativeMemoryInBytes);
+        List<Map.Entry<String, MLModelCache>> loaded = modelCaches
+            .entrySet()
+            .stream()
+            .filter(entry -> !entry.getKey().equals(modelId) && entry.getValue().getModelState() == MLModelState.LOADED)
+            .collect(Collectors.toList());
+        int loadedModels = loaded.size();
+        List<Map.Entry<String, MLModelCache>> candidates = loaded
+            .stream()
+            // Unloading model closes its predictor, skip models still running predict requests.
+            .filter(entry -> entry.getValue().getInFlightPredicts() == 0)
+            .sorted(Comparator.comparingLong(entry -> entry.getValue().getLastAccessTime()))
+            .collect(Collectors.toList());
+        List<String> evictedModels = new ArrayList<>();
+        Iterator<Map.Entry<String, MLModelCache>> iterator = candidates.iterator();
+        while (loadedModels >= maxModels
+            || (memoryBudgetInBytes > 0 && usedMemory + requiredMemory > memoryBudgetInBytes)
+            || (nativeMemoryBudgetInBytes > 0 && usedNativeMemory + requiredNativeMemory > nativeMemoryBudgetInBytes)) {
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            Map.Entry<String, MLModelCache> candidate = iterator.next();
+            evictedModels.add(candidate.getKey());
+            loadedModels--;
+            usedMemory -= candidate.getValue().getMemoryInBytes();
+            usedNativeMemory -= candidate.getValue().getNativeMemoryInBytes();
+        }
+        return evictedModels;
+    }
+
+    private long getUsedMemoryInBytes(String excludedModelId, ToLongFunction<MLModelCache> memoryFunction) {
+        return modelCaches
+            .entrySet()
+            .stream()
+            .filter(entry -> !entry.getKey().equals(excludedModelId) && entry.getValue().getModelState() != null)
+            .mapToLong(entry -> memoryFunction.applyAsLong(entry.getValue()))
+            .sum();
+    }
+
     private MLModelCache getExistingModelCache(String modelId) {
         MLModelCache modelCache = modelCaches.get(modelId);
         if (modelCache == null) {
@@ -305,4 +539,24 @@ public class MLModelCacheHelper {
         return modelCaches.computeIfAbsent(modelId, it -> new MLModelCache());
     }
 
+    /**
+     * Predictor of loaded model used by predict request, ends predict request when closed.
+     */
+    public static class InFlightPredict implements Releasable {
+        @Getter
+        private final Predictable predictor;
+        // End on same cache instance, model cache may be removed and created again while predicting.
+        private final MLModelCache modelCache;
+
+        InFlightPredict(Predictable predictor, MLModelCache modelCache) {
+            this.predictor = predictor;
+            this.modelCache = modelCache;
+        }
+
+        @Override
+        public void close() {
+            modelCache.endPredict();
+        }
+    }
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import com.google.common.hash.HashCode;
+
+/**
+ * Write model chunks into model file directly. Chunks can arrive in any order. Chunk size may vary, so one chunk is
+ * written at its offset with positional write once all previous chunks are written. Chunks arrived early are held in
+ * memory until then, caller should bound them by limiting chunks in flight. SHA-256 hash of model file is calculated
+ * as chunks are written in order, so model file doesn't need to be read again to verify it.
+ */
+@Log4j2
+public class MLModelChunkWriter implements Closeable {
+    @Getter
+    private final File file;
+    private final int totalChunks;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final Map<Integer, byte[]> pendingChunks = new HashMap<>();
+    private final MessageDigest digest;
+    private String contentHash;
+    private int writtenChunks;
+    private long position;
+
+    /**
+     * Create model file.
+     * @param file model file
+     * @param totalChunks total chunks of model
+     * @param sizeInBytes model size to preallocate model file, null if unknown
+     * @throws IOException if failed to create model file
+     */
+    public MLModelChunkWriter(File file, int totalChunks, Long sizeInBytes) throws IOException {
+        this.file = file;
+        this.totalChunks = totalChunks;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Failed to create model file digest", e);
+        }
+        Files.createDirectories(file.toPath().getParent());
+        this.randomAccessFile = new RandomAccessFile(file, "rw");
+        this.channel = randomAccessFile.getChannel();
+        channel.truncate(0);
+        if (sizeInBytes != null && sizeInBytes > 0) {
+            randomAccessFile.setLength(sizeInBytes);
+        }
+    }
+
+    /**
+     * Write model chunk, and all chunks after it which are waiting for this chunk.
+     * @param chunkNumber chunk number
+     * @param data chunk content
+     * @return count of chunks written into model file so far
+     * @throws IOException if failed to write model file
+     */
+    public synchronized int write(int chunkNumber, byte[] data) throws IOException {
+        if (chunkNumber < writtenChunks || chunkNumber >= totalChunks || pendingChunks.containsKey(chunkNumber)) {
+            throw new IllegalArgumentException("Wrong model chunk number " + chunkNumber);
+        }
+        pendingChunks.put(chunkNumber, data);
+        byte[] next;
+        while ((next = pendingChunks.remove(writtenChunks)) != null) {
+            digest.update(next);
+            ByteBuffer buffer = ByteBuffer.wrap(next);
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            writtenChunks++;
+        }
+        if (isComplete()) {
+            // Drop preallocated bytes if model size in meta data doesn't match chunks.
+            channel.truncate(position);
+            channel.force(false);
+            contentHash = HashCode.fromBytes(digest.digest()).toString();
+        }
+        return writtenChunks;
+    }
+
+    /**
+     * Get SHA-256 hash of model file, same as {@code FileUtils.calculateFileHash}.
+     * @return hash value of all chunks
+     */
+    public synchronized String getContentHash() {
+        if (contentHash == null) {
+            throw new IllegalStateException("Model chunks not all written");
+        }
+        return contentHash;
+    }
+
+    public synchronized boolean isComplete() {
+        return writtenChunks == totalChunks;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        pendingChunks.clear();
+        log.debug("close model file {}, written {} chunks", file, writtenChunks);
+        randomAccessFile.close();
+    }
+}
@@ -8,6 +8,8 @@ package org.opensearch.ml.model;
 import static org.opensearch.common.xcontent.ToXContent.EMPTY_PARAMS;
 import static org.opensearch.common.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.common.xcontent.XContentType.JSON;
+import static org.opensearch.common.xcontent.XContentType.SMILE;
+import static org.opensearch.ml.common.CommonValue.IN_USE;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.CommonValue.NOT_FOUND;
 import static org.opensearch.ml.common.CommonValue.UNLOADED;
@@ -16,43 +18,65 @@ import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
-import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
+import static org.opensearch.ml.engine.ModelHelper.MAX_MODEL_SIZE_IN_BYTES;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
+import static org.opensearch.ml.engine.ModelHelper.TOTAL_CHUNKS;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.INTER_OP_NUM_THREADS;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.INTRA_OP_NUM_THREADS;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.MODEL_ZIP_FILE;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel.PREDICTOR_POOL_SIZE;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.LOAD_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.UPLOAD_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_INFERENCE_INTER_OP_THREADS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_INFERENCE_INTRA_OP_THREADS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_UPLOAD_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_LOAD_QPS_THRESHOLD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_UNLOAD_IDLE_TIME;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_MEMORY_BUDGET;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_NATIVE_MEMORY_BUDGET;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_MAX_DELAY_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_MAX_SIZE;
 import static org.opensearch.ml.stats.ActionName.UPLOAD;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
-import java.nio.file.Path;
+import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.admin.indices.refresh.RefreshAction;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -63,8 +87,10 @@ import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -76,18 +102,26 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.load.LoadModelResponse;
 import org.opensearch.ml.common.transport.load.MLLoadModelAction;
 import org.opensearch.ml.common.transport.load.MLLoadModelRequest;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.transport.upload.MLUploadInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
-import org.opensearch.ml.engine.utils.FileUtils;
 import org.opensearch.ml.indices.MLIndicesHandler;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.stats.ActionName;
@@ -97,10 +131,10 @@ import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.rest.RestStatus;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.io.Files;
 
 /**
  * Manager class for ML models. It contains ML model related operations like upload, load model etc.
@@ -109,6 +143,14 @@ import com.google.common.io.Files;
 public class MLModelManager {
 
     public static final int TIMEOUT_IN_MILLIS = 5000;
+    // Model chunks are 10MB, keep bulk request small so memory of chunks in flight is bounded.
+    private static final int MAX_CHUNKS_PER_BULK_REQUEST = 2;
+    // Fail model upload if bulk requests of model chunks don't complete in time, so download thread is not blocked forever.
+    private static final TimeValue MODEL_CHUNK_INDEX_TIMEOUT = TimeValue.timeValueMinutes(5);
+    // Fail predict requests waiting for model loaded on first use if model still not loaded after this timeout.
+    private static final TimeValue MODEL_LOAD_ON_FIRST_USE_TIMEOUT = TimeValue.timeValueMinutes(5);
+    // Interval to check predict frequency of models for auto loading and idle time of auto loaded models.
+    private static final TimeValue MODEL_AUTO_LOAD_CHECK_INTERVAL = TimeValue.timeValueSeconds(10);
 
     private final Client client;
     private final ClusterService clusterService;
@@ -122,9 +164,31 @@ public class MLModelManager {
     private final MLIndicesHandler mlIndicesHandler;
     private final MLTaskManager mlTaskManager;
     private final MLEngine mlEngine;
+    private final MLEmbeddingCache embeddingCache;
+    private final MLModelArtifactCache artifactCache;
+    private final MLPredictorCache predictorCache;
+    private final int inferenceIntraOpThreads;
+    private final int inferenceInterOpThreads;
+    // Listeners waiting for model loaded on first use, key is model id.
+    private final Map<String, List<ActionListener<String[]>>> modelLoadListeners = new ConcurrentHashMap<>();
+    // Predict count of models not loaded on node since last auto load check, key is model id.
+    private final Map<String, ModelPredictCounter> modelPredictCounters = new ConcurrentHashMap<>();
+    // Models loaded automatically on node, they are unloaded once idle.
+    private final Set<String> autoLoadedModels = ConcurrentHashMap.newKeySet();
+    // Content hash of cached model artifact used by each loaded or loading model.
+    private final Map<String, String> modelArtifactHashes = new ConcurrentHashMap<>();
+    private Scheduler.Cancellable modelAutoLoadCron;
 
     private volatile Integer maxModelPerNode;
     private volatile Integer maxUploadTasksPerNode;
+    private volatile Integer predictBatchMaxDelayInMillis;
+    private volatile Integer predictBatchMaxSize;
+    private volatile Integer maxConcurrentModelChunkRequests;
+    private volatile long modelMemoryBudgetInBytes;
+    private volatile long modelNativeMemoryBudgetInBytes;
+    private volatile boolean modelEvictionEnabled;
+    private volatile double modelAutoLoadQpsThreshold;
+    private volatile TimeValue modelAutoUnloadIdleTime;
 
     public MLModelManager(
         ClusterService clusterService,
@@ -151,6 +215,9 @@ public class MLModelManager {
         this.mlIndicesHandler = mlIndicesHandler;
         this.mlTaskManager = mlTaskManager;
         this.mlEngine = mlEngine;
+        this.embeddingCache = new MLEmbeddingCache(clusterService, settings, modelCacheHelper);
+        this.artifactCache = new MLModelArtifactCache(mlEngine.getModelArtifactCacheRootPath(), clusterService, settings);
+        this.predictorCache = new MLPredictorCache(clusterService, settings);
 
         this.maxModelPerNode = ML_COMMONS_MAX_MODELS_PER_NODE.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_MODELS_PER_NODE, it -> maxModelPerNode = it);
@@ -159,6 +226,48 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_UPLOAD_TASKS_PER_NODE, it -> maxUploadTasksPerNode = it);
+
+        predictBatchMaxDelayInMillis = ML_COMMONS_PREDICT_BATCH_MAX_DELAY_IN_MILLIS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_PREDICT_BATCH_MAX_DELAY_IN_MILLIS, it -> predictBatchMaxDelayInMillis = it);
+
+        predictBatchMaxSize = ML_COMMONS_PREDICT_BATCH_MAX_SIZE.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_BATCH_MAX_SIZE, it -> predictBatchMaxSize = it);
+
+        // Static settings, inference engines read thread counts only once when they start.
+        inferenceIntraOpThreads = ML_COMMONS_INFERENCE_INTRA_OP_THREADS.get(settings);
+        inferenceInterOpThreads = ML_COMMONS_INFERENCE_INTER_OP_THREADS.get(settings);
+
+        maxConcurrentModelChunkRequests = ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS, it -> maxConcurrentModelChunkRequests = it);
+
+        modelMemoryBudgetInBytes = ML_COMMONS_MODEL_MEMORY_BUDGET.get(settings).getBytes();
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_MEMORY_BUDGET, it -> modelMemoryBudgetInBytes = it.getBytes());
+
+        modelNativeMemoryBudgetInBytes = ML_COMMONS_MODEL_NATIVE_MEMORY_BUDGET.get(settings).getBytes();
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_NATIVE_MEMORY_BUDGET, it -> modelNativeMemoryBudgetInBytes = it.getBytes());
+
+        modelEvictionEnabled = ML_COMMONS_MODEL_EVICTION_ENABLED.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_EVICTION_ENABLED, it -> modelEvictionEnabled = it);
+
+        modelAutoLoadQpsThreshold = ML_COMMONS_MODEL_AUTO_LOAD_QPS_THRESHOLD.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_LOAD_QPS_THRESHOLD, it -> {
+            modelAutoLoadQpsThreshold = it;
+            startModelAutoLoadCron();
+        });
+
+        modelAutoUnloadIdleTime = ML_COMMONS_MODEL_AUTO_UNLOAD_IDLE_TIME.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_UNLOAD_IDLE_TIME, it -> modelAutoUnloadIdleTime = it);
+        startModelAutoLoadCron();
     }
 
     /**
@@ -202,65 +311,70 @@ public class MLModelManager {
                     String modelId = modelMetaRes.getId();
                     mlTask.setModelId(modelId);
                     log.info("create new model meta doc {} for upload task {}", modelId, taskId);
-                    modelHelper.downloadAndSplit(modelId, modelName, version, uploadInput.getUrl(), ActionListener.wrap(result -> {
+                    int maxChunksInFlight = Math.max(1, maxConcurrentModelChunkRequests);
+                    int chunksPerBulkRequest = Math.min(MAX_CHUNKS_PER_BULK_REQUEST, maxChunksInFlight);
+                    // Each permit is one chunk held in memory until its bulk request completes.
+                    Semaphore semaphore = new Semaphore(maxChunksInFlight);
+                    AtomicReference<Exception> chunkFailure = new AtomicReference<>();
+                    List<IndexRequest> pendingChunks = new ArrayList<>();
+                    AtomicLong downloadedBytes = new AtomicLong(0);
+                    modelHelper.downloadAndSplit(modelId, modelName, version, uploadInput.getUrl(), (chunkNum, bytes) -> {
+                        // Stop download as soon as model exceeds size limit, before more chunks are indexed.
+                        if (downloadedBytes.addAndGet(bytes.length) >= MAX_MODEL_SIZE_IN_BYTES) {
+                            throw new MLException("Model file size exceeds the limit of 4GB");
+                        }
+                        MLModel mlModel = MLModel
+                            .builder()
+                            .modelId(modelId)
+                            .name(modelName)
+                            .algorithm(functionName)
+                            .version(version)
+                            .modelFormat(uploadInput.getModelFormat())
+                            .chunkNumber(chunkNum)
+                            .binaryContent(bytes)
+                            .createdTime(Instant.now())
+                            .build();
+                        IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
+                        indexRequest.id(getModelChunkId(modelId, chunkNum));
+                        // Store chunk with SMILE source, so chunk bytes are kept as raw binary instead of Base64 string.
+                        indexRequest.source(mlModel.toXContent(XContentBuilder.builder(SMILE.xContent()), EMPTY_PARAMS));
+                        checkModelChunkFailure(chunkFailure);
+                        // Block download until there is room for one more chunk.
+                        if (!semaphore.tryAcquire(MODEL_CHUNK_INDEX_TIMEOUT.millis(), TimeUnit.MILLISECONDS)) {
+                            throw new MLException("Timed out waiting for model chunks to be indexed");
+                        }
+                        pendingChunks.add(indexRequest);
+                        if (pendingChunks.size() >= chunksPerBulkRequest) {
+                            bulkIndexModelChunks(pendingChunks, semaphore, chunkFailure);
+                        }
+                    }, ActionListener.wrap(result -> {
+                        if (!pendingChunks.isEmpty()) {
+                            bulkIndexModelChunks(pendingChunks, semaphore, chunkFailure);
+                        }
+                        if (!awaitModelChunks(semaphore, maxChunksInFlight)) {
+                            throw new MLException("Timed out waiting for model chunks to be indexed");
+                        }
+                        checkModelChunkFailure(chunkFailure);
                         Long modelSizeInBytes = (Long) result.get(MODEL_SIZE_IN_BYTES);
-                        if (modelSizeInBytes / 1024 / 1024 / 1024 >= 4L) {
+                        if (modelSizeInBytes >= MAX_MODEL_SIZE_IN_BYTES) {
                             throw new MLException("Model file size exceeds the limit of 4GB");
                         }
-                        List<String> chunkFiles = (List<String>) result.get(CHUNK_FILES);
+                        Integer totalChunks = (Integer) result.get(TOTAL_CHUNKS);
                         String hashValue = (String) result.get(MODEL_FILE_HASH);
-                        Semaphore semaphore = new Semaphore(1);
-                        AtomicInteger uploaded = new AtomicInteger(0);
-                        AtomicBoolean failedToUploadChunk = new AtomicBoolean(false);
-                        // upload chunks
-                        for (String name : chunkFiles) {
-                            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-                            if (failedToUploadChunk.get()) {
-                                throw new MLException("Failed to save model chunk");
-                            }
-                            File file = new File(name);
-                            byte[] bytes = Files.toByteArray(file);
-                            int chunkNum = Integer.parseInt(file.getName());
-                            MLModel mlModel = MLModel
-                                .builder()
-                                .modelId(modelId)
-                                .name(modelName)
-                                .algorithm(functionName)
-                                .version(version)
-                                .modelFormat(uploadInput.getModelFormat())
-                                .chunkNumber(chunkNum)
-                                .totalChunks(chunkFiles.size())
-                                .content(Base64.getEncoder().encodeToString(bytes))
-                                .createdTime(Instant.now())
-                                .build();
-                            IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
-                            String chunkId = getModelChunkId(modelId, chunkNum);
-                            indexRequest.id(chunkId);
-                            indexRequest.source(mlModel.toXContent(XContentBuilder.builder(JSON.xContent()), EMPTY_PARAMS));
-                            indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-                            client.index(indexRequest, ActionListener.wrap(r -> {
-                                uploaded.getAndIncrement();
-                                if (uploaded.get() == chunkFiles.size()) {
-                                    updateModelUploadStateAsDone(uploadInput, taskId, modelId, modelSizeInBytes, chunkFiles, hashValue);
-                                } else {
-                                    deleteFileQuietly(file);
-                                }
-                                semaphore.release();
-                            }, e -> {
-                                log.error("Failed to index model chunk " + chunkId, e);
-                                failedToUploadChunk.set(true);
-                                handleException(functionName, taskId, e);
-                                deleteFileQuietly(file);
-                                // remove model doc as failed to upload model
-                                deleteModel(modelId);
-                                semaphore.release();
-                                deleteFileQuietly(mlEngine.getUploadModelPath(modelId));
-                            }));
-                        }
+                        updateModelUploadStateAsDone(uploadInput, taskId, modelId, modelSizeInBytes, totalChunks, hashValue);
                     }, e -> {
                         log.error("Failed to index chunk file", e);
-                        deleteFileQuietly(mlEngine.getUploadModelPath(modelId));
-                        deleteModel(modelId);
+                        // Drop chunks not sent yet and wait for chunks in flight, so no chunk is indexed after model deleted.
+                        semaphore.release(pendingChunks.size());
+                        pendingChunks.clear();
+                        if (!awaitModelChunks(semaphore, maxChunksInFlight)) {
+                            log.warn("Timed out waiting for model chunks in flight of model {}, delete model anyway", modelId);
+                        }
+                        // Chunks are indexed without refresh, refresh model index so delete by query can find them.
+                        client.execute(RefreshAction.INSTANCE, new RefreshRequest(ML_MODEL_INDEX), ActionListener.wrap(r -> deleteModel(modelId), ex -> {
+                            log.error("Failed to refresh model index", ex);
+                            deleteModel(modelId);
+                        }));
                         handleException(functionName, taskId, e);
                     }));
                 }, e -> {
@@ -281,6 +395,56 @@ public class MLModelManager {
         }
     }
 
+    /**
+     * Index model chunks with one bulk request without refresh, model meta doc update refreshes model index
+     * once all chunks indexed. Release chunk permits when bulk request completes.
+     * @param chunkRequests index requests of model chunks, cleared after bulk request sent
+     * @param semaphore chunk permits
+     * @param chunkFailure first failure of indexing model chunks
+     */
+    private void bulkIndexModelChunks(List<IndexRequest> chunkRequests, Semaphore semaphore, AtomicReference<Exception> chunkFailure) {
+        BulkRequest bulkRequest = new BulkRequest();
+        chunkRequests.forEach(bulkRequest::add);
+        int chunks = chunkRequests.size();
+        chunkRequests.clear();
+        client.bulk(bulkRequest, ActionListener.wrap(r -> {
+            if (r.hasFailures()) {
+                log.error("Failed to index model chunks: {}", r.buildFailureMessage());
+                chunkFailure.compareAndSet(null, new MLException("Failed to save model chunk"));
+            }
+            semaphore.release(chunks);
+        }, e -> {
+            log.error("Failed to index model chunks", e);
+            chunkFailure.compareAndSet(null, e);
+            semaphore.release(chunks);
+        }));
+    }
+
+    /**
+     * Wait until bulk requests of all model chunks in flight complete.
+     * @param semaphore chunk permits
+     * @param maxChunksInFlight total chunk permits
+     * @return true if all chunks completed, false if timed out or interrupted
+     */
+    private boolean awaitModelChunks(Semaphore semaphore, int maxChunksInFlight) {
+        try {
+            if (!semaphore.tryAcquire(maxChunksInFlight, MODEL_CHUNK_INDEX_TIMEOUT.millis(), TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        semaphore.release(maxChunksInFlight);
+        return true;
+    }
+
+    private void checkModelChunkFailure(AtomicReference<Exception> chunkFailure) {
+        if (chunkFailure.get() != null) {
+            throw new MLException("Failed to save model chunk", chunkFailure.get());
+        }
+    }
+
     private <T> ThreadedActionListener<T> threadedActionListener(String threadPoolName, ActionListener<T> listener) {
         return new ThreadedActionListener<>(log, threadPool, threadPoolName, listener, false);
     }
@@ -305,11 +469,10 @@ public class MLModelManager {
         String taskId,
         String modelId,
         Long modelSizeInBytes,
-        List<String> chunkFiles,
+        Integer totalChunks,
         String hashValue
     ) {
         FunctionName functionName = uploadInput.getFunctionName();
-        deleteFileQuietly(mlEngine.getUploadModelPath(modelId));
         Map<String, Object> updatedFields = ImmutableMap
             .of(
                 MLModel.MODEL_STATE_FIELD,
@@ -317,7 +480,7 @@ public class MLModelManager {
                 MLModel.LAST_UPLOADED_TIME_FIELD,
                 Instant.now().toEpochMilli(),
                 MLModel.TOTAL_CHUNKS_FIELD,
-                chunkFiles.size(),
+                totalChunks,
                 MLModel.MODEL_CONTENT_HASH_VALUE_FIELD,
                 hashValue,
                 MLModel.MODEL_CONTENT_SIZE_IN_BYTES_FIELD,
@@ -372,20 +535,29 @@ public class MLModelManager {
      * @param listener         action listener
      */
     public void loadModel(String modelId, String modelContentHash, FunctionName functionName, ActionListener<String> listener) {
+        // Model loaded explicitly is not unloaded when idle.
+        autoLoadedModels.remove(modelId);
         mlStats.createCounterStatIfAbsent(functionName, ActionName.LOAD, ML_ACTION_REQUEST_COUNT).increment();
         if (modelCacheHelper.isModelLoaded(modelId)) {
             listener.onResponse("successful");
             return;
         }
-        if (modelCacheHelper.getLoadedModels().length >= maxModelPerNode) {
+        if (modelCacheHelper.getLoadedModels().length >= maxModelPerNode && !evictModels(modelId)) {
             listener.onFailure(new IllegalArgumentException("Exceed max model per node limit"));
             return;
         }
         modelCacheHelper.initModelState(modelId, MLModelState.LOADING, functionName);
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             this.getModel(modelId, threadedActionListener(LOAD_THREAD_POOL, ActionListener.wrap(mlModel -> {
+                // Reserve estimated memory while loading, so concurrent loads don't exceed memory budgets together.
+                reserveModelMemory(mlModel);
+                if (modelCacheHelper.exceedsMemoryBudget(modelMemoryBudgetInBytes, modelNativeMemoryBudgetInBytes)
+                    && !evictModels(modelId)) {
+                    throw new MLLimitExceededException("Exceed model memory budget on node");
+                }
                 if (mlModel.getAlgorithm() != FunctionName.TEXT_EMBEDDING) {// load model trained by built-in algorithm like kmeans
                     Predictable predictable = mlEngine.load(mlModel, null);
+                    updateModelMemory(modelId, predictable);
                     modelCacheHelper.setPredictor(modelId, predictable);
                     mlStats.getStat(MLNodeLevelStat.ML_NODE_TOTAL_MODEL_COUNT).increment();
                     modelCacheHelper.setModelState(modelId, MLModelState.LOADED);
@@ -394,22 +566,39 @@ public class MLModelManager {
                 }
                 // check circuit breaker before loading custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// load model trunks
-                    String hash = calculateFileHash(modelZipFile);
-                    if (modelContentHash != null && !modelContentHash.equals(hash)) {
+                String expectedHash = modelContentHash != null ? modelContentHash : mlModel.getModelContentHash();
+                File cachedModelZipFile = artifactCache.acquire(expectedHash);
+                if (cachedModelZipFile != null) {
+                    // Cached file was verified before moving into cache with hash as name, check size instead of hashing it again.
+                    Long expectedSize = mlModel.getModelContentSizeInBytes();
+                    if (expectedSize == null || expectedSize == cachedModelZipFile.length()) {
+                        log.debug("Load model {} from cached model artifact", modelId);
+                        holdModelArtifact(modelId, expectedHash);
+                        loadTextEmbeddingModel(mlModel, cachedModelZipFile, listener);
+                        return;
+                    }
+                    log.warn("Cached model artifact of model {} doesn't match model size, retrieve model chunks again", modelId);
+                    artifactCache.release(expectedHash);
+                    artifactCache.remove(expectedHash);
+                }
+                retrieveModelChunks(mlModel, ActionListener.wrap(chunkWriter -> {// load model trunks
+                    File modelZipFile = chunkWriter.getFile();
+                    String hash = chunkWriter.getContentHash();
+                    // Hash argument is null when model is loaded without load request like auto load, check hash of model index.
+                    if (expectedHash != null && !expectedHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
+                        // Corrupt zip file must not be left behind for next load.
+                        deleteFileQuietly(modelZipFile);
                         removeModel(modelId);
                         listener.onFailure(new IllegalArgumentException("model content changed"));
                         return;
                     }
                     log.debug("Model content matches original hash value, continue loading");
-                    Map<String, Object> params = ImmutableMap
-                        .of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
-                    Predictable predictable = mlEngine.load(mlModel, params);
-                    modelCacheHelper.setPredictor(modelId, predictable);
-                    mlStats.getStat(MLNodeLevelStat.ML_NODE_TOTAL_MODEL_COUNT).increment();
-                    modelCacheHelper.setModelState(modelId, MLModelState.LOADED);
-                    listener.onResponse("successful");
+                    File cachedFile = artifactCache.putAndAcquire(hash, modelZipFile);
+                    if (!cachedFile.equals(modelZipFile)) {
+                        holdModelArtifact(modelId, hash);
+                    }
+                    loadTextEmbeddingModel(mlModel, cachedFile, listener);
                 }, e -> {
                     log.error("Failed to retrieve model " + modelId, e);
                     handleLoadModelException(modelId, functionName, listener, e);
@@ -423,6 +612,237 @@ public class MLModelManager {
         }
     }
 
+    /**
+     * Reserve memory of model before loading it. Weights of custom model are held by deep learning engine in native
+     * memory, estimate them with model content size. Built-in model is deserialized from model content into heap.
+     * @param mlModel model
+     */
+    private void reserveModelMemory(MLModel mlModel) {
+        String modelId = mlModel.getModelId();
+        if (mlModel.getAlgorithm() == FunctionName.TEXT_EMBEDDING) {
+            Long contentSize = mlModel.getModelContentSizeInBytes();
+            modelCacheHelper.setMemoryEstimate(modelId, 0, contentSize == null ? 0 : contentSize);
+        } else {
+            String content = mlModel.getContent();
+            modelCacheHelper.setMemoryEstimate(modelId, content == null ? 0 : content.length(), 0);
+        }
+    }
+
+    /**
+     * Replace reserved memory of model with estimate reported by loaded model, if model reports it.
+     * @param modelId model id
+     * @param predictable loaded model
+     */
+    private void updateModelMemory(String modelId, Predictable predictable) {
+        Long heapMemory = predictable.getHeapMemoryEstimate();
+        Long nativeMemory = predictable.getNativeMemoryEstimate();
+        if (heapMemory == null && nativeMemory == null) {
+            return;
+        }
+        log.debug("Model {} uses estimated {} bytes heap memory and {} bytes native memory", modelId, heapMemory, nativeMemory);
+        modelCacheHelper.setMemoryEstimate(modelId, heapMemory == null ? 0 : heapMemory, nativeMemory == null ? 0 : nativeMemory);
+    }
+
+    /**
+     * Unload least recently used models on this node, so model can be loaded within max model count and memory budget.
+     * Other nodes remove this node from routing table of unloaded models with sync up request.
+     * @param modelId id of model to load
+     * @return true if model fits after unloading, false if eviction disabled or model doesn't fit anyway
+     */
+    private boolean evictModels(String modelId) {
+        if (!modelEvictionEnabled) {
+            return false;
+        }
+        List<String> evictedModelIds = modelCacheHelper
+            .selectModelsToEvict(modelId, maxModelPerNode, modelMemoryBudgetInBytes, modelNativeMemoryBudgetInBytes);
+        if (evictedModelIds == null) {
+            return false;
+        }
+        if (evictedModelIds.size() > 0) {
+            String[] modelIds = evictedModelIds.toArray(new String[0]);
+            log.info("Unload least recently used models {} to load model {}", Arrays.toString(modelIds), modelId);
+            // Models which started predict requests since selected are not unloaded.
+            String[] unloadedModelIds = unloadModel(modelIds)
+                .entrySet()
+                .stream()
+                .filter(entry -> UNLOADED.equals(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toArray(String[]::new);
+            if (unloadedModelIds.length > 0) {
+                syncUpUnloadedModels(unloadedModelIds);
+            }
+            return unloadedModelIds.length == modelIds.length;
+        }
+        return true;
+    }
+
+    private void syncUpUnloadedModels(String[] modelIds) {
+        String localNodeId = clusterService.localNode().getId();
+        Map<String, String[]> removedWorkerNodes = new HashMap<>();
+        for (String modelId : modelIds) {
+            removedWorkerNodes.put(modelId, new String[] { localNodeId });
+        }
+        List<DiscoveryNode> nodes = new ArrayList<>();
+        for (DiscoveryNode node : clusterService.state().nodes()) {
+            nodes.add(node);
+        }
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder().removedWorkerNodes(removedWorkerNodes).build();
+        MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(nodes.toArray(new DiscoveryNode[0]), syncUpInput);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client
+                .execute(
+                    MLSyncUpAction.INSTANCE,
+                    syncUpRequest,
+                    ActionListener
+                        .wrap(
+                            r -> log.debug("sync up unloaded models successfully"),
+                            e -> log.error("failed to sync up unloaded models", e)
+                        )
+                );
+        }
+    }
+
+    /**
+     * Record predict request served by node for model not loaded on node, to find models to load automatically.
+     *
+     * @param modelId model id
+     * @param functionName function name of model
+     */
+    public void recordModelPredict(String modelId, FunctionName functionName) {
+        if (modelAutoLoadQpsThreshold <= 0 || functionName == FunctionName.TEXT_EMBEDDING) {
+            return;
+        }
+        modelPredictCounters.computeIfAbsent(modelId, it -> new ModelPredictCounter(functionName)).getCount().increment();
+    }
+
+    private synchronized void startModelAutoLoadCron() {
+        if (modelAutoLoadQpsThreshold > 0 && modelAutoLoadCron == null) {
+            log.info("Start model auto load job with predict QPS threshold {}", modelAutoLoadQpsThreshold);
+            modelAutoLoadCron = threadPool
+                .scheduleWithFixedDelay(this::autoLoadAndUnloadModels, MODEL_AUTO_LOAD_CHECK_INTERVAL, GENERAL_THREAD_POOL);
+        }
+    }
+
+    /**
+     * Load models whose predict QPS on node reaches threshold since last check, and unload auto loaded models which
+     * are idle. Other nodes add or remove this node in routing table of these models with sync up request, so
+     * predict requests of hot models are dispatched to nodes having them loaded.
+     */
+    synchronized void autoLoadAndUnloadModels() {
+        double intervalInSeconds = MODEL_AUTO_LOAD_CHECK_INTERVAL.getSecondsFrac();
+        for (Map.Entry<String, ModelPredictCounter> entry : modelPredictCounters.entrySet()) {
+            String modelId = entry.getKey();
+            ModelPredictCounter counter = entry.getValue();
+            long count = counter.getCount().sumThenReset();
+            if (count == 0) {
+                modelPredictCounters.remove(modelId, counter);
+                continue;
+            }
+            double qps = count / intervalInSeconds;
+            if (modelAutoLoadQpsThreshold > 0 && qps >= modelAutoLoadQpsThreshold && !modelCacheHelper.isModelRunningOnNode(modelId)) {
+                log.info("Auto load model {} with predict QPS {} on node", modelId, qps);
+                modelPredictCounters.remove(modelId, counter);
+                autoLoadModel(modelId, counter.getFunctionName());
+            }
+        }
+        long idleTimeInNanos = modelAutoUnloadIdleTime.nanos();
+        for (String modelId : autoLoadedModels) {
+            if (!modelCacheHelper.isModelLoaded(modelId)) {
+                autoLoadedModels.remove(modelId);
+            } else if (modelCacheHelper.getIdleTimeInNanos(modelId) > idleTimeInNanos) {
+                log.info("Unload auto loaded model {} which is idle for {}", modelId, modelAutoUnloadIdleTime);
+                String[] modelIds = new String[] { modelId };
+                if (UNLOADED.equals(unloadModel(modelIds).get(modelId))) {
+                    autoLoadedModels.remove(modelId);
+                    syncUpUnloadedModels(modelIds);
+                }
+            }
+        }
+        if (modelAutoLoadQpsThreshold <= 0 && autoLoadedModels.isEmpty() && modelAutoLoadCron != null) {
+            log.info("Stop model auto load job");
+            modelAutoLoadCron.cancel();
+            modelAutoLoadCron = null;
+            modelPredictCounters.clear();
+        }
+    }
+
+    private void autoLoadModel(String modelId, FunctionName functionName) {
+        ActionListener<String> listener = ActionListener.wrap(r -> {
+            autoLoadedModels.add(modelId);
+            // Add local node to worker nodes of model, predict requests are still dispatched to other worker nodes.
+            String localNodeId = clusterService.localNode().getId();
+            addModelWorkerNode(modelId, localNodeId);
+            syncUpAutoLoadedModel(modelId, localNodeId);
+            updateModel(
+                modelId,
+                ImmutableMap.of(MLModel.MODEL_STATE_FIELD, MLModelState.LOADED, MLModel.LAST_LOADED_TIME_FIELD, Instant.now().toEpochMilli())
+            );
+        }, e -> log.warn("Failed to auto load model " + modelId, e));
+        try {
+            loadModel(modelId, null, functionName, listener);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private void syncUpAutoLoadedModel(String modelId, String localNodeId) {
+        List<DiscoveryNode> nodes = new ArrayList<>();
+        for (DiscoveryNode node : clusterService.state().nodes()) {
+            nodes.add(node);
+        }
+        MLSyncUpInput syncUpInput = MLSyncUpInput
+            .builder()
+            .addedWorkerNodes(ImmutableMap.of(modelId, new String[] { localNodeId }))
+            .build();
+        MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(nodes.toArray(new DiscoveryNode[0]), syncUpInput);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client
+                .execute(
+                    MLSyncUpAction.INSTANCE,
+                    syncUpRequest,
+                    ActionListener
+                        .wrap(
+                            r -> log.debug("sync up auto loaded model {} successfully", modelId),
+                            e -> log.error("failed to sync up auto loaded model " + modelId, e)
+                        )
+                );
+        }
+    }
+
+    private void loadTextEmbeddingModel(MLModel mlModel, File modelZipFile, ActionListener<String> listener) {
+        String modelId = mlModel.getModelId();
+        Map<String, Object> params = ImmutableMap
+            .<String, Object>builder()
+            .put(MODEL_ZIP_FILE, modelZipFile)
+            .put(MODEL_HELPER, modelHelper)
+            .put(ML_ENGINE, mlEngine)
+            .put(PREDICTOR_POOL_SIZE, getPredictorPoolSize())
+            .put(INTRA_OP_NUM_THREADS, inferenceIntraOpThreads)
+            .put(INTER_OP_NUM_THREADS, inferenceInterOpThreads)
+            .build();
+        Predictable predictable = mlEngine.load(mlModel, params);
+        updateModelMemory(modelId, predictable);
+        modelCacheHelper.setPredictor(modelId, predictable);
+        modelCacheHelper
+            .setPredictRequestBatcher(modelId, new MLPredictRequestBatcher(modelId, threadPool, input -> predictWithLoadedModel(modelId, input)));
+        mlStats.getStat(MLNodeLevelStat.ML_NODE_TOTAL_MODEL_COUNT).increment();
+        modelCacheHelper.setModelState(modelId, MLModelState.LOADED);
+        listener.onResponse("successful");
+    }
+
+    /**
+     * Predictor pool size of loaded model. Size it with predict thread pool, so all predict threads
+     * can run inference in parallel.
+     * @return predictor pool size
+     */
+    private int getPredictorPoolSize() {
+        ThreadPool.Info info = threadPool.info(PREDICT_THREAD_POOL);
+        if (info == null || info.getMax() <= 0) {
+            return 1;
+        }
+        return info.getMax();
+    }
+
     private void handleLoadModelException(String modelId, FunctionName functionName, ActionListener<String> listener, Exception e) {
         mlStats.createCounterStatIfAbsent(functionName, ActionName.LOAD, MLActionLevelStat.ML_ACTION_FAILURE_COUNT).increment();
         removeModel(modelId);
@@ -468,47 +888,80 @@ public class MLModelManager {
         }, e -> { listener.onFailure(e); }));
     }
 
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    /**
+     * Retrieve model chunks with bounded parallelism and write them into model zip file directly.
+     * At most maxConcurrentModelChunkRequests chunks are fetched or waiting for previous chunks at the same time.
+     * @param mlModelMeta model meta data
+     * @param listener action listener, called with closed chunk writer once all chunks are written
+     * @throws IOException if failed to create model zip file
+     */
+    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<MLModelChunkWriter> listener) throws IOException {
         String modelId = mlModelMeta.getModelId();
         String modelName = mlModelMeta.getName();
         Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
+        File modelZipFile = new File(mlEngine.getLoadModelZipPath(modelId, modelName));
+        MLModelChunkWriter chunkWriter = new MLModelChunkWriter(modelZipFile, totalChunks, mlModelMeta.getModelContentSizeInBytes());
+        int maxChunksInFlight = Math.max(1, maxConcurrentModelChunkRequests);
+        AtomicInteger nextChunk = new AtomicInteger(0);
         AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getLoadModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to load model");
+        fetchModelChunks(modelId, totalChunks, 0, maxChunksInFlight, nextChunk, stopNow, chunkWriter, modelZipFile, listener);
+    }
+
+    private void fetchModelChunks(
+        String modelId,
+        int totalChunks,
+        int writtenChunks,
+        int maxChunksInFlight,
+        AtomicInteger nextChunk,
+        AtomicBoolean stopNow,
+        MLModelChunkWriter chunkWriter,
+        File modelZipFile,
+        ActionListener<MLModelChunkWriter> listener
+    ) {
+        while (!stopNow.get()) {
+            int chunkNumber = nextChunk.get();
+            if (chunkNumber >= totalChunks || chunkNumber >= writtenChunks + maxChunksInFlight) {
+                return;
+            }
+            if (!nextChunk.compareAndSet(chunkNumber, chunkNumber + 1)) {
+                continue;
             }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
+            String modelChunkId = this.getModelChunkId(modelId, chunkNumber);
             this.getModel(modelChunkId, threadedActionListener(LOAD_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getLoadModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
-                    listener.onResponse(modelZipFile);
+                if (stopNow.get()) {
+                    return;
                 }
-                semaphore.release();
+                int written = chunkWriter.write(chunkNumber, model.getChunkContentBytes());
+                if (written == totalChunks) {
+                    chunkWriter.close();
+                    listener.onResponse(chunkWriter);
+                    return;
+                }
+                fetchModelChunks(modelId, totalChunks, written, maxChunksInFlight, nextChunk, stopNow, chunkWriter, modelZipFile, listener);
             }, e -> {
-                stopNow.set(true);
-                semaphore.release();
+                if (!stopNow.compareAndSet(false, true)) {
+                    return;
+                }
                 log.error("Failed to retrieve model chunk " + modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
+                closeQuietly(chunkWriter);
+                deleteFileQuietly(modelZipFile);
+                if (e instanceof IOException) {
+                    listener.onFailure(new MLException("Failed to write model chunk " + modelChunkId, e));
+                } else {
                     listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
                 }
             })));
         }
     }
 
+    private void closeQuietly(MLModelChunkWriter chunkWriter) {
+        try {
+            chunkWriter.close();
+        } catch (IOException e) {
+            log.debug("Failed to close model chunk writer", e);
+        }
+    }
+
     /**
      * Update model with build-in listener.
      *
@@ -547,6 +1000,33 @@ public class MLModelManager {
         }
     }
 
+    /**
+     * Get model zip file cached on node.
+     * @param modelContentHash model content hash
+     * @return model zip file, null if not cached
+     */
+    public File getModelArtifact(String modelContentHash) {
+        return artifactCache.get(modelContentHash);
+    }
+
+    /**
+     * Get file to download model zip file from peer node into.
+     * @param modelContentHash model content hash
+     * @return download file, null if model artifact cache disabled
+     */
+    public File getModelArtifactDownloadFile(String modelContentHash) {
+        return artifactCache.getDownloadFile(modelContentHash);
+    }
+
+    /**
+     * Move verified model zip file into model artifact cache, so next load of model reads it from local disk.
+     * @param modelContentHash model content hash
+     * @param modelZipFile model zip file
+     */
+    public void cacheModelArtifact(String modelContentHash, File modelZipFile) {
+        artifactCache.put(modelContentHash, modelZipFile);
+    }
+
     /**
      * Get model chunk id
      * @param modelId model id
@@ -595,7 +1075,7 @@ public class MLModelManager {
     }
 
     /**
-     * Unload model from memory.
+     * Unload model from memory. Models with predict requests in flight are not unloaded, their status is in use.
      *
      * @param modelIds model ids
      * @return model unload status
@@ -606,31 +1086,57 @@ public class MLModelManager {
             log.debug("unload models {}", Arrays.toString(modelIds));
             for (String modelId : modelIds) {
                 if (modelCacheHelper.isModelLoaded(modelId)) {
-                    modelUnloadStatus.put(modelId, UNLOADED);
-                    mlStats.getStat(MLNodeLevelStat.ML_NODE_TOTAL_MODEL_COUNT).decrement();
-                    mlStats
-                        .createCounterStatIfAbsent(getModelFunctionName(modelId), ActionName.UNLOAD, ML_ACTION_REQUEST_COUNT)
-                        .increment();
+                    modelUnloadStatus.put(modelId, unloadLoadedModel(modelId));
                 } else {
                     modelUnloadStatus.put(modelId, NOT_FOUND);
+                    removeModel(modelId);
                 }
-                removeModel(modelId);
             }
         } else {
             log.debug("unload all models {}", Arrays.toString(getLocalLoadedModels()));
             for (String modelId : getLocalLoadedModels()) {
-                modelUnloadStatus.put(modelId, UNLOADED);
-                mlStats.getStat(MLNodeLevelStat.ML_NODE_TOTAL_MODEL_COUNT).decrement();
-                mlStats.createCounterStatIfAbsent(getModelFunctionName(modelId), ActionName.UNLOAD, ML_ACTION_REQUEST_COUNT).increment();
-                removeModel(modelId);
+                modelUnloadStatus.put(modelId, unloadLoadedModel(modelId));
             }
         }
         return modelUnloadStatus;
     }
 
+    private String unloadLoadedModel(String modelId) {
+        FunctionName functionName = getModelFunctionName(modelId);
+        if (!modelCacheHelper.removeModelIfIdle(modelId)) {
+            log.info("Model {} has predict requests in flight, skip unloading it", modelId);
+            return IN_USE;
+        }
+        releaseModelResources(modelId);
+        mlStats.getStat(MLNodeLevelStat.ML_NODE_TOTAL_MODEL_COUNT).decrement();
+        mlStats.createCounterStatIfAbsent(functionName, ActionName.UNLOAD, ML_ACTION_REQUEST_COUNT).increment();
+        return UNLOADED;
+    }
+
     private void removeModel(String modelId) {
         modelCacheHelper.removeModel(modelId);
+        releaseModelResources(modelId);
+    }
+
+    private void releaseModelResources(String modelId) {
+        embeddingCache.invalidate(modelId);
         modelHelper.deleteFileCache(modelId);
+        String modelArtifactHash = modelArtifactHashes.remove(modelId);
+        if (modelArtifactHash != null) {
+            artifactCache.release(modelArtifactHash);
+        }
+    }
+
+    /**
+     * Record reference on cached model artifact held by model, released when model is unloaded or fails to load.
+     * @param modelId model id
+     * @param modelContentHash model content hash
+     */
+    private void holdModelArtifact(String modelId, String modelContentHash) {
+        String previousHash = modelArtifactHashes.put(modelId, modelContentHash);
+        if (previousHash != null) {
+            artifactCache.release(previousHash);
+        }
     }
 
     /**
@@ -643,6 +1149,66 @@ public class MLModelManager {
         return modelCacheHelper.getWorkerNodes(modelId);
     }
 
+    /**
+     * Add listener waiting for model loaded on first use. Only the first listener of a model should start loading model,
+     * listeners added later wait for the same model loading. Listeners are failed if model still not loaded after timeout.
+     *
+     * @param modelId model id
+     * @param listener action listener, called with worker nodes of model once model loaded
+     * @return true if it's the first listener of model and caller should start loading model
+     */
+    public boolean addModelLoadListener(String modelId, ActionListener<String[]> listener) {
+        AtomicBoolean firstListener = new AtomicBoolean(false);
+        modelLoadListeners.compute(modelId, (id, listeners) -> {
+            if (listeners == null) {
+                listeners = new ArrayList<>();
+                firstListener.set(true);
+            }
+            listeners.add(listener);
+            return listeners;
+        });
+        if (firstListener.get()) {
+            List<ActionListener<String[]>> listeners = modelLoadListeners.get(modelId);
+            if (listeners != null) {
+                threadPool.schedule(() -> {
+                    if (modelLoadListeners.remove(modelId, listeners)) {
+                        log.warn("Model {} not loaded in {}", modelId, MODEL_LOAD_ON_FIRST_USE_TIMEOUT);
+                        notifyModelLoadListeners(modelId, listeners, new MLException("model not loaded"));
+                    }
+                }, MODEL_LOAD_ON_FIRST_USE_TIMEOUT, PREDICT_THREAD_POOL);
+            }
+        }
+        return firstListener.get();
+    }
+
+    /**
+     * Notify listeners waiting for model loaded on first use.
+     *
+     * @param modelId model id
+     * @param e exception if failed to load model, null if model loaded
+     */
+    public void notifyModelLoadListeners(String modelId, Exception e) {
+        List<ActionListener<String[]>> listeners = modelLoadListeners.remove(modelId);
+        if (listeners != null) {
+            notifyModelLoadListeners(modelId, listeners, e);
+        }
+    }
+
+    private void notifyModelLoadListeners(String modelId, List<ActionListener<String[]>> listeners, Exception e) {
+        String[] workerNodes = getWorkerNodes(modelId);
+        Exception exception = e;
+        if (exception == null && (workerNodes == null || workerNodes.length == 0)) {
+            exception = new MLException("model not loaded");
+        }
+        for (ActionListener<String[]> listener : listeners) {
+            if (exception != null) {
+                listener.onFailure(exception);
+            } else {
+                listener.onResponse(workerNodes);
+            }
+        }
+    }
+
     /**
      * Get predictable instance with model id.
      *
@@ -653,6 +1219,55 @@ public class MLModelManager {
         return modelCacheHelper.getPredictor(modelId);
     }
 
+    /**
+     * Check if predictor of model not loaded explicitly can be cached on node.
+     *
+     * @param algorithm algorithm of model
+     * @return true if predictor can be cached
+     */
+    public boolean isPredictorCacheable(FunctionName algorithm) {
+        return predictorCache.isCacheable(algorithm);
+    }
+
+    /**
+     * Get predictor of model which is not loaded explicitly from predictor cache. Model content is fetched from
+     * model index and deserialized only if model not cached or model document changed since cached.
+     *
+     * @param modelId model id
+     * @param seqNo sequence number of model document
+     * @param primaryTerm primary term of model document
+     * @param listener action listener
+     */
+    public void getCachedPredictor(String modelId, long seqNo, long primaryTerm, ActionListener<Predictable> listener) {
+        Predictable predictor = predictorCache.get(modelId, seqNo, primaryTerm);
+        if (predictor != null) {
+            listener.onResponse(predictor);
+            return;
+        }
+        ActionListener<MLModel> getModelListener = ActionListener.wrap(mlModel -> {
+            Predictable loadedPredictor = mlEngine.load(mlModel, null);
+            long sizeInBytes = mlModel.getContent() == null ? 0 : mlModel.getContent().length();
+            predictorCache.put(modelId, seqNo, primaryTerm, loadedPredictor, sizeInBytes);
+            log.debug("Cached predictor of model {}, size: {}", modelId, sizeInBytes);
+            listener.onResponse(loadedPredictor);
+        }, listener::onFailure);
+        try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
+            getModel(modelId, threadedActionListener(PREDICT_THREAD_POOL, ActionListener.runBefore(getModelListener, context::restore)));
+        } catch (Exception e) {
+            log.error("Failed to get model " + modelId, e);
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Remove cached predictor of model.
+     *
+     * @param modelId model id
+     */
+    public void invalidateCachedPredictor(String modelId) {
+        predictorCache.invalidate(modelId);
+    }
+
     /**
      * Get all model ids in cache, both local model id and remote model in routing table.
      *
@@ -687,6 +1302,92 @@ public class MLModelManager {
         modelCacheHelper.clearWorkerNodes();
     }
 
+    /**
+     * Predict with local loaded model. Text embedding results are served from embedding cache if enabled,
+     * only docs not cached run inference. Concurrent text embedding requests are merged into
+     * one batched inference if predict batch max delay is set.
+     *
+     * @param modelId model id
+     * @param mlInput ML input
+     * @param listener action listener
+     */
+    public void predict(String modelId, MLInput mlInput, ActionListener<MLOutput> listener) {
+        modelCacheHelper.updateLastAccessTime(modelId);
+        if (embeddingCache.isEnabled() && mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
+            FunctionName functionName;
+            try {
+                functionName = modelCacheHelper.getFunctionName(modelId);
+            } catch (IllegalArgumentException e) {
+                // Model was unloaded or evicted after request routed to this node.
+                listener.onFailure(new MLException("model not loaded"));
+                return;
+            }
+            if (functionName == FunctionName.TEXT_EMBEDDING) {
+                predictWithEmbeddingCache(modelId, mlInput, listener);
+                return;
+            }
+        }
+        runPredict(modelId, mlInput, listener);
+    }
+
+    private void predictWithEmbeddingCache(String modelId, MLInput mlInput, ActionListener<MLOutput> listener) {
+        TextDocsInputDataSet inputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+        ModelResultFilter resultFilter = inputDataSet.getResultFilter();
+        long cacheGeneration = embeddingCache.getGeneration(modelId);
+        ModelTensors[] results = embeddingCache.get(modelId, inputDataSet.getDocs(), resultFilter);
+        List<String> missedDocs = new ArrayList<>();
+        List<Integer> missedPositions = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                missedDocs.add(inputDataSet.getDocs().get(i));
+                missedPositions.add(i);
+            }
+        }
+        if (missedDocs.size() == 0) {
+            listener.onResponse(new ModelTensorOutput(Arrays.asList(results)));
+            return;
+        }
+        MLInput missedInput = mlInput.toBuilder().inputDataset(inputDataSet.toBuilder().docs(missedDocs).build()).build();
+        runPredict(modelId, missedInput, ActionListener.wrap(output -> {
+            List<ModelTensors> missedResults = ((ModelTensorOutput) output).getMlModelOutputs();
+            embeddingCache.put(modelId, cacheGeneration, missedDocs, resultFilter, missedResults);
+            for (int i = 0; i < missedPositions.size(); i++) {
+                results[missedPositions.get(i)] = missedResults.get(i);
+            }
+            listener.onResponse(new ModelTensorOutput(Arrays.asList(results)));
+        }, listener::onFailure));
+    }
+
+    private void runPredict(String modelId, MLInput mlInput, ActionListener<MLOutput> listener) {
+        MLPredictRequestBatcher predictRequestBatcher = modelCacheHelper.getPredictRequestBatcher(modelId);
+        if (predictBatchMaxDelayInMillis > 0
+            && predictRequestBatcher != null
+            && mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
+            predictRequestBatcher.add(mlInput, listener, predictBatchMaxSize, TimeValue.timeValueMillis(predictBatchMaxDelayInMillis));
+            return;
+        }
+        try {
+            listener.onResponse(predictWithLoadedModel(modelId, mlInput));
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Predict with predictor of loaded model, model is not unloaded while predicting.
+     * @param modelId model id
+     * @param mlInput ML input
+     * @return ML output
+     */
+    private MLOutput predictWithLoadedModel(String modelId, MLInput mlInput) {
+        try (MLModelCacheHelper.InFlightPredict inFlightPredict = modelCacheHelper.startPredict(modelId)) {
+            if (inFlightPredict == null) {
+                throw new MLException("model not loaded");
+            }
+            return trackPredictDuration(modelId, () -> inFlightPredict.getPredictor().predict(mlInput));
+        }
+    }
+
     public MLModelProfile getModelProfile(String modelId) {
         return modelCacheHelper.getModelProfile(modelId);
     }
@@ -707,4 +1408,14 @@ public class MLModelManager {
     public boolean isModelRunningOnNode(String modelId) {
         return modelCacheHelper.isModelRunningOnNode(modelId);
     }
+
+    @Getter
+    private static class ModelPredictCounter {
+        private final FunctionName functionName;
+        private final LongAdder count = new LongAdder();
+
+        ModelPredictCounter(FunctionName functionName) {
+            this.functionName = functionName;
+        }
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Merges concurrent text embedding predict requests of one loaded model into one batched inference.
+ * Requests are queued until max batch size docs are pending or max delay passed since first pending
+ * request, then run together and the results are split back to each request listener.
+ */
+@Log4j2
+public class MLPredictRequestBatcher {
+    private final String modelId;
+    private final ThreadPool threadPool;
+    private final Function<MLInput, MLOutput> batchPredictor;
+
+    private List<PendingRequest> pendingRequests = new ArrayList<>();
+    private int pendingDocs = 0;
+    // Each drained batch increases it, so flush timer scheduled for an earlier batch doesn't flush later batch.
+    private long batchNumber = 0;
+    private boolean flushScheduled = false;
+    private Scheduler.ScheduledCancellable scheduledFlush;
+    private boolean closed = false;
+
+    public MLPredictRequestBatcher(String modelId, ThreadPool threadPool, Function<MLInput, MLOutput> batchPredictor) {
+        this.modelId = modelId;
+        this.threadPool = threadPool;
+        this.batchPredictor = batchPredictor;
+    }
+
+    /**
+     * Add predict request to pending batch.
+     * @param mlInput ML input with text docs input data set
+     * @param listener action listener which will be notified with this request's result
+     * @param maxBatchSize max docs run in one batch
+     * @param maxDelay max time to wait for more requests
+     */
+    public void add(MLInput mlInput, ActionListener<MLOutput> listener, int maxBatchSize, TimeValue maxDelay) {
+        List<PendingRequest> batch = null;
+        synchronized (this) {
+            if (closed) {
+                listener.onFailure(new MLException("model not loaded"));
+                return;
+            }
+            PendingRequest request = new PendingRequest(mlInput, listener);
+            pendingRequests.add(request);
+            pendingDocs += request.getDocs().size();
+            if (pendingDocs >= maxBatchSize) {
+                batch = drain();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                long currentBatchNumber = batchNumber;
+                scheduledFlush = threadPool.schedule(() -> flush(currentBatchNumber), maxDelay, PREDICT_THREAD_POOL);
+            }
+        }
+        if (batch != null) {
+            run(batch);
+        }
+    }
+
+    /**
+     * Fail all pending requests and reject new requests.
+     */
+    public void close() {
+        List<PendingRequest> batch;
+        synchronized (this) {
+            closed = true;
+            batch = drain();
+        }
+        for (PendingRequest request : batch) {
+            request.getListener().onFailure(new MLException("model not loaded"));
+        }
+    }
+
+    private void flush(long flushBatchNumber) {
+        List<PendingRequest> batch;
+        synchronized (this) {
+            if (flushBatchNumber != batchNumber) {
+                // Batch already run when it was full.
+                return;
+            }
+            batch = drain();
+        }
+        if (batch.size() > 0) {
+            run(batch);
+        }
+    }
+
+    private List<PendingRequest> drain() {
+        List<PendingRequest> batch = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        pendingDocs = 0;
+        batchNumber++;
+        flushScheduled = false;
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel();
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void run(List<PendingRequest> batch) {
+        List<String> docs = new ArrayList<>();
+        for (PendingRequest request : batch) {
+            docs.addAll(request.getDocs());
+        }
+        log.debug("run batched predict for model {} with {} requests, {} docs", modelId, batch.size(), docs.size());
+        List<ModelTensors> tensorOutputs;
+        try {
+            // Run without result filter, each request applies its own result filter on its results.
+            TextDocsInputDataSet inputDataSet = TextDocsInputDataSet.builder().docs(docs).build();
+            MLInput batchInput = batch.get(0).getMlInput().toBuilder().inputDataset(inputDataSet).build();
+            ModelTensorOutput output = (ModelTensorOutput) batchPredictor.apply(batchInput);
+            tensorOutputs = output.getMlModelOutputs();
+        } catch (Exception e) {
+            log.error("Failed to run batched predict for model " + modelId, e);
+            for (PendingRequest request : batch) {
+                request.getListener().onFailure(e);
+            }
+            return;
+        }
+        int start = 0;
+        for (PendingRequest request : batch) {
+            int end = start + request.getDocs().size();
+            List<ModelTensors> requestOutputs = new ArrayList<>(tensorOutputs.subList(start, end));
+            start = end;
+            try {
+                ModelResultFilter resultFilter = request.getResultFilter();
+                if (resultFilter != null) {
+                    requestOutputs.forEach(tensors -> tensors.filter(resultFilter));
+                }
+                request.getListener().onResponse(new ModelTensorOutput(requestOutputs));
+            } catch (Exception e) {
+                request.getListener().onFailure(e);
+            }
+        }
+    }
+
+    @Getter
+    private static class PendingRequest {
+        private final MLInput mlInput;
+        private final ActionListener<MLOutput> listener;
+
+        PendingRequest(MLInput mlInput, ActionListener<MLOutput> listener) {
+            this.mlInput = mlInput;
+            this.listener = listener;
+        }
+
+        List<String> getDocs() {
+            return ((TextDocsInputDataSet) mlInput.getInputDataset()).getDocs();
+        }
+
+        ModelResultFilter getResultFilter() {
+            return ((TextDocsInputDataSet) mlInput.getInputDataset()).getResultFilter();
+        }
+    }
+}
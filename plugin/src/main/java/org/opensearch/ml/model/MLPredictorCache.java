@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICTOR_CACHE_SIZE;
+
+import java.util.Set;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.engine.Predictable;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Node level LRU cache of deserialized models which are not loaded explicitly, like KMeans and linear regression
+ * models. Predict request only fetches model document without model content to check permission and version, model
+ * content is fetched and deserialized again only if model not cached or model document changed since cached.
+ * Cache size is limited by model content size.
+ */
+@Log4j2
+public class MLPredictorCache {
+    // Predict of these algorithms doesn't change model or depend on predict parameters, so cached model can be
+    // shared by concurrent predict requests. RCF models are updated by predict data, so they are not cached.
+    private static final Set<FunctionName> CACHEABLE_ALGORITHMS = ImmutableSet
+        .of(FunctionName.KMEANS, FunctionName.LINEAR_REGRESSION, FunctionName.LOGISTIC_REGRESSION, FunctionName.AD_LIBSVM);
+
+    private volatile Cache<String, CachedPredictor> cache;
+
+    public MLPredictorCache(ClusterService clusterService, Settings settings) {
+        this.cache = buildCache(ML_COMMONS_PREDICTOR_CACHE_SIZE.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICTOR_CACHE_SIZE, it -> cache = buildCache(it));
+    }
+
+    private Cache<String, CachedPredictor> buildCache(ByteSizeValue size) {
+        if (size.getBytes() <= 0) {
+            return null;
+        }
+        log.info("Build predictor cache with size {}", size);
+        return CacheBuilder
+            .<String, CachedPredictor>builder()
+            .setMaximumWeight(size.getBytes())
+            .weigher((modelId, cachedPredictor) -> cachedPredictor.getSizeInBytes())
+            .build();
+    }
+
+    /**
+     * Check if model of algorithm can be cached.
+     * @param algorithm algorithm of model
+     * @return true if predictor cache enabled and model of algorithm can be cached
+     */
+    public boolean isCacheable(FunctionName algorithm) {
+        return cache != null && CACHEABLE_ALGORITHMS.contains(algorithm);
+    }
+
+    /**
+     * Get cached predictor of model. Cached predictor is removed if model document changed since cached.
+     * @param modelId model id
+     * @param seqNo sequence number of model document
+     * @param primaryTerm primary term of model document
+     * @return cached predictor, null if not cached or model changed
+     */
+    public Predictable get(String modelId, long seqNo, long primaryTerm) {
+        Cache<String, CachedPredictor> cache = this.cache;
+        if (cache == null) {
+            return null;
+        }
+        CachedPredictor cachedPredictor = cache.get(modelId);
+        if (cachedPredictor == null) {
+            return null;
+        }
+        if (cachedPredictor.getSeqNo() != seqNo || cachedPredictor.getPrimaryTerm() != primaryTerm) {
+            log.debug("Model {} changed since cached, remove it from predictor cache", modelId);
+            cache.invalidate(modelId);
+            return null;
+        }
+        return cachedPredictor.getPredictor();
+    }
+
+    /**
+     * Cache predictor of model.
+     * @param modelId model id
+     * @param seqNo sequence number of model document
+     * @param primaryTerm primary term of model document
+     * @param predictor predictor with model loaded
+     * @param sizeInBytes model content size
+     */
+    public void put(String modelId, long seqNo, long primaryTerm, Predictable predictor, long sizeInBytes) {
+        Cache<String, CachedPredictor> cache = this.cache;
+        if (cache == null) {
+            return;
+        }
+        cache.put(modelId, new CachedPredictor(seqNo, primaryTerm, predictor, sizeInBytes));
+    }
+
+    /**
+     * Remove cached predictor of model.
+     * @param modelId model id
+     */
+    public void invalidate(String modelId) {
+        Cache<String, CachedPredictor> cache = this.cache;
+        if (cache != null) {
+            cache.invalidate(modelId);
+        }
+    }
+
+    @Getter
+    private static class CachedPredictor {
+        private final long seqNo;
+        private final long primaryTerm;
+        private final Predictable predictor;
+        private final long sizeInBytes;
+
+        CachedPredictor(long seqNo, long primaryTerm, Predictable predictor, long sizeInBytes) {
+            this.seqNo = seqNo;
+            this.primaryTerm = primaryTerm;
+            this.predictor = predictor;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+}
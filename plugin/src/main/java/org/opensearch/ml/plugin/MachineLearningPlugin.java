@@ -36,6 +36,7 @@ import org.opensearch.ml.action.forward.TransportForwardAction;
 import org.opensearch.ml.action.handler.MLSearchHandler;
 import org.opensearch.ml.action.load.TransportLoadModelAction;
 import org.opensearch.ml.action.load.TransportLoadModelOnNodeAction;
+import org.opensearch.ml.action.load.TransportModelArtifactChunkAction;
 import org.opensearch.ml.action.models.DeleteModelTransportAction;
 import org.opensearch.ml.action.models.GetModelTransportAction;
 import org.opensearch.ml.action.models.SearchModelTransportAction;
@@ -76,6 +77,7 @@ import org.opensearch.ml.common.transport.execute.MLExecuteTaskAction;
 import org.opensearch.ml.common.transport.forward.MLForwardAction;
 import org.opensearch.ml.common.transport.load.MLLoadModelAction;
 import org.opensearch.ml.common.transport.load.MLLoadModelOnNodeAction;
+import org.opensearch.ml.common.transport.load.MLModelArtifactChunkAction;
 import org.opensearch.ml.common.transport.model.MLModelDeleteAction;
 import org.opensearch.ml.common.transport.model.MLModelGetAction;
 import org.opensearch.ml.common.transport.model.MLModelSearchAction;
@@ -199,6 +201,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin {
                 new ActionHandler<>(MLUploadModelAction.INSTANCE, TransportUploadModelAction.class),
                 new ActionHandler<>(MLLoadModelAction.INSTANCE, TransportLoadModelAction.class),
                 new ActionHandler<>(MLLoadModelOnNodeAction.INSTANCE, TransportLoadModelOnNodeAction.class),
+                new ActionHandler<>(MLModelArtifactChunkAction.INSTANCE, TransportModelArtifactChunkAction.class),
                 new ActionHandler<>(MLUnloadModelAction.INSTANCE, TransportUnloadModelAction.class),
                 new ActionHandler<>(MLCreateModelMetaAction.INSTANCE, TransportCreateModelMetaAction.class),
                 new ActionHandler<>(MLUploadModelChunkAction.INSTANCE, TransportUploadModelChunkAction.class),
@@ -504,7 +507,20 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin {
                 MLCommonsSettings.ML_COMMONS_MAX_UPLOAD_TASKS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_LOAD_MODEL_TASKS_PER_NODE,
-                MLCommonsSettings.ML_COMMONS_TRUSTED_URL_REGEX
+                MLCommonsSettings.ML_COMMONS_TRUSTED_URL_REGEX,
+                MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_MAX_DELAY_IN_MILLIS,
+                MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_MAX_SIZE,
+                MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_INFERENCE_INTRA_OP_THREADS,
+                MLCommonsSettings.ML_COMMONS_INFERENCE_INTER_OP_THREADS,
+                MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_MODEL_MEMORY_BUDGET,
+                MLCommonsSettings.ML_COMMONS_MODEL_NATIVE_MEMORY_BUDGET,
+                MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICTOR_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_LOAD_QPS_THRESHOLD,
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_UNLOAD_IDLE_TIME
             );
         return settings;
     }
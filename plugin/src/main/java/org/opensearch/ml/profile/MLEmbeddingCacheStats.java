@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+@Getter
+public class MLEmbeddingCacheStats implements ToXContentFragment, Writeable {
+
+    private final Long hitCount;
+    private final Long missCount;
+    private final Long evictionCount;
+
+    @Builder
+    public MLEmbeddingCacheStats(Long hitCount, Long missCount, Long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (hitCount != null) {
+            builder.field("hit_count", hitCount);
+        }
+        if (missCount != null) {
+            builder.field("miss_count", missCount);
+        }
+        if (evictionCount != null) {
+            builder.field("eviction_count", evictionCount);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    public MLEmbeddingCacheStats(StreamInput in) throws IOException {
+        this.hitCount = in.readOptionalLong();
+        this.missCount = in.readOptionalLong();
+        this.evictionCount = in.readOptionalLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalLong(hitCount);
+        out.writeOptionalLong(missCount);
+        out.writeOptionalLong(evictionCount);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+@Getter
+public class MLModelMemoryStats implements ToXContentFragment, Writeable {
+
+    private final Long heapSizeInBytes;
+    private final Long nativeSizeInBytes;
+
+    @Builder
+    public MLModelMemoryStats(Long heapSizeInBytes, Long nativeSizeInBytes) {
+        this.heapSizeInBytes = heapSizeInBytes;
+        this.nativeSizeInBytes = nativeSizeInBytes;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (heapSizeInBytes != null) {
+            builder.field("heap_size_in_bytes", heapSizeInBytes);
+        }
+        if (nativeSizeInBytes != null) {
+            builder.field("native_size_in_bytes", nativeSizeInBytes);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    public MLModelMemoryStats(StreamInput in) throws IOException {
+        this.heapSizeInBytes = in.readOptionalLong();
+        this.nativeSizeInBytes = in.readOptionalLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalLong(heapSizeInBytes);
+        out.writeOptionalLong(nativeSizeInBytes);
+    }
+}
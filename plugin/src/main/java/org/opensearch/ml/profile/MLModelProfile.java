@@ -27,6 +27,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
     private final String[] workerNodes;
     private final MLPredictRequestStats modelInferenceStats;
     private final MLPredictRequestStats predictRequestStats;
+    private final MLPredictorPoolStats predictorPoolStats;
+    private final MLEmbeddingCacheStats embeddingCacheStats;
+    private final MLModelMemoryStats memoryStats;
 
     @Builder
     public MLModelProfile(
@@ -34,13 +37,19 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         String predictor,
         String[] workerNodes,
         MLPredictRequestStats modelInferenceStats,
-        MLPredictRequestStats predictRequestStats
+        MLPredictRequestStats predictRequestStats,
+        MLPredictorPoolStats predictorPoolStats,
+        MLEmbeddingCacheStats embeddingCacheStats,
+        MLModelMemoryStats memoryStats
     ) {
         this.modelState = modelState;
         this.predictor = predictor;
         this.workerNodes = workerNodes;
         this.modelInferenceStats = modelInferenceStats;
         this.predictRequestStats = predictRequestStats;
+        this.predictorPoolStats = predictorPoolStats;
+        this.embeddingCacheStats = embeddingCacheStats;
+        this.memoryStats = memoryStats;
     }
 
     @Override
@@ -61,6 +70,15 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (predictRequestStats != null) {
             builder.field("predict_request_stats", predictRequestStats);
         }
+        if (predictorPoolStats != null) {
+            builder.field("predictor_pool_stats", predictorPoolStats);
+        }
+        if (embeddingCacheStats != null) {
+            builder.field("embedding_cache_stats", embeddingCacheStats);
+        }
+        if (memoryStats != null) {
+            builder.field("memory_stats", memoryStats);
+        }
         builder.endObject();
         return builder;
     }
@@ -83,6 +101,21 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         } else {
             this.predictRequestStats = null;
         }
+        if (in.readBoolean()) {
+            this.predictorPoolStats = new MLPredictorPoolStats(in);
+        } else {
+            this.predictorPoolStats = null;
+        }
+        if (in.readBoolean()) {
+            this.embeddingCacheStats = new MLEmbeddingCacheStats(in);
+        } else {
+            this.embeddingCacheStats = null;
+        }
+        if (in.readBoolean()) {
+            this.memoryStats = new MLModelMemoryStats(in);
+        } else {
+            this.memoryStats = null;
+        }
     }
 
     @Override
@@ -107,5 +140,23 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         } else {
             out.writeBoolean(false);
         }
+        if (predictorPoolStats != null) {
+            out.writeBoolean(true);
+            predictorPoolStats.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
+        if (embeddingCacheStats != null) {
+            out.writeBoolean(true);
+            embeddingCacheStats.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
+        if (memoryStats != null) {
+            out.writeBoolean(true);
+            memoryStats.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+@Getter
+public class MLPredictorPoolStats implements ToXContentFragment, Writeable {
+
+    private final Integer size;
+    private final Integer inUse;
+    private final Long checkoutCount;
+    private final Double averageWaitTime;
+    private final Double maxWaitTime;
+
+    @Builder
+    public MLPredictorPoolStats(Integer size, Integer inUse, Long checkoutCount, Double averageWaitTime, Double maxWaitTime) {
+        this.size = size;
+        this.inUse = inUse;
+        this.checkoutCount = checkoutCount;
+        this.averageWaitTime = averageWaitTime;
+        this.maxWaitTime = maxWaitTime;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (size != null) {
+            builder.field("size", size);
+        }
+        if (inUse != null) {
+            builder.field("in_use", inUse);
+        }
+        if (checkoutCount != null) {
+            builder.field("checkout_count", checkoutCount);
+        }
+        if (averageWaitTime != null) {
+            builder.field("average_wait_time_in_millis", averageWaitTime);
+        }
+        if (maxWaitTime != null) {
+            builder.field("max_wait_time_in_millis", maxWaitTime);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    public MLPredictorPoolStats(StreamInput in) throws IOException {
+        this.size = in.readOptionalInt();
+        this.inUse = in.readOptionalInt();
+        this.checkoutCount = in.readOptionalLong();
+        this.averageWaitTime = in.readOptionalDouble();
+        this.maxWaitTime = in.readOptionalDouble();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalInt(size);
+        out.writeOptionalInt(inUse);
+        out.writeOptionalLong(checkoutCount);
+        out.writeOptionalDouble(averageWaitTime);
+        out.writeOptionalDouble(maxWaitTime);
+    }
+}
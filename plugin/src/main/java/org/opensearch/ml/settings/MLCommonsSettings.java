@@ -6,6 +6,9 @@
 package org.opensearch.ml.settings;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 
 public final class MLCommonsSettings {
 
@@ -52,4 +55,79 @@ public final class MLCommonsSettings {
             Setting.Property.NodeScope,
             Setting.Property.Dynamic
         );
+
+    public static final Setting<Integer> ML_COMMONS_PREDICT_BATCH_MAX_DELAY_IN_MILLIS = Setting
+        .intSetting(
+            "plugins.ml_commons.predict_batch_max_delay_in_millis",
+            0,
+            0,
+            1000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    public static final Setting<Integer> ML_COMMONS_PREDICT_BATCH_MAX_SIZE = Setting
+        .intSetting("plugins.ml_commons.predict_batch_max_size", 32, 1, 1024, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    public static final Setting<ByteSizeValue> ML_COMMONS_EMBEDDING_CACHE_SIZE = Setting
+        .memorySizeSetting("plugins.ml_commons.embedding_cache_size", "0b", Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Inference thread counts of models loaded on node. PyTorch thread pools are process wide and only configured when
+    // the engine starts, so these settings are static and changing them requires a node restart. ONNX text embedding
+    // models can override them per model in model config, PyTorch models can't.
+    public static final Setting<Integer> ML_COMMONS_INFERENCE_INTRA_OP_THREADS = Setting
+        .intSetting("plugins.ml_commons.inference_intra_op_threads", 1, 1, 1024, Setting.Property.NodeScope);
+    public static final Setting<Integer> ML_COMMONS_INFERENCE_INTER_OP_THREADS = Setting
+        .intSetting("plugins.ml_commons.inference_inter_op_threads", 1, 1, 1024, Setting.Property.NodeScope);
+
+    public static final Setting<Integer> ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS = Setting
+        .intSetting("plugins.ml_commons.max_concurrent_model_chunk_requests", 4, 1, 64, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Disk space of model zip files kept on node after unload, so reloading model doesn't fetch chunks again. 0 to disable.
+    public static final Setting<ByteSizeValue> ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE = Setting
+        .byteSizeSetting(
+            "plugins.ml_commons.model_artifact_cache_size",
+            new ByteSizeValue(10, ByteSizeUnit.GB),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Estimated memory of all models loaded on node. 0 to disable memory based limit.
+    public static final Setting<ByteSizeValue> ML_COMMONS_MODEL_MEMORY_BUDGET = Setting
+        .byteSizeSetting(
+            "plugins.ml_commons.model_memory_budget",
+            new ByteSizeValue(0),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Estimated native memory of all models loaded on node, like weights held by PyTorch and ONNX Runtime outside of
+    // JVM heap which memory circuit breaker can't see. 0 to disable native memory based limit.
+    public static final Setting<ByteSizeValue> ML_COMMONS_MODEL_NATIVE_MEMORY_BUDGET = Setting
+        .byteSizeSetting(
+            "plugins.ml_commons.model_native_memory_budget",
+            new ByteSizeValue(0),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Unload least recently used models instead of failing load when node reaches max model count or memory budget.
+    public static final Setting<Boolean> ML_COMMONS_MODEL_EVICTION_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.model_eviction_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Heap memory of deserialized models cached for predicting with models not loaded explicitly, like KMeans. 0 to disable.
+    public static final Setting<ByteSizeValue> ML_COMMONS_PREDICTOR_CACHE_SIZE = Setting
+        .memorySizeSetting("plugins.ml_commons.predictor_cache_size", "1%", Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Predict requests per second served by a node for a model not loaded on it, above which the node loads the model
+    // automatically. Only models trained by built-in algorithms are loaded automatically. 0 to disable.
+    public static final Setting<Double> ML_COMMONS_MODEL_AUTO_LOAD_QPS_THRESHOLD = Setting
+        .doubleSetting("plugins.ml_commons.model_auto_load_qps_threshold", 0, 0, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Automatically loaded model is unloaded if it's not used for this time.
+    public static final Setting<TimeValue> ML_COMMONS_MODEL_AUTO_UNLOAD_IDLE_TIME = Setting
+        .positiveTimeSetting(
+            "plugins.ml_commons.model_auto_unload_idle_time",
+            TimeValue.timeValueMinutes(10),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
 }
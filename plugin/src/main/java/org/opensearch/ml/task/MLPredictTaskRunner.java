@@ -22,6 +22,7 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.support.ContextPreservingActionListener;
 import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -43,9 +44,12 @@ import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.load.MLLoadModelAction;
+import org.opensearch.ml.common.transport.load.MLLoadModelRequest;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
@@ -56,6 +60,7 @@ import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
@@ -128,7 +133,12 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             String[] workerNodes = mlModelManager.getWorkerNodes(modelId);
             if (workerNodes == null || workerNodes.length == 0) {
                 if (algorithm == FunctionName.TEXT_EMBEDDING) {
-                    listener.onFailure(new MLException("model not loaded"));
+                    ActionListener<String[]> modelLoadedListener = ActionListener
+                        .wrap(nodes -> mlTaskDispatcher.dispatchPredictTask(nodes, actionListener), listener::onFailure);
+                    loadModelOnFirstUse(
+                        modelId,
+                        ContextPreservingActionListener.wrapPreservingContext(modelLoadedListener, threadPool.getThreadContext())
+                    );
                     return;
                 } else {
                     workerNodes = nodeHelper.getEligibleNodeIds();
@@ -141,6 +151,50 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         }
     }
 
+    /**
+     * Load model on one eligible node if model enables load on first use. Concurrent predict requests of the same model
+     * wait for the same model loading, and are dispatched to worker nodes once model loaded.
+     * @param modelId model id
+     * @param listener action listener, called with worker nodes of model once model loaded
+     */
+    private void loadModelOnFirstUse(String modelId, ActionListener<String[]> listener) {
+        if (!mlModelManager.addModelLoadListener(modelId, listener)) {
+            log.debug("Wait for model {} being loaded on first use", modelId);
+            return;
+        }
+        String[] excludes = new String[] { MLModel.MODEL_CONTENT_FIELD, MLModel.OLD_MODEL_CONTENT_FIELD };
+        try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
+            mlModelManager.getModel(modelId, null, excludes, ActionListener.wrap(mlModel -> {
+                if (!isLoadOnFirstUse(mlModel)) {
+                    mlModelManager.notifyModelLoadListeners(modelId, new MLException("model not loaded"));
+                    return;
+                }
+                mlTaskDispatcher.dispatchPredictTask(nodeHelper.getEligibleNodeIds(), ActionListener.wrap(node -> {
+                    log.info("Load model {} on first use on node {}", modelId, node.getId());
+                    MLLoadModelRequest loadModelRequest = new MLLoadModelRequest(modelId, new String[] { node.getId() }, false, true);
+                    client
+                        .execute(
+                            MLLoadModelAction.INSTANCE,
+                            loadModelRequest,
+                            ActionListener
+                                .wrap(
+                                    r -> log.debug("Start loading model {} on first use, task id: {}", modelId, r.getTaskId()),
+                                    e -> mlModelManager.notifyModelLoadListeners(modelId, e)
+                                )
+                        );
+                }, e -> mlModelManager.notifyModelLoadListeners(modelId, e)));
+            }, e -> mlModelManager.notifyModelLoadListeners(modelId, e)));
+        } catch (Exception e) {
+            log.error("Failed to load model " + modelId + " on first use", e);
+            mlModelManager.notifyModelLoadListeners(modelId, e);
+        }
+    }
+
+    private boolean isLoadOnFirstUse(MLModel mlModel) {
+        return mlModel.getModelConfig() instanceof TextEmbeddingModelConfig
+            && Boolean.TRUE.equals(((TextEmbeddingModelConfig) mlModel.getModelConfig()).getLoadOnFirstUse());
+    }
+
     /**
      * Start prediction task
      * @param request MLPredictionTaskRequest
@@ -202,15 +256,19 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             try {
                 Predictable predictor = mlModelManager.getPredictor(modelId);
                 if (predictor != null) {
-                    MLOutput output = mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput));
-                    if (output instanceof MLPredictionOutput) {
-                        ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
-                    }
+                    mlModelManager.predict(modelId, mlInput, ActionListener.wrap(output -> {
+                        if (output instanceof MLPredictionOutput) {
+                            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+                        }
 
-                    // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
-                    handleAsyncMLTaskComplete(mlTask);
-                    MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                    internalListener.onResponse(response);
+                        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
+                        handleAsyncMLTaskComplete(mlTask);
+                        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+                        internalListener.onResponse(response);
+                    }, e -> {
+                        log.error("Failed to predict model " + modelId, e);
+                        handlePredictFailure(mlTask, internalListener, e, false);
+                    }));
                     return;
                 } else if (algorithm == FunctionName.TEXT_EMBEDDING) {
                     throw new MLException("model not loaded");
@@ -219,10 +277,15 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                 handlePredictFailure(mlTask, internalListener, e, false);
             }
 
-            // search model by model id.
+            mlModelManager.recordModelPredict(modelId, algorithm);
+            // search model by model id. Model content is not needed if predictor of model can be cached.
+            boolean predictorCacheable = mlModelManager.isPredictorCacheable(algorithm);
             try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
                 ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
                     if (r == null || !r.isExists()) {
+                        if (predictorCacheable) {
+                            mlModelManager.invalidateCachedPredictor(modelId);
+                        }
                         internalListener.onFailure(new ResourceNotFoundException("No model found, please check the modelId."));
                         return;
                     }
@@ -245,15 +308,25 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                         }
                         // run predict
                         mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
-                        MLOutput output = mlEngine.predict(mlInput, mlModel);
-                        if (output instanceof MLPredictionOutput) {
-                            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+                        if (predictorCacheable) {
+                            mlModelManager
+                                .getCachedPredictor(
+                                    modelId,
+                                    r.getSeqNo(),
+                                    r.getPrimaryTerm(),
+                                    ActionListener
+                                        .wrap(
+                                            predictor -> handlePredictOutput(mlTask, predictor.predict(mlInput), internalListener),
+                                            e -> {
+                                                log.error("Failed to predict model " + modelId, e);
+                                                handlePredictFailure(mlTask, internalListener, e, true);
+                                            }
+                                        )
+                                );
+                            return;
                         }
-
-                        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
-                        handleAsyncMLTaskComplete(mlTask);
-                        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                        internalListener.onResponse(response);
+                        MLOutput output = mlEngine.predict(mlInput, mlModel);
+                        handlePredictOutput(mlTask, output, internalListener);
                     } catch (Exception e) {
                         log.error("Failed to predict model " + modelId, e);
                         internalListener.onFailure(e);
@@ -264,6 +337,10 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     handlePredictFailure(mlTask, internalListener, e, true);
                 });
                 GetRequest getRequest = new GetRequest(ML_MODEL_INDEX, mlTask.getModelId());
+                if (predictorCacheable) {
+                    String[] excludes = new String[] { MLModel.MODEL_CONTENT_FIELD, MLModel.OLD_MODEL_CONTENT_FIELD };
+                    getRequest.fetchSourceContext(new FetchSourceContext(true, null, excludes));
+                }
                 client.get(getRequest, threadedActionListener(ActionListener.runBefore(getModelListener, () -> context.restore())));
             } catch (Exception e) {
                 log.error("Failed to get model " + mlTask.getModelId(), e);
@@ -276,6 +353,17 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         }
     }
 
+    private void handlePredictOutput(MLTask mlTask, MLOutput output, ActionListener<MLTaskResponse> listener) {
+        if (output instanceof MLPredictionOutput) {
+            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+        }
+
+        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
+        handleAsyncMLTaskComplete(mlTask);
+        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+        listener.onResponse(response);
+    }
+
     private <T> ThreadedActionListener<T> threadedActionListener(ActionListener<T> listener) {
         return new ThreadedActionListener<>(log, threadPool, PREDICT_THREAD_POOL, listener, false);
     }
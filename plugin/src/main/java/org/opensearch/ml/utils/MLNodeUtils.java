@@ -30,7 +30,15 @@ public class MLNodeUtils {
 
     public static XContentParser createXContentParserFromRegistry(NamedXContentRegistry xContentRegistry, BytesReference bytesReference)
         throws IOException {
-        return XContentHelper.createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, bytesReference, XContentType.JSON);
+        // Model chunk docs are stored with SMILE source, detect content type instead of assuming JSON.
+        XContentType xContentType = XContentHelper.xContentType(bytesReference);
+        return XContentHelper
+            .createParser(
+                xContentRegistry,
+                LoggingDeprecationHandler.INSTANCE,
+                bytesReference,
+                xContentType == null ? XContentType.JSON : xContentType
+            );
     }
 
     public static void parseArrayField(XContentParser parser, Set<String> set) throws IOException {
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.load;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.transport.load.MLModelArtifactChunkRequest;
+import org.opensearch.ml.common.transport.load.MLModelArtifactChunkResponse;
+import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class TransportModelArtifactChunkActionTests extends OpenSearchTestCase {
+    @Mock
+    TransportService transportService;
+    @Mock
+    ActionFilters actionFilters;
+    @Mock
+    MLModelManager mlModelManager;
+    @Mock
+    Task task;
+    @Mock
+    ActionListener<MLModelArtifactChunkResponse> listener;
+
+    private TransportModelArtifactChunkAction action;
+    private String modelContentHash = "abc1";
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        action = new TransportModelArtifactChunkAction(transportService, actionFilters, mlModelManager);
+    }
+
+    public void testDoExecute() throws IOException {
+        File file = createTempDir().resolve("model.zip").toFile();
+        Files.write(file.toPath(), new byte[] { 0, 1, 2, 3, 4 });
+        when(mlModelManager.getModelArtifact(modelContentHash)).thenReturn(file);
+
+        action.doExecute(task, new MLModelArtifactChunkRequest(modelContentHash, 3, 10), listener);
+        ArgumentCaptor<MLModelArtifactChunkResponse> response = ArgumentCaptor.forClass(MLModelArtifactChunkResponse.class);
+        verify(listener).onResponse(response.capture());
+        assertEquals(5, response.getValue().getTotalSizeInBytes());
+        assertArrayEquals(new byte[] { 3, 4 }, response.getValue().getContent());
+    }
+
+    public void testDoExecute_ClampLength() throws IOException {
+        File file = createTempDir().resolve("model.zip").toFile();
+        Files.write(file.toPath(), new byte[ModelHelper.CHUNK_SIZE + 10]);
+        when(mlModelManager.getModelArtifact(modelContentHash)).thenReturn(file);
+
+        action.doExecute(task, new MLModelArtifactChunkRequest(modelContentHash, 0, Integer.MAX_VALUE), listener);
+        ArgumentCaptor<MLModelArtifactChunkResponse> response = ArgumentCaptor.forClass(MLModelArtifactChunkResponse.class);
+        verify(listener).onResponse(response.capture());
+        assertEquals(ModelHelper.CHUNK_SIZE + 10, response.getValue().getTotalSizeInBytes());
+        assertEquals(ModelHelper.CHUNK_SIZE, response.getValue().getContent().length);
+    }
+
+    public void testDoExecute_NotCached() {
+        action.doExecute(task, new MLModelArtifactChunkRequest(modelContentHash, 0, 10), listener);
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertTrue(exception.getValue() instanceof MLResourceNotFoundException);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_SIZE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLEmbeddingCacheTests extends OpenSearchTestCase {
+    @Mock
+    private MLModelCacheHelper modelCacheHelper;
+
+    private ClusterService clusterService;
+    private MLEmbeddingCache embeddingCache;
+    private String modelId;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        Settings settings = Settings.builder().put(ML_COMMONS_EMBEDDING_CACHE_SIZE.getKey(), "10kb").build();
+        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_EMBEDDING_CACHE_SIZE);
+        clusterService = new ClusterService(settings, clusterSettings, null);
+        embeddingCache = new MLEmbeddingCache(clusterService, settings, modelCacheHelper);
+        modelId = "test_model_id";
+    }
+
+    public void testGetAndPut() {
+        List<String> docs = Arrays.asList("doc1", "doc2");
+        ModelTensors[] results = embeddingCache.get(modelId, docs, null);
+        assertNull(results[0]);
+        assertNull(results[1]);
+        verify(modelCacheHelper).addEmbeddingCacheStats(modelId, 0, 2);
+
+        embeddingCache.put(modelId, 0, docs, null, Arrays.asList(tensors(4), tensors(4)));
+        results = embeddingCache.get(modelId, Arrays.asList("doc2", "doc3"), null);
+        assertNotNull(results[0]);
+        assertNull(results[1]);
+        verify(modelCacheHelper).addEmbeddingCacheStats(modelId, 1, 1);
+
+        assertNull(embeddingCache.get("other_model_id", docs, null)[0]);
+        ModelResultFilter resultFilter = ModelResultFilter.builder().returnNumber(true).build();
+        assertNull(embeddingCache.get(modelId, docs, resultFilter)[0]);
+    }
+
+    public void testInvalidate() {
+        List<String> docs = Arrays.asList("doc1");
+        embeddingCache.put(modelId, 0, docs, null, Arrays.asList(tensors(4)));
+        embeddingCache.put("other_model_id", 0, docs, null, Arrays.asList(tensors(4)));
+        embeddingCache.invalidate(modelId);
+        assertNull(embeddingCache.get(modelId, docs, null)[0]);
+        assertNotNull(embeddingCache.get("other_model_id", docs, null)[0]);
+    }
+
+    public void testPut_DropStaleGeneration() {
+        List<String> docs = Arrays.asList("doc1");
+        when(modelCacheHelper.getEmbeddingCacheGeneration(modelId)).thenReturn(1L);
+        long generation = embeddingCache.getGeneration(modelId);
+        // model reloaded while predicting
+        when(modelCacheHelper.getEmbeddingCacheGeneration(modelId)).thenReturn(2L);
+        embeddingCache.put(modelId, generation, docs, null, Arrays.asList(tensors(4)));
+        assertNull(embeddingCache.get(modelId, docs, null)[0]);
+
+        embeddingCache.put(modelId, embeddingCache.getGeneration(modelId), docs, null, Arrays.asList(tensors(4)));
+        assertNotNull(embeddingCache.get(modelId, docs, null)[0]);
+    }
+
+    public void testHash_DocAndFilterSeparated() {
+        byte[] filterBytes = "c".getBytes(StandardCharsets.UTF_8);
+        assertFalse(Arrays.equals(MLEmbeddingCache.hash("abc", new byte[0]), MLEmbeddingCache.hash("ab", filterBytes)));
+        assertArrayEquals(MLEmbeddingCache.hash("ab", filterBytes), MLEmbeddingCache.hash("ab", filterBytes));
+    }
+
+    public void testGetAndPut_DefensiveCopy() {
+        List<String> docs = Arrays.asList("doc1");
+        ModelTensors tensors = tensors(4);
+        embeddingCache.put(modelId, 0, docs, null, Arrays.asList(tensors));
+        tensors.getMlModelTensors().get(0).getFloatData()[0] = 1.0f;
+
+        ModelTensors cached = embeddingCache.get(modelId, docs, null)[0];
+        assertEquals(0.1f, cached.getMlModelTensors().get(0).getFloatData()[0], 0);
+        cached.getMlModelTensors().get(0).getFloatData()[0] = 2.0f;
+        cached.getMlModelTensors().get(0).getShape()[0] = 8;
+
+        ModelTensors cachedAgain = embeddingCache.get(modelId, docs, null)[0];
+        assertEquals(0.1f, cachedAgain.getMlModelTensors().get(0).getFloatData()[0], 0);
+        assertEquals(4, cachedAgain.getMlModelTensors().get(0).getShape()[0]);
+    }
+
+    public void testEviction() {
+        List<String> docs = new ArrayList<>();
+        List<ModelTensors> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            docs.add("doc" + i);
+            results.add(tensors(384));
+        }
+        embeddingCache.put(modelId, 0, docs, null, results);
+        verify(modelCacheHelper, atLeastOnce()).addEmbeddingCacheEviction(eq(modelId));
+        assertNull(embeddingCache.get(modelId, docs, null)[0]);
+        assertNotNull(embeddingCache.get(modelId, docs, null)[19]);
+    }
+
+    public void testDisabled() {
+        clusterService.getClusterSettings().applySettings(Settings.builder().put(ML_COMMONS_EMBEDDING_CACHE_SIZE.getKey(), "0b").build());
+        assertFalse(embeddingCache.isEnabled());
+        List<String> docs = Arrays.asList("doc1");
+        embeddingCache.put(modelId, 0, docs, null, Arrays.asList(tensors(4)));
+        assertNull(embeddingCache.get(modelId, docs, null)[0]);
+    }
+
+    private ModelTensors tensors(int dimension) {
+        Number[] data = new Number[dimension];
+        Arrays.fill(data, 0.1f);
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .data(data)
+            .shape(new long[] { dimension })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        return ModelTensors.builder().mlModelTensors(Arrays.asList(tensor)).build();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelArtifactCacheTests extends OpenSearchTestCase {
+
+    private MLModelArtifactCache createCache(Path rootPath, String size) {
+        Settings settings = Settings.builder().put(ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE.getKey(), size).build();
+        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE);
+        ClusterService clusterService = new ClusterService(settings, clusterSettings, null);
+        return new MLModelArtifactCache(rootPath, clusterService, settings);
+    }
+
+    private File createFile(int size) throws IOException {
+        File file = createTempDir().resolve("model.zip").toFile();
+        Files.write(file.toPath(), new byte[size]);
+        return file;
+    }
+
+    public void testGetAndPut() throws IOException {
+        MLModelArtifactCache cache = createCache(createTempDir(), "1kb");
+        assertNull(cache.get("abc1"));
+        File modelZipFile = createFile(10);
+        File cachedFile = cache.put("abc1", modelZipFile);
+        assertFalse(modelZipFile.exists());
+        assertEquals(cachedFile, cache.get("abc1"));
+        assertEquals(10, cachedFile.length());
+
+        cache.remove("abc1");
+        assertNull(cache.get("abc1"));
+    }
+
+    public void testPut_InvalidHash() throws IOException {
+        MLModelArtifactCache cache = createCache(createTempDir(), "1kb");
+        File modelZipFile = createFile(10);
+        assertEquals(modelZipFile, cache.put("../abc1", modelZipFile));
+        assertTrue(modelZipFile.exists());
+        assertNull(cache.get("../abc1"));
+        assertNull(cache.getDownloadFile("../abc1"));
+    }
+
+    public void testPut_Disabled() throws IOException {
+        MLModelArtifactCache cache = createCache(createTempDir(), "0b");
+        assertFalse(cache.isEnabled());
+        File modelZipFile = createFile(10);
+        assertEquals(modelZipFile, cache.put("abc1", modelZipFile));
+        assertNull(cache.get("abc1"));
+        assertNull(cache.getDownloadFile("abc1"));
+    }
+
+    public void testEviction() throws IOException {
+        Path rootPath = createTempDir();
+        MLModelArtifactCache cache = createCache(rootPath, "1kb");
+        File first = cache.put("abc1", createFile(600));
+        assertTrue(first.setLastModified(System.currentTimeMillis() - 10_000));
+        cache.put("abc2", createFile(600));
+        assertNull(cache.get("abc1"));
+        assertNotNull(cache.get("abc2"));
+
+        // Files are kept on disk, so new cache on same folder still finds them.
+        assertNotNull(createCache(rootPath, "1kb").get("abc2"));
+
+        File tooLarge = createFile(2000);
+        assertEquals(tooLarge, cache.put("abc3", tooLarge));
+        assertNotNull(cache.get("abc2"));
+    }
+
+    public void testEviction_ExtractedFolder() throws IOException {
+        Path rootPath = createTempDir();
+        MLModelArtifactCache cache = createCache(rootPath, "1kb");
+        File first = cache.put("abc1", createFile(100));
+        Path extractedFile = rootPath.resolve("abc1").resolve("model").resolve("model.pt");
+        Files.createDirectories(extractedFile.getParent());
+        Files.write(extractedFile, new byte[500]);
+        assertTrue(first.setLastModified(System.currentTimeMillis() - 10_000));
+
+        // Extracted folder counts towards cache size, so first artifact is evicted with its folder.
+        cache.put("abc2", createFile(500));
+        assertNull(cache.get("abc1"));
+        assertFalse(Files.exists(rootPath.resolve("abc1")));
+        assertNotNull(cache.get("abc2"));
+
+        Files.createDirectories(rootPath.resolve("abc2").resolve("model"));
+        cache.remove("abc2");
+        assertFalse(Files.exists(rootPath.resolve("abc2")));
+    }
+
+    public void testEviction_SkipAcquired() throws IOException {
+        Path rootPath = createTempDir();
+        MLModelArtifactCache cache = createCache(rootPath, "1kb");
+        File first = cache.putAndAcquire("abc1", createFile(600));
+        assertTrue(first.setLastModified(System.currentTimeMillis() - 10_000));
+
+        // First artifact is used by a loaded model, so it's kept even though cache is over size.
+        cache.put("abc2", createFile(600));
+        assertNotNull(cache.get("abc1"));
+
+        cache.release("abc1");
+        assertTrue(first.setLastModified(System.currentTimeMillis() - 10_000));
+        cache.put("abc3", createFile(100));
+        assertNull(cache.get("abc1"));
+    }
+
+    public void testRemove_DeferredUntilReleased() throws IOException {
+        Path rootPath = createTempDir();
+        MLModelArtifactCache cache = createCache(rootPath, "1kb");
+        cache.put("abc1", createFile(10));
+        Files.createDirectories(rootPath.resolve("abc1").resolve("model"));
+        File file = cache.acquire("abc1");
+        assertNotNull(cache.acquire("abc1"));
+
+        cache.remove("abc1");
+        assertTrue(file.exists());
+        assertTrue(Files.exists(rootPath.resolve("abc1")));
+        assertNull(cache.get("abc1"));
+
+        cache.release("abc1");
+        assertTrue(file.exists());
+        cache.release("abc1");
+        assertFalse(file.exists());
+        assertFalse(Files.exists(rootPath.resolve("abc1")));
+    }
+}
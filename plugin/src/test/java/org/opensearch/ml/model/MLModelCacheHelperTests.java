@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.model;
 
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,15 +22,21 @@ import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.engine.algorithms.text_embedding.PredictorPool;
 import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingModel;
+import org.opensearch.ml.profile.MLEmbeddingCacheStats;
+import org.opensearch.ml.profile.MLModelMemoryStats;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.profile.MLPredictorPoolStats;
 import org.opensearch.test.OpenSearchTestCase;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 
 public class MLModelCacheHelperTests extends OpenSearchTestCase {
@@ -71,6 +78,24 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(FunctionName.TEXT_EMBEDDING, cacheHelper.getFunctionName(modelId));
     }
 
+    public void testInitModelState_KeepWorkerNodes() {
+        cacheHelper.addWorkerNode(modelId, nodeId);
+        cacheHelper.initModelState(modelId, MLModelState.LOADING, FunctionName.KMEANS);
+        cacheHelper.addWorkerNode(modelId, "node_id2");
+        assertEquals(ImmutableSet.of(nodeId, "node_id2"), ImmutableSet.copyOf(cacheHelper.getWorkerNodes(modelId)));
+    }
+
+    public void testGetEmbeddingCacheGeneration() {
+        assertEquals(-1, cacheHelper.getEmbeddingCacheGeneration(modelId));
+        cacheHelper.initModelState(modelId, MLModelState.LOADED, FunctionName.TEXT_EMBEDDING);
+        long generation = cacheHelper.getEmbeddingCacheGeneration(modelId);
+        assertEquals(generation, cacheHelper.getEmbeddingCacheGeneration(modelId));
+
+        cacheHelper.removeModel(modelId);
+        cacheHelper.initModelState(modelId, MLModelState.LOADED, FunctionName.TEXT_EMBEDDING);
+        assertNotEquals(generation, cacheHelper.getEmbeddingCacheGeneration(modelId));
+    }
+
     public void testModelState_DuplicateError() {
         expectedEx.expect(IllegalArgumentException.class);
         expectedEx.expectMessage("Duplicate model task");
@@ -169,6 +194,30 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         verify(predictor, times(1)).close();
     }
 
+    public void testStartPredict_ModelNotLoaded() {
+        assertNull(cacheHelper.startPredict(modelId));
+        assertFalse(cacheHelper.isModelRunningOnNode(modelId));
+
+        cacheHelper.initModelState(modelId, MLModelState.LOADING, FunctionName.TEXT_EMBEDDING);
+        cacheHelper.setPredictor(modelId, predictor);
+        assertNull(cacheHelper.startPredict(modelId));
+    }
+
+    public void testRemoveModelIfIdle_InFlightPredict() {
+        cacheHelper.initModelState(modelId, MLModelState.LOADED, FunctionName.TEXT_EMBEDDING);
+        cacheHelper.setPredictor(modelId, predictor);
+        MLModelCacheHelper.InFlightPredict inFlightPredict = cacheHelper.startPredict(modelId);
+        assertEquals(predictor, inFlightPredict.getPredictor());
+        assertFalse(cacheHelper.removeModelIfIdle(modelId));
+        assertTrue(cacheHelper.isModelLoaded(modelId));
+        verify(predictor, times(0)).close();
+
+        inFlightPredict.close();
+        assertTrue(cacheHelper.removeModelIfIdle(modelId));
+        assertFalse(cacheHelper.isModelRunningOnNode(modelId));
+        verify(predictor, times(1)).close();
+    }
+
     public void testClearWorkerNodes_NullModelState() {
         String modelId2 = "model_id2";
         cacheHelper.addWorkerNode(modelId, nodeId);
@@ -252,6 +301,7 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(MLModelState.LOADED, modelProfile.getModelState());
         assertArrayEquals(new String[] { nodeId }, modelProfile.getWorkerNodes());
         assertNull(modelProfile.getModelInferenceStats());
+        assertNull(modelProfile.getPredictorPoolStats());
 
         for (int i = 1; i <= maxMonitoringRequests * 2; i++) {
             cacheHelper.addModelInferenceDuration(modelId, i);
@@ -264,6 +314,42 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(maxMonitoringRequests, predictStats.getCount().longValue());
     }
 
+    public void testGetModelProfile_PredictorPool() {
+        PredictorPool predictorPool = mock(PredictorPool.class);
+        when(predictorPool.getSize()).thenReturn(4);
+        when(predictorPool.getInUse()).thenReturn(1);
+        when(predictorPool.getCheckoutCount()).thenReturn(10L);
+        when(predictorPool.getAverageWaitTimeInMillis()).thenReturn(0.5);
+        when(predictorPool.getMaxWaitTimeInMillis()).thenReturn(2.0);
+        when(predictor.getPredictorPool()).thenReturn(predictorPool);
+        cacheHelper.initModelState(modelId, MLModelState.LOADING, FunctionName.TEXT_EMBEDDING);
+        cacheHelper.setModelState(modelId, MLModelState.LOADED);
+        cacheHelper.setPredictor(modelId, predictor);
+
+        MLPredictorPoolStats predictorPoolStats = cacheHelper.getModelProfile(modelId).getPredictorPoolStats();
+        assertNotNull(predictorPoolStats);
+        assertEquals(4, predictorPoolStats.getSize().intValue());
+        assertEquals(1, predictorPoolStats.getInUse().intValue());
+        assertEquals(10L, predictorPoolStats.getCheckoutCount().longValue());
+        assertEquals(0.5, predictorPoolStats.getAverageWaitTime(), 1e-5);
+        assertEquals(2.0, predictorPoolStats.getMaxWaitTime(), 1e-5);
+    }
+
+    public void testGetModelProfile_EmbeddingCacheStats() {
+        cacheHelper.initModelState(modelId, MLModelState.LOADING, FunctionName.TEXT_EMBEDDING);
+        assertNull(cacheHelper.getModelProfile(modelId).getEmbeddingCacheStats());
+
+        cacheHelper.addEmbeddingCacheStats(modelId, 3, 1);
+        cacheHelper.addEmbeddingCacheStats(modelId, 1, 2);
+        cacheHelper.addEmbeddingCacheEviction(modelId);
+        cacheHelper.addEmbeddingCacheStats("wrong_model_id", 1, 1);
+        MLEmbeddingCacheStats embeddingCacheStats = cacheHelper.getModelProfile(modelId).getEmbeddingCacheStats();
+        assertEquals(4L, embeddingCacheStats.getHitCount().longValue());
+        assertEquals(3L, embeddingCacheStats.getMissCount().longValue());
+        assertEquals(1L, embeddingCacheStats.getEvictionCount().longValue());
+        assertNull(cacheHelper.getModelProfile("wrong_model_id"));
+    }
+
     public void testGetModelProfile_Loading() {
         cacheHelper.initModelState(modelId, MLModelState.LOADING, FunctionName.TEXT_EMBEDDING);
         MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
@@ -273,4 +359,53 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertNull(modelProfile.getWorkerNodes());
         assertNull(modelProfile.getModelInferenceStats());
     }
+
+    public void testSelectModelsToEvict() {
+        for (int i = 1; i <= 3; i++) {
+            cacheHelper.initModelState("model" + i, MLModelState.LOADED, FunctionName.TEXT_EMBEDDING);
+            cacheHelper.setMemoryEstimate("model" + i, 40, 60);
+        }
+        cacheHelper.updateLastAccessTime("model1");
+        cacheHelper.initModelState(modelId, MLModelState.LOADING, FunctionName.TEXT_EMBEDDING);
+        cacheHelper.setMemoryEstimate(modelId, 0, 150);
+
+        assertEquals(0, cacheHelper.selectModelsToEvict(modelId, 10, 0, 0).size());
+        assertEquals(0, cacheHelper.selectModelsToEvict(modelId, 10, 450, 330).size());
+        assertEquals(ImmutableList.of("model2"), cacheHelper.selectModelsToEvict(modelId, 3, 450, 0));
+        assertEquals(ImmutableList.of("model2", "model3"), cacheHelper.selectModelsToEvict(modelId, 10, 300, 0));
+        assertEquals(ImmutableList.of("model2"), cacheHelper.selectModelsToEvict(modelId, 10, 0, 300));
+        assertNull(cacheHelper.selectModelsToEvict(modelId, 10, 100, 0));
+        assertNull(cacheHelper.selectModelsToEvict(modelId, 10, 0, 100));
+
+        assertTrue(cacheHelper.exceedsMemoryBudget(400, 0));
+        assertFalse(cacheHelper.exceedsMemoryBudget(450, 0));
+        assertTrue(cacheHelper.exceedsMemoryBudget(0, 300));
+        assertFalse(cacheHelper.exceedsMemoryBudget(0, 330));
+        assertFalse(cacheHelper.exceedsMemoryBudget(0, 0));
+    }
+
+    public void testSelectModelsToEvict_SkipInFlightPredicts() {
+        for (int i = 1; i <= 2; i++) {
+            cacheHelper.initModelState("model" + i, MLModelState.LOADED, FunctionName.TEXT_EMBEDDING);
+        }
+        cacheHelper.updateLastAccessTime("model2");
+        cacheHelper.initModelState(modelId, MLModelState.LOADING, FunctionName.TEXT_EMBEDDING);
+
+        cacheHelper.setPredictor("model1", predictor);
+        Releasable predict = cacheHelper.startPredict("model1");
+        assertEquals(ImmutableList.of("model2"), cacheHelper.selectModelsToEvict(modelId, 2, 0, 0));
+        assertNull(cacheHelper.selectModelsToEvict(modelId, 1, 0, 0));
+
+        predict.close();
+        assertEquals(ImmutableList.of("model1"), cacheHelper.selectModelsToEvict(modelId, 2, 0, 0));
+    }
+
+    public void testGetModelProfile_MemoryStats() {
+        cacheHelper.initModelState(modelId, MLModelState.LOADING, FunctionName.TEXT_EMBEDDING);
+        assertNull(cacheHelper.getModelProfile(modelId).getMemoryStats());
+        cacheHelper.setMemoryEstimate(modelId, 10, 100);
+        MLModelMemoryStats memoryStats = cacheHelper.getModelProfile(modelId).getMemoryStats();
+        assertEquals(10L, memoryStats.getHeapSizeInBytes().longValue());
+        assertEquals(100L, memoryStats.getNativeSizeInBytes().longValue());
+    }
 }
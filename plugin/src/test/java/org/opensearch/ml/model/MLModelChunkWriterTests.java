@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelChunkWriterTests extends OpenSearchTestCase {
+
+    public void testWrite_OutOfOrder() throws IOException {
+        File file = createTempDir().resolve("model/model.zip").toFile();
+        MLModelChunkWriter chunkWriter;
+        try (MLModelChunkWriter writer = new MLModelChunkWriter(file, 3, null)) {
+            chunkWriter = writer;
+            assertEquals(0, writer.write(2, new byte[] { 5 }));
+            assertEquals(0, writer.write(1, new byte[] { 3, 4 }));
+            assertFalse(writer.isComplete());
+            expectThrows(IllegalStateException.class, writer::getContentHash);
+            assertEquals(3, writer.write(0, new byte[] { 0, 1, 2 }));
+            assertTrue(writer.isComplete());
+        }
+        assertArrayEquals(new byte[] { 0, 1, 2, 3, 4, 5 }, Files.readAllBytes(file.toPath()));
+        assertEquals(calculateFileHash(file), chunkWriter.getContentHash());
+    }
+
+    public void testWrite_TruncatePreallocatedFile() throws IOException {
+        File file = createTempDir().resolve("model.zip").toFile();
+        try (MLModelChunkWriter writer = new MLModelChunkWriter(file, 2, 100L)) {
+            assertEquals(100, file.length());
+            writer.write(0, new byte[] { 0, 1 });
+            writer.write(1, new byte[] { 2 });
+            assertEquals(calculateFileHash(file), writer.getContentHash());
+        }
+        assertArrayEquals(new byte[] { 0, 1, 2 }, Files.readAllBytes(file.toPath()));
+    }
+
+    public void testWrite_WrongChunkNumber() throws IOException {
+        File file = createTempDir().resolve("model.zip").toFile();
+        try (MLModelChunkWriter writer = new MLModelChunkWriter(file, 2, null)) {
+            writer.write(0, new byte[] { 0 });
+            IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> writer.write(0, new byte[] { 0 }));
+            assertEquals("Wrong model chunk number 0", e.getMessage());
+            e = expectThrows(IllegalArgumentException.class, () -> writer.write(2, new byte[] { 0 }));
+            assertEquals("Wrong model chunk number 2", e.getMessage());
+        }
+    }
+}
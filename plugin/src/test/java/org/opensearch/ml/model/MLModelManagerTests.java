@@ -7,25 +7,43 @@ package org.opensearch.ml.model;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
+import static org.opensearch.ml.engine.ModelHelper.TOTAL_CHUNKS;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.LOAD_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.UPLOAD_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_INFERENCE_INTER_OP_THREADS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_INFERENCE_INTRA_OP_THREADS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_LOAD_QPS_THRESHOLD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_UNLOAD_IDLE_TIME;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_MEMORY_BUDGET;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_NATIVE_MEMORY_BUDGET;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_UPLOAD_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_MAX_DELAY_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCH_MAX_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICTOR_CACHE_SIZE;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex_failure;
 import static org.opensearch.ml.utils.MockHelper.mock_client_ThreadContext;
@@ -41,13 +59,17 @@ import static org.opensearch.ml.utils.MockHelper.mock_threadpool;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 import static org.opensearch.ml.utils.TestHelper.copyFile;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -59,13 +81,21 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
@@ -75,14 +105,23 @@ import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.common.dataset.MLInputDataType;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.load.MLLoadModelAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.transport.upload.MLUploadInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.indices.MLIndicesHandler;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
@@ -152,7 +191,20 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             settings,
             ML_COMMONS_MAX_MODELS_PER_NODE,
             ML_COMMONS_MAX_UPLOAD_TASKS_PER_NODE,
-            ML_COMMONS_MONITORING_REQUEST_COUNT
+            ML_COMMONS_MONITORING_REQUEST_COUNT,
+            ML_COMMONS_PREDICT_BATCH_MAX_DELAY_IN_MILLIS,
+            ML_COMMONS_PREDICT_BATCH_MAX_SIZE,
+            ML_COMMONS_EMBEDDING_CACHE_SIZE,
+            ML_COMMONS_INFERENCE_INTRA_OP_THREADS,
+            ML_COMMONS_INFERENCE_INTER_OP_THREADS,
+            ML_COMMONS_MAX_CONCURRENT_MODEL_CHUNK_REQUESTS,
+            ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE,
+            ML_COMMONS_MODEL_MEMORY_BUDGET,
+            ML_COMMONS_MODEL_NATIVE_MEMORY_BUDGET,
+            ML_COMMONS_MODEL_EVICTION_ENABLED,
+            ML_COMMONS_PREDICTOR_CACHE_SIZE,
+            ML_COMMONS_MODEL_AUTO_LOAD_QPS_THRESHOLD,
+            ML_COMMONS_MODEL_AUTO_UNLOAD_IDLE_TIME
         );
         clusterService = spy(new ClusterService(settings, clusterSettings, null));
         xContentRegistry = NamedXContentRegistry.EMPTY;
@@ -267,7 +319,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
 
         modelManager.uploadMLModel(uploadInput, mlTask);
         verify(mlTaskManager).updateMLTask(anyString(), anyMap(), anyLong(), anyBoolean());
-        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any());
+        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any());
         verify(client, never()).index(any(), any());
     }
 
@@ -282,7 +334,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.uploadMLModel(uploadInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client).index(any(), any());
-        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any());
+        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any());
     }
 
     public void testUploadMLModel_IndexModelChunkFailure() throws IOException {
@@ -291,13 +343,16 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.executor(UPLOAD_THREAD_POOL)).thenReturn(taskExecutorService);
         mock_client_ThreadContext(client, threadPool, threadContext);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
-        mock_client_index_ModelChunkFailure(client, modelId);
+        mock_client_index(client, modelId);
+        mock_client_bulk_failure(client);
         setUpMock_DownloadModelFile(createTempChunkFiles(), 1000L);
 
         modelManager.uploadMLModel(uploadInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
-        verify(client, times(2)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(any(), any(), any(), any(), any());
+        verify(client, times(1)).index(any(), any());
+        verify(client).bulk(any(), any());
+        verify(mlTaskManager).updateMLTask(eq(mlTask.getTaskId()), any(), anyLong(), eq(true));
+        verify(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any());
     }
 
     public void testUploadMLModel_DownloadModelFileFailure() {
@@ -311,7 +366,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.uploadMLModel(uploadInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelId), eq(modelName), eq(version), eq(url), any());
+        verify(modelHelper).downloadAndSplit(eq(modelId), eq(modelName), eq(version), eq(url), any(), any());
     }
 
     public void testUploadMLModel_DownloadModelFile() throws IOException {
@@ -320,13 +375,15 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.executor(UPLOAD_THREAD_POOL)).thenReturn(taskExecutorService);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index(client, modelId);
+        mock_client_bulk(client);
         String[] newChunks = createTempChunkFiles();
         setUpMock_DownloadModelFile(newChunks, 1000L);
 
         modelManager.uploadMLModel(uploadInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
-        verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelId), eq(modelName), eq(version), eq(url), any());
+        verify(client, times(1)).index(any(), any());
+        verify(client).bulk(any(), any());
+        verify(modelHelper).downloadAndSplit(eq(modelId), eq(modelName), eq(version), eq(url), any(), any());
     }
 
     public void testUploadMLModel_LoadModel() throws IOException {
@@ -335,6 +392,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.executor(UPLOAD_THREAD_POOL)).thenReturn(taskExecutorService);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index(client, modelId);
+        mock_client_bulk(client);
         String[] newChunks = createTempChunkFiles();
         setUpMock_DownloadModelFile(newChunks, 1000L);
         mock_client_update(client);
@@ -342,8 +400,9 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         MLUploadInput mlUploadInput = uploadInput.toBuilder().loadModel(true).build();
         modelManager.uploadMLModel(mlUploadInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
-        verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelId), eq(modelName), eq(version), eq(url), any());
+        verify(client, times(1)).index(any(), any());
+        verify(client).bulk(any(), any());
+        verify(modelHelper).downloadAndSplit(eq(modelId), eq(modelName), eq(version), eq(url), any(), any());
         verify(client).execute(eq(MLLoadModelAction.INSTANCE), any(), any());
     }
 
@@ -353,6 +412,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.executor(UPLOAD_THREAD_POOL)).thenReturn(taskExecutorService);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index(client, modelId);
+        mock_client_bulk(client);
         String[] newChunks = createTempChunkFiles();
         setUpMock_DownloadModelFile(newChunks, 1000L);
         mock_client_update_failure(client);
@@ -360,8 +420,9 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         MLUploadInput mlUploadInput = uploadInput.toBuilder().loadModel(true).build();
         modelManager.uploadMLModel(mlUploadInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
-        verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelId), eq(modelName), eq(version), eq(url), any());
+        verify(client, times(1)).index(any(), any());
+        verify(client).bulk(any(), any());
+        verify(modelHelper).downloadAndSplit(eq(modelId), eq(modelName), eq(version), eq(url), any(), any());
         verify(client, never()).execute(eq(MLLoadModelAction.INSTANCE), any(), any());
     }
 
@@ -371,13 +432,14 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.executor(UPLOAD_THREAD_POOL)).thenReturn(taskExecutorService);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index(client, modelId);
+        mock_client_bulk(client);
         String[] newChunks = createTempChunkFiles();
         setUpMock_DownloadModelFile(newChunks, 10 * 1024 * 1024 * 1024L);
 
         modelManager.uploadMLModel(uploadInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(1)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelId), eq(modelName), eq(version), eq(url), any());
+        verify(modelHelper).downloadAndSplit(eq(modelId), eq(modelName), eq(version), eq(url), any(), any());
     }
 
     public void testUploadModel_ClientFailedToGetThreadPool() {
@@ -446,12 +508,30 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
         verify(listener).onFailure(exception.capture());
         assertEquals("model content changed", exception.getValue().getMessage());
+        assertFalse(new File(mlEngine.getLoadModelZipPath(modelId, model.getName())).exists());
         verify(mlStats)
             .createCounterStatIfAbsent(eq(FunctionName.TEXT_EMBEDDING), eq(ActionName.LOAD), eq(MLActionLevelStat.ML_ACTION_REQUEST_COUNT));
         verify(mlStats, never())
             .createCounterStatIfAbsent(eq(FunctionName.TEXT_EMBEDDING), eq(ActionName.LOAD), eq(MLActionLevelStat.ML_ACTION_FAILURE_COUNT));
     }
 
+    public void testLoadModel_NullHashArgument_WrongHashValue() {
+        ActionListener<String> listener = mock(ActionListener.class);
+        when(modelCacheHelper.isModelLoaded(modelId)).thenReturn(false);
+        when(modelCacheHelper.getLoadedModels()).thenReturn(new String[] {});
+        mock_client_ThreadContext(client, threadPool, threadContext);
+        mock_threadpool(threadPool, taskExecutorService);
+        setUpMock_GetModel(model);
+        setUpMock_GetModel(modelChunk0);
+        setUpMock_GetModel(modelChunk0);
+        modelManager.loadModel(modelId, null, FunctionName.TEXT_EMBEDDING, listener);
+        assertFalse(modelManager.isModelRunningOnNode(modelId));
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exception.capture());
+        assertEquals("model content changed", exception.getValue().getMessage());
+        assertNull(modelManager.getModelArtifact(modelContentHashValue));
+    }
+
     public void testLoadModel_GetModelResponse_FailedToLoad() {
         ActionListener<String> listener = mock(ActionListener.class);
         when(modelCacheHelper.isModelLoaded(modelId)).thenReturn(false);
@@ -493,6 +573,90 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         assertEquals("Exceed max model per node limit", failure.getValue().getMessage());
     }
 
+    public void testLoadModel_ExceedMaxLoadedModel_NoModelToEvict() {
+        clusterService.getClusterSettings().applySettings(Settings.builder().put(ML_COMMONS_MODEL_EVICTION_ENABLED.getKey(), true).build());
+        when(modelCacheHelper.isModelLoaded(modelId)).thenReturn(false);
+        String[] models = new String[100];
+        for (int i = 0; i < 100; i++) {
+            models[i] = "model" + i;
+        }
+        when(modelCacheHelper.getLoadedModels()).thenReturn(models);
+        when(modelCacheHelper.selectModelsToEvict(eq(modelId), anyInt(), anyLong(), anyLong())).thenReturn(null);
+        ActionListener<String> listener = mock(ActionListener.class);
+        modelManager.loadModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, listener);
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(failure.capture());
+        assertEquals("Exceed max model per node limit", failure.getValue().getMessage());
+        verify(modelCacheHelper).selectModelsToEvict(eq(modelId), anyInt(), anyLong(), anyLong());
+        verify(modelCacheHelper, never()).removeModel(anyString());
+    }
+
+    public void testAutoLoadAndUnloadModels() {
+        DiscoveryNode localNode = new DiscoveryNode("localNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
+        ClusterState clusterState = ClusterState
+            .builder(new ClusterName("test cluster"))
+            .nodes(DiscoveryNodes.builder().add(localNode).localNodeId(localNode.getId()).build())
+            .build();
+        doReturn(localNode).when(clusterService).localNode();
+        doReturn(clusterState).when(clusterService).state();
+        clusterService.getClusterSettings().applySettings(Settings.builder().put(ML_COMMONS_MODEL_AUTO_LOAD_QPS_THRESHOLD.getKey(), 1).build());
+        verify(threadPool).scheduleWithFixedDelay(any(), any(), eq(GENERAL_THREAD_POOL));
+        doAnswer(invocation -> {
+            ActionListener<String> listener = invocation.getArgument(3);
+            listener.onResponse("successful");
+            return null;
+        }).when(modelManager).loadModel(eq(modelId), any(), eq(FunctionName.KMEANS), any());
+
+        // 5 requests in 10 seconds doesn't reach threshold
+        for (int i = 0; i < 5; i++) {
+            modelManager.recordModelPredict(modelId, FunctionName.KMEANS);
+        }
+        modelManager.autoLoadAndUnloadModels();
+        verify(modelManager, never()).loadModel(eq(modelId), any(), any(), any());
+
+        for (int i = 0; i < 10; i++) {
+            modelManager.recordModelPredict(modelId, FunctionName.KMEANS);
+        }
+        modelManager.autoLoadAndUnloadModels();
+        verify(modelManager).loadModel(eq(modelId), any(), eq(FunctionName.KMEANS), any());
+        verify(modelCacheHelper).addWorkerNode(modelId, localNode.getId());
+        ArgumentCaptor<MLSyncUpNodesRequest> syncUpRequest = ArgumentCaptor.forClass(MLSyncUpNodesRequest.class);
+        verify(client).execute(eq(MLSyncUpAction.INSTANCE), syncUpRequest.capture(), any());
+        assertArrayEquals(
+            new String[] { localNode.getId() },
+            syncUpRequest.getValue().getSyncUpInput().getAddedWorkerNodes().get(modelId)
+        );
+        ArgumentCaptor<ImmutableMap<String, Object>> updatedFields = ArgumentCaptor.forClass(ImmutableMap.class);
+        verify(modelManager).updateModel(eq(modelId), updatedFields.capture());
+        assertEquals(MLModelState.LOADED, updatedFields.getValue().get(MLModel.MODEL_STATE_FIELD));
+
+        // auto loaded model not idle yet
+        when(modelCacheHelper.isModelLoaded(modelId)).thenReturn(true);
+        when(modelCacheHelper.getFunctionName(modelId)).thenReturn(FunctionName.KMEANS);
+        when(modelCacheHelper.getIdleTimeInNanos(modelId)).thenReturn(TimeValue.timeValueMinutes(1).nanos());
+        modelManager.autoLoadAndUnloadModels();
+        verify(modelCacheHelper, never()).removeModelIfIdle(modelId);
+
+        when(modelCacheHelper.getIdleTimeInNanos(modelId)).thenReturn(TimeValue.timeValueMinutes(11).nanos());
+        when(modelCacheHelper.removeModelIfIdle(modelId)).thenReturn(true);
+        modelManager.autoLoadAndUnloadModels();
+        verify(modelCacheHelper).removeModelIfIdle(modelId);
+        verify(client, times(2)).execute(eq(MLSyncUpAction.INSTANCE), syncUpRequest.capture(), any());
+        assertArrayEquals(
+            new String[] { localNode.getId() },
+            syncUpRequest.getValue().getSyncUpInput().getRemovedWorkerNodes().get(modelId)
+        );
+    }
+
+    public void testRecordModelPredict_AutoLoadDisabled() {
+        for (int i = 0; i < 100; i++) {
+            modelManager.recordModelPredict(modelId, FunctionName.KMEANS);
+        }
+        modelManager.autoLoadAndUnloadModels();
+        verify(modelManager, never()).loadModel(eq(modelId), any(), any(), any());
+        verify(threadPool, never()).scheduleWithFixedDelay(any(), any(), any());
+    }
+
     public void testLoadModel_ThreadPoolException() {
         when(modelCacheHelper.isModelLoaded(modelId)).thenReturn(false);
         when(modelCacheHelper.getLoadedModels()).thenReturn(new String[] {});
@@ -522,12 +686,23 @@ public class MLModelManagerTests extends OpenSearchTestCase {
     public void testUnloadModel_EmptyModelIds_LoadedModel() {
         when(modelCacheHelper.getLoadedModels()).thenReturn(new String[] { modelId });
         when(modelCacheHelper.getFunctionName(modelId)).thenReturn(FunctionName.TEXT_EMBEDDING);
+        when(modelCacheHelper.removeModelIfIdle(modelId)).thenReturn(true);
         Map<String, String> unloadModelStatus = modelManager.unloadModel(new String[] {});
         assertEquals(1, unloadModelStatus.size());
         assertTrue(unloadModelStatus.containsKey(modelId));
         assertEquals("unloaded", unloadModelStatus.get(modelId));
     }
 
+    public void testUnloadModel_InFlightPredict() {
+        when(modelCacheHelper.isModelLoaded(modelId)).thenReturn(true);
+        when(modelCacheHelper.getFunctionName(modelId)).thenReturn(FunctionName.TEXT_EMBEDDING);
+        when(modelCacheHelper.removeModelIfIdle(modelId)).thenReturn(false);
+        Map<String, String> unloadModelStatus = modelManager.unloadModel(new String[] { modelId });
+        assertEquals("in_use", unloadModelStatus.get(modelId));
+        verify(modelCacheHelper, never()).removeModel(modelId);
+        verify(mlStats, never()).createCounterStatIfAbsent(any(), eq(ActionName.UNLOAD), any());
+    }
+
     public void testUpdateModel_NullUpdatedFields() {
         ActionListener<UpdateResponse> listener = mock(ActionListener.class);
         modelManager.updateModel(modelId, null, listener);
@@ -564,6 +739,147 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         verify(modelCacheHelper).clearWorkerNodes();
     }
 
+    public void testModelLoadListeners() {
+        ActionListener<String[]> listener1 = mock(ActionListener.class);
+        ActionListener<String[]> listener2 = mock(ActionListener.class);
+        assertTrue(modelManager.addModelLoadListener(modelId, listener1));
+        assertFalse(modelManager.addModelLoadListener(modelId, listener2));
+        verify(threadPool).schedule(any(Runnable.class), any(), eq(PREDICT_THREAD_POOL));
+
+        String[] workerNodes = new String[] { "node1" };
+        when(modelCacheHelper.getWorkerNodes(modelId)).thenReturn(workerNodes);
+        modelManager.notifyModelLoadListeners(modelId, null);
+        verify(listener1).onResponse(workerNodes);
+        verify(listener2).onResponse(workerNodes);
+
+        // model loading finished, next listener starts loading model again
+        assertTrue(modelManager.addModelLoadListener(modelId, mock(ActionListener.class)));
+    }
+
+    public void testModelLoadListeners_ModelNotLoaded() {
+        ActionListener<String[]> listener = mock(ActionListener.class);
+        assertTrue(modelManager.addModelLoadListener(modelId, listener));
+        when(modelCacheHelper.getWorkerNodes(modelId)).thenReturn(new String[0]);
+        modelManager.notifyModelLoadListeners(modelId, null);
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(failure.capture());
+        assertEquals("model not loaded", failure.getValue().getMessage());
+    }
+
+    public void testModelLoadListeners_Timeout() {
+        ActionListener<String[]> listener = mock(ActionListener.class);
+        modelManager.addModelLoadListener(modelId, listener);
+        ArgumentCaptor<Runnable> timeoutTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(timeoutTask.capture(), any(), eq(PREDICT_THREAD_POOL));
+        timeoutTask.getValue().run();
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(failure.capture());
+        assertEquals("model not loaded", failure.getValue().getMessage());
+
+        // listeners already notified by timeout
+        modelManager.notifyModelLoadListeners(modelId, null);
+        verify(listener, never()).onResponse(any());
+    }
+
+    public void testPredict_ModelNotLoaded() {
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        modelManager.predict(modelId, textDocsInput(), listener);
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(failure.capture());
+        assertEquals("model not loaded", failure.getValue().getMessage());
+    }
+
+    public void testPredict_WithEmbeddingCache_ModelNotLoaded() {
+        clusterService.getClusterSettings().applySettings(Settings.builder().put(ML_COMMONS_EMBEDDING_CACHE_SIZE.getKey(), "1mb").build());
+        when(modelCacheHelper.getFunctionName(modelId)).thenThrow(new IllegalArgumentException("Model not found in cache"));
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        modelManager.predict(modelId, textDocsInput(), listener);
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(failure.capture());
+        assertEquals("model not loaded", failure.getValue().getMessage());
+    }
+
+    public void testPredict_WithoutBatch() {
+        MLInput mlInput = textDocsInput();
+        MLOutput output = ModelTensorOutput.builder().build();
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.predict(mlInput)).thenReturn(output);
+        MLModelCacheHelper.InFlightPredict inFlightPredict = spy(new MLModelCacheHelper.InFlightPredict(predictor, new MLModelCache()));
+        when(modelCacheHelper.startPredict(modelId)).thenReturn(inFlightPredict);
+        MLPredictRequestBatcher predictRequestBatcher = mock(MLPredictRequestBatcher.class);
+        when(modelCacheHelper.getPredictRequestBatcher(modelId)).thenReturn(predictRequestBatcher);
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        modelManager.predict(modelId, mlInput, listener);
+        verify(listener).onResponse(output);
+        verify(predictRequestBatcher, never()).add(any(), any(), anyInt(), any());
+        verify(modelCacheHelper).addModelInferenceDuration(eq(modelId), anyDouble());
+        verify(inFlightPredict).close();
+    }
+
+    public void testPredict_WithBatch() {
+        clusterService
+            .getClusterSettings()
+            .applySettings(
+                Settings
+                    .builder()
+                    .put(ML_COMMONS_PREDICT_BATCH_MAX_DELAY_IN_MILLIS.getKey(), 5)
+                    .put(ML_COMMONS_PREDICT_BATCH_MAX_SIZE.getKey(), 16)
+                    .build()
+            );
+        MLInput mlInput = textDocsInput();
+        MLPredictRequestBatcher predictRequestBatcher = mock(MLPredictRequestBatcher.class);
+        when(modelCacheHelper.getPredictRequestBatcher(modelId)).thenReturn(predictRequestBatcher);
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        modelManager.predict(modelId, mlInput, listener);
+        verify(predictRequestBatcher).add(mlInput, listener, 16, TimeValue.timeValueMillis(5));
+        verify(modelCacheHelper, never()).startPredict(any());
+    }
+
+    public void testPredict_WithEmbeddingCache() {
+        clusterService.getClusterSettings().applySettings(Settings.builder().put(ML_COMMONS_EMBEDDING_CACHE_SIZE.getKey(), "1mb").build());
+        when(modelCacheHelper.getFunctionName(modelId)).thenReturn(FunctionName.TEXT_EMBEDDING);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.predict(any(MLInput.class))).thenAnswer(invocation -> {
+            MLInput input = invocation.getArgument(0);
+            List<ModelTensors> outputs = new ArrayList<>();
+            for (String doc : ((TextDocsInputDataSet) input.getInputDataset()).getDocs()) {
+                ModelTensor tensor = ModelTensor.builder().name(doc).build();
+                outputs.add(ModelTensors.builder().mlModelTensors(Arrays.asList(tensor)).build());
+            }
+            return ModelTensorOutput.builder().mlModelOutputs(outputs).build();
+        });
+        when(modelCacheHelper.startPredict(modelId)).thenAnswer(invocation -> new MLModelCacheHelper.InFlightPredict(predictor, new MLModelCache()));
+
+        ActionListener<MLOutput> listener = mock(ActionListener.class);
+        modelManager.predict(modelId, textDocsInput(), listener);
+        verify(modelCacheHelper).addEmbeddingCacheStats(modelId, 0, 2);
+        verify(listener).onResponse(any());
+
+        TextDocsInputDataSet inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("doc2", "doc3")).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+        ActionListener<MLOutput> listener2 = mock(ActionListener.class);
+        modelManager.predict(modelId, mlInput, listener2);
+        verify(modelCacheHelper).addEmbeddingCacheStats(modelId, 1, 1);
+        ArgumentCaptor<MLInput> predictInput = ArgumentCaptor.forClass(MLInput.class);
+        verify(predictor, times(2)).predict(predictInput.capture());
+        assertEquals(Arrays.asList("doc3"), ((TextDocsInputDataSet) predictInput.getValue().getInputDataset()).getDocs());
+        ArgumentCaptor<MLOutput> output = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener2).onResponse(output.capture());
+        List<ModelTensors> results = ((ModelTensorOutput) output.getValue()).getMlModelOutputs();
+        assertEquals("doc2", results.get(0).getMlModelTensors().get(0).getName());
+        assertEquals("doc3", results.get(1).getMlModelTensors().get(0).getName());
+
+        modelManager.unloadModel(new String[] { modelId });
+        ActionListener<MLOutput> listener3 = mock(ActionListener.class);
+        modelManager.predict(modelId, mlInput, listener3);
+        verify(modelCacheHelper, times(2)).addEmbeddingCacheStats(modelId, 0, 2);
+    }
+
+    private MLInput textDocsInput() {
+        TextDocsInputDataSet inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("doc1", "doc2")).build();
+        return MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+    }
+
     private void testLoadModel_FailedToRetrieveModelChunks(boolean lastChunk) {
         when(modelCacheHelper.isModelLoaded(modelId)).thenReturn(false);
         when(modelCacheHelper.getLoadedModels()).thenReturn(new String[] {});
@@ -583,18 +899,22 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         verify(mlStats).createCounterStatIfAbsent(eq(functionName), eq(ActionName.LOAD), eq(MLActionLevelStat.ML_ACTION_FAILURE_COUNT));
     }
 
-    private void mock_client_index_ModelChunkFailure(Client client, String modelId) {
+    private void mock_client_bulk(Client client) {
         doAnswer(invocation -> {
-            ActionListener<IndexResponse> listener = invocation.getArgument(1);
-            IndexResponse indexResponse = mock(IndexResponse.class);
-            when(indexResponse.getId()).thenReturn(modelId);
-            listener.onResponse(indexResponse);
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            BulkResponse bulkResponse = mock(BulkResponse.class);
+            when(bulkResponse.hasFailures()).thenReturn(false);
+            listener.onResponse(bulkResponse);
             return null;
-        }).doAnswer(invocation -> {
-            ActionListener<IndexResponse> listener = invocation.getArgument(1);
-            listener.onFailure(new RuntimeException("index failure"));
+        }).when(client).bulk(any(), any());
+    }
+
+    private void mock_client_bulk_failure(Client client) {
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("bulk failure"));
             return null;
-        }).when(client).index(any(), any());
+        }).when(client).bulk(any(), any());
     }
 
     private void setUpMock_GetModel(MLModel model) {
@@ -651,22 +971,25 @@ public class MLModelManagerTests extends OpenSearchTestCase {
 
     private void setUpMock_DownloadModelFileFailure() {
         doAnswer(invocation -> {
-            ActionListener<Map<String, Object>> listener = invocation.getArgument(4);
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(5);
             listener.onFailure(new RuntimeException("downloadAndSplit failure"));
             return null;
-        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any());
+        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any());
     }
 
     private void setUpMock_DownloadModelFile(String[] chunks, Long modelContentSize) {
         doAnswer(invocation -> {
-            ActionListener<Map<String, Object>> listener = invocation.getArgument(4);
+            CheckedBiConsumer<Integer, byte[], Exception> chunkConsumer = invocation.getArgument(4);
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(5);
+            chunkConsumer.accept(0, Files.readAllBytes(Path.of(chunks[0])));
+            chunkConsumer.accept(1, Files.readAllBytes(Path.of(chunks[1])));
             Map<String, Object> result = new HashMap<>();
             result.put(MODEL_SIZE_IN_BYTES, modelContentSize);
-            result.put(CHUNK_FILES, Arrays.asList(chunks[0], chunks[1]));
+            result.put(TOTAL_CHUNKS, 2);
             result.put(MODEL_FILE_HASH, randomAlphaOfLength(10));
             listener.onResponse(result);
             return null;
-        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any());
+        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any());
     }
 
     private String[] createTempChunkFiles() throws IOException {
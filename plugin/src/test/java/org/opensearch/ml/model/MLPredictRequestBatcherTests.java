@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLPredictRequestBatcherTests extends OpenSearchTestCase {
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private ActionListener<MLOutput> listener1;
+    @Mock
+    private ActionListener<MLOutput> listener2;
+
+    private List<MLInput> batchInputs;
+    private MLPredictRequestBatcher batcher;
+    private TimeValue maxDelay;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        batchInputs = new ArrayList<>();
+        maxDelay = TimeValue.timeValueMillis(10);
+        batcher = new MLPredictRequestBatcher("test_model_id", threadPool, input -> {
+            batchInputs.add(input);
+            List<ModelTensors> outputs = new ArrayList<>();
+            for (String doc : ((TextDocsInputDataSet) input.getInputDataset()).getDocs()) {
+                ModelTensor tensor = ModelTensor.builder().name(doc).build();
+                outputs.add(ModelTensors.builder().mlModelTensors(Arrays.asList(tensor)).build());
+            }
+            return ModelTensorOutput.builder().mlModelOutputs(outputs).build();
+        });
+    }
+
+    public void testAdd_RunWhenBatchFull() {
+        batcher.add(textDocsInput(null, "doc1"), listener1, 3, maxDelay);
+        verify(threadPool).schedule(any(), eq(maxDelay), eq(PREDICT_THREAD_POOL));
+        verify(listener1, never()).onResponse(any());
+
+        batcher.add(textDocsInput(null, "doc2", "doc3"), listener2, 3, maxDelay);
+        verify(threadPool, times(1)).schedule(any(), any(), any());
+        assertEquals(1, batchInputs.size());
+        assertEquals(
+            Arrays.asList("doc1", "doc2", "doc3"),
+            ((TextDocsInputDataSet) batchInputs.get(0).getInputDataset()).getDocs()
+        );
+
+        assertEquals(Arrays.asList("doc1"), results(listener1));
+        assertEquals(Arrays.asList("doc2", "doc3"), results(listener2));
+    }
+
+    public void testAdd_RunWhenMaxDelayPassed() {
+        batcher.add(textDocsInput(null, "doc1"), listener1, 10, maxDelay);
+        batcher.add(textDocsInput(null, "doc2"), listener2, 10, maxDelay);
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(1)).schedule(flush.capture(), eq(maxDelay), eq(PREDICT_THREAD_POOL));
+        assertEquals(0, batchInputs.size());
+
+        flush.getValue().run();
+        assertEquals(1, batchInputs.size());
+        assertEquals(Arrays.asList("doc1"), results(listener1));
+        assertEquals(Arrays.asList("doc2"), results(listener2));
+    }
+
+    public void testAdd_NewFlushTimerAfterFullBatch() {
+        Scheduler.ScheduledCancellable firstFlush = mock(Scheduler.ScheduledCancellable.class);
+        doReturn(firstFlush).when(threadPool).schedule(any(), any(), any());
+        batcher.add(textDocsInput(null, "doc1"), listener1, 2, maxDelay);
+        batcher.add(textDocsInput(null, "doc2"), listener1, 2, maxDelay);
+        verify(firstFlush).cancel();
+        assertEquals(1, batchInputs.size());
+
+        batcher.add(textDocsInput(null, "doc3"), listener2, 2, maxDelay);
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(2)).schedule(flush.capture(), eq(maxDelay), eq(PREDICT_THREAD_POOL));
+        // flush timer of first batch doesn't flush second batch
+        flush.getAllValues().get(0).run();
+        assertEquals(1, batchInputs.size());
+        flush.getAllValues().get(1).run();
+        assertEquals(2, batchInputs.size());
+        assertEquals(Arrays.asList("doc3"), results(listener2));
+    }
+
+    public void testAdd_ResultFilter() {
+        ModelResultFilter resultFilter = ModelResultFilter.builder().targetResponse(Arrays.asList("other")).build();
+        batcher.add(textDocsInput(resultFilter, "doc1"), listener1, 2, maxDelay);
+        batcher.add(textDocsInput(null, "doc2"), listener2, 2, maxDelay);
+
+        assertNull(((TextDocsInputDataSet) batchInputs.get(0).getInputDataset()).getResultFilter());
+        ArgumentCaptor<MLOutput> output = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener1).onResponse(output.capture());
+        assertEquals(0, ((ModelTensorOutput) output.getValue()).getMlModelOutputs().get(0).getMlModelTensors().size());
+        assertEquals(Arrays.asList("doc2"), results(listener2));
+    }
+
+    public void testAdd_PredictFailure() {
+        batcher = new MLPredictRequestBatcher("test_model_id", threadPool, input -> { throw new IllegalArgumentException("wrong input"); });
+        batcher.add(textDocsInput(null, "doc1"), listener1, 2, maxDelay);
+        batcher.add(textDocsInput(null, "doc2"), listener2, 2, maxDelay);
+
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener1).onFailure(failure.capture());
+        assertEquals("wrong input", failure.getValue().getMessage());
+        verify(listener2).onFailure(any(IllegalArgumentException.class));
+    }
+
+    public void testClose() {
+        batcher.add(textDocsInput(null, "doc1"), listener1, 10, maxDelay);
+        batcher.close();
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener1).onFailure(failure.capture());
+        assertEquals("model not loaded", failure.getValue().getMessage());
+
+        batcher.add(textDocsInput(null, "doc2"), listener2, 10, maxDelay);
+        verify(listener2).onFailure(any());
+        assertEquals(0, batchInputs.size());
+    }
+
+    private MLInput textDocsInput(ModelResultFilter resultFilter, String... docs) {
+        TextDocsInputDataSet inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList(docs)).resultFilter(resultFilter).build();
+        return MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+    }
+
+    private List<String> results(ActionListener<MLOutput> listener) {
+        ArgumentCaptor<MLOutput> output = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener).onResponse(output.capture());
+        List<String> results = new ArrayList<>();
+        for (ModelTensors tensors : ((ModelTensorOutput) output.getValue()).getMlModelOutputs()) {
+            results.add(tensors.getMlModelTensors().get(0).getName());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.Mockito.mock;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICTOR_CACHE_SIZE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import org.junit.Before;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLPredictorCacheTests extends OpenSearchTestCase {
+    private ClusterService clusterService;
+    private MLPredictorCache predictorCache;
+    private String modelId;
+
+    @Before
+    public void setup() {
+        Settings settings = Settings.builder().put(ML_COMMONS_PREDICTOR_CACHE_SIZE.getKey(), "10kb").build();
+        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_PREDICTOR_CACHE_SIZE);
+        clusterService = new ClusterService(settings, clusterSettings, null);
+        predictorCache = new MLPredictorCache(clusterService, settings);
+        modelId = "test_model_id";
+    }
+
+    public void testIsCacheable() {
+        assertTrue(predictorCache.isCacheable(FunctionName.KMEANS));
+        assertTrue(predictorCache.isCacheable(FunctionName.LINEAR_REGRESSION));
+        assertFalse(predictorCache.isCacheable(FunctionName.BATCH_RCF));
+        assertFalse(predictorCache.isCacheable(FunctionName.TEXT_EMBEDDING));
+    }
+
+    public void testGetAndPut() {
+        Predictable predictor = mock(Predictable.class);
+        assertNull(predictorCache.get(modelId, 1, 1));
+        predictorCache.put(modelId, 1, 1, predictor, 100);
+        assertSame(predictor, predictorCache.get(modelId, 1, 1));
+    }
+
+    public void testGet_ModelChanged() {
+        predictorCache.put(modelId, 1, 1, mock(Predictable.class), 100);
+        assertNull(predictorCache.get(modelId, 2, 1));
+        // changed model removed from cache
+        assertNull(predictorCache.get(modelId, 1, 1));
+
+        predictorCache.put(modelId, 1, 1, mock(Predictable.class), 100);
+        assertNull(predictorCache.get(modelId, 1, 2));
+    }
+
+    public void testInvalidate() {
+        predictorCache.put(modelId, 1, 1, mock(Predictable.class), 100);
+        predictorCache.invalidate(modelId);
+        assertNull(predictorCache.get(modelId, 1, 1));
+    }
+
+    public void testEviction() {
+        predictorCache.put("model1", 1, 1, mock(Predictable.class), 6 * 1024);
+        predictorCache.put("model2", 1, 1, mock(Predictable.class), 6 * 1024);
+        assertNull(predictorCache.get("model1", 1, 1));
+        assertNotNull(predictorCache.get("model2", 1, 1));
+    }
+
+    public void testDisableCache() {
+        clusterService.getClusterSettings().applySettings(Settings.builder().put(ML_COMMONS_PREDICTOR_CACHE_SIZE.getKey(), "0b").build());
+        assertFalse(predictorCache.isCacheable(FunctionName.KMEANS));
+        predictorCache.put(modelId, 1, 1, mock(Predictable.class), 100);
+        assertNull(predictorCache.get(modelId, 1, 1));
+    }
+}
@@ -7,11 +7,13 @@ package org.opensearch.ml.task;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.spy;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -24,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -42,17 +45,24 @@ import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.load.MLLoadModelAction;
+import org.opensearch.ml.common.transport.load.MLLoadModelRequest;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.MLNodeLevelStat;
@@ -250,6 +260,32 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals("User: test_user does not have permissions to run predict by model: 111", argumentCaptor.getValue().getMessage());
     }
 
+    public void testExecuteTask_OnLocalNode_CachedPredictor() {
+        setupMocks(true, false, false, false);
+        when(mlModelManager.isPredictorCacheable(FunctionName.BATCH_RCF)).thenReturn(true);
+        Predictable predictor = mock(Predictable.class);
+        MLPredictionOutput output = MLPredictionOutput.builder().predictionResult(dataFrame).build();
+        when(predictor.predict(any())).thenReturn(output);
+        doAnswer(invocation -> {
+            ActionListener<Predictable> actionListener = invocation.getArgument(3);
+            actionListener.onResponse(predictor);
+            return null;
+        }).when(mlModelManager).getCachedPredictor(eq("111"), eq(111L), eq(111L), any());
+
+        taskRunner.dispatchTask(requestWithDataFrame, transportService, listener);
+        ArgumentCaptor<GetRequest> getRequest = ArgumentCaptor.forClass(GetRequest.class);
+        verify(client).get(getRequest.capture(), any());
+        assertArrayEquals(
+            new String[] { MLModel.MODEL_CONTENT_FIELD, MLModel.OLD_MODEL_CONTENT_FIELD },
+            getRequest.getValue().fetchSourceContext().excludes()
+        );
+        ArgumentCaptor<MLTaskResponse> response = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(response.capture());
+        assertSame(output, response.getValue().getOutput());
+        assertEquals(MLTaskState.COMPLETED.name(), output.getStatus());
+        verify(mlTaskManager).remove(anyString());
+    }
+
     public void testExecuteTask_OnRemoteNode() {
         setupMocks(false, false, false, false);
         taskRunner.dispatchTask(requestWithDataFrame, transportService, listener);
@@ -298,6 +334,79 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals("No model found, please check the modelId.", argumentCaptor.getValue().getMessage());
     }
 
+    public void testDispatchTask_TextEmbedding_LoadOnFirstUse() {
+        TextEmbeddingModelConfig modelConfig = TextEmbeddingModelConfig
+            .builder()
+            .modelType("bert")
+            .embeddingDimension(384)
+            .frameworkType(TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS)
+            .loadOnFirstUse(true)
+            .build();
+        mockTextEmbeddingModel(modelConfig);
+        when(mlModelManager.addModelLoadListener(eq("111"), any())).thenReturn(true);
+        when(nodeHelper.getEligibleNodeIds()).thenReturn(new String[] { "remoteNodeId" });
+        doAnswer(invocation -> {
+            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(remoteNode);
+            return null;
+        }).when(mlTaskDispatcher).dispatchPredictTask(any(), any());
+
+        taskRunner.dispatchTask(textEmbeddingRequest(), transportService, listener);
+        ArgumentCaptor<MLLoadModelRequest> loadModelRequest = ArgumentCaptor.forClass(MLLoadModelRequest.class);
+        verify(client).execute(eq(MLLoadModelAction.INSTANCE), loadModelRequest.capture(), any());
+        assertEquals("111", loadModelRequest.getValue().getModelId());
+        assertArrayEquals(new String[] { "remoteNodeId" }, loadModelRequest.getValue().getModelNodeIds());
+        verify(listener, never()).onFailure(any());
+    }
+
+    public void testDispatchTask_TextEmbedding_NotLoadOnFirstUse() {
+        mockTextEmbeddingModel(new TextEmbeddingModelConfig("bert", 384, TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS, null));
+        when(mlModelManager.addModelLoadListener(eq("111"), any())).thenReturn(true);
+
+        taskRunner.dispatchTask(textEmbeddingRequest(), transportService, listener);
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(mlModelManager).notifyModelLoadListeners(eq("111"), exception.capture());
+        assertEquals("model not loaded", exception.getValue().getMessage());
+        verify(client, never()).execute(eq(MLLoadModelAction.INSTANCE), any(), any());
+    }
+
+    public void testDispatchTask_TextEmbedding_WaitForModelLoading() {
+        when(mlModelManager.addModelLoadListener(eq("111"), any())).thenReturn(false);
+
+        taskRunner.dispatchTask(textEmbeddingRequest(), transportService, listener);
+        verify(mlModelManager, never()).getModel(any(), any(), any(), any());
+        ArgumentCaptor<ActionListener<String[]>> modelLoadListener = ArgumentCaptor.forClass(ActionListener.class);
+        verify(mlModelManager).addModelLoadListener(eq("111"), modelLoadListener.capture());
+
+        String[] workerNodes = new String[] { "remoteNodeId" };
+        modelLoadListener.getValue().onResponse(workerNodes);
+        verify(mlTaskDispatcher).dispatchPredictTask(eq(workerNodes), any());
+    }
+
+    private MLPredictionTaskRequest textEmbeddingRequest() {
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList("test doc")).build())
+            .build();
+        return MLPredictionTaskRequest.builder().modelId("111").mlInput(mlInput).build();
+    }
+
+    private void mockTextEmbeddingModel(TextEmbeddingModelConfig modelConfig) {
+        MLModel mlModel = MLModel
+            .builder()
+            .name("test")
+            .version("1.0.0")
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelConfig(modelConfig)
+            .build();
+        doAnswer(invocation -> {
+            ActionListener<MLModel> actionListener = invocation.getArgument(3);
+            actionListener.onResponse(mlModel);
+            return null;
+        }).when(mlModelManager).getModel(eq("111"), any(), any(), any());
+    }
+
     private void setupMocks(boolean runOnLocalNode, boolean failedToParseQueryInput, boolean failedToGetModel, boolean nullGetResponse) {
         doAnswer(invocation -> {
             ActionListener<DiscoveryNode> actionListener = invocation.getArgument(0);